@@ -0,0 +1,47 @@
+package com.edis.backendproject;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.edis.backendproject.model.Project;
+import com.edis.backendproject.model.Student;
+
+/**
+ * Deterministic fixtures shared by the JMH benchmarks.
+ */
+public final class BenchmarkData {
+
+    private static final int PROJECTS = 20;
+
+    private BenchmarkData() {
+    }
+
+    public static List<Student> students(int rows) {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 9, 30);
+        List<Project> projects = new ArrayList<>(PROJECTS);
+        for (long id = 1; id <= PROJECTS; id++) {
+            Project project = new Project();
+            project.setId(id);
+            project.setName("Project " + id);
+            projects.add(project);
+        }
+        List<Student> students = new ArrayList<>(rows);
+        for (long id = 1; id <= rows; id++) {
+            students.add(Student.builder()
+                    .id(id)
+                    .codeNumber(String.format("%08d", id))
+                    .firstName("First" + id)
+                    .lastName("Last" + (id % 997))
+                    .dateOfBirth(LocalDate.of(2000, 1, 1).plusDays(id % 3650))
+                    .title("Engineer")
+                    .description("Description for student " + id)
+                    .createdAt(createdAt)
+                    .updatedAt(createdAt.plusMinutes(id))
+                    .project(projects.get((int) (id % PROJECTS)))
+                    .build());
+        }
+        return students;
+    }
+}
@@ -0,0 +1,63 @@
+package com.edis.backendproject.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import com.edis.backendproject.BenchmarkData;
+import com.edis.backendproject.model.Student;
+
+/**
+ * Round trip through the typed {@code GenericJackson2JsonRedisSerializer} that {@link RedisConfig} uses for
+ * cache values, for a single student and for student lists.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RedisSerializerBenchmark {
+
+    @Param({"1", "100", "1000"})
+    public int rows;
+
+    private final RedisSerializer<Object> serializer = RedisConfig.jsonSerializer();
+    private Object value;
+    private byte[] serialized;
+
+    @Setup
+    public void setUp() {
+        List<Student> students = BenchmarkData.students(rows);
+        value = rows == 1 ? students.get(0) : new ArrayList<>(students);
+        serialized = serializer.serialize(value);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize(value);
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return serializer.deserialize(serialized);
+    }
+
+    @Benchmark
+    public Object roundTrip() {
+        return serializer.deserialize(serializer.serialize(value));
+    }
+}
@@ -0,0 +1,110 @@
+package com.edis.backendproject.loadtest;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Thin JSON client for the backend API. One instance is shared by all virtual users.
+ */
+final class ApiClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final String baseUrl;
+    private volatile String token;
+
+    ApiClient(String baseUrl) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+    }
+
+    String getBaseUrl() {
+        return baseUrl;
+    }
+
+    /**
+     * Logs in and keeps the token for the following requests.
+     */
+    void authenticate(String username, String password) {
+        Response response = login(username, password);
+        if (!response.isSuccess()) {
+            throw new IllegalStateException("Login as " + username + " failed with HTTP " + response.status());
+        }
+        token = response.json().path("data").path("token").asText();
+    }
+
+    Response login(String username, String password) {
+        return send("POST", "/api/auth/login", Map.of("username", username, "password", password), false);
+    }
+
+    Response get(String path) {
+        return send("GET", path, null, true);
+    }
+
+    Response post(String path, Object body) {
+        return send("POST", path, body, true);
+    }
+
+    Response put(String path, Object body) {
+        return send("PUT", path, body, true);
+    }
+
+    Response delete(String path) {
+        return send("DELETE", path, null, true);
+    }
+
+    private Response send(String method, String path, Object body, boolean authenticated) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", "application/json");
+        if (authenticated && token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        try {
+            if (body == null) {
+                request.method(method, HttpRequest.BodyPublishers.noBody());
+            } else {
+                request.header("Content-Type", "application/json")
+                        .method(method, HttpRequest.BodyPublishers.ofByteArray(mapper.writeValueAsBytes(body)));
+            }
+            HttpResponse<byte[]> response = http.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+            return new Response(response.statusCode(), response.body(), mapper);
+        } catch (IOException e) {
+            return new Response(-1, new byte[0], mapper);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Response(-1, new byte[0], mapper);
+        }
+    }
+
+    /**
+     * Status and raw body; status -1 means the request never got a response.
+     */
+    record Response(int status, byte[] body, ObjectMapper mapper) {
+
+        boolean isSuccess() {
+            return status >= 200 && status < 300;
+        }
+
+        JsonNode json() {
+            try {
+                return mapper.readTree(body);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.edis.backendproject.loadtest;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Per-operation latency histograms in microseconds. Samples are only kept between {@link #start()} and
+ * {@link #stop()}, so warm-up traffic exercises the server without skewing the results.
+ */
+final class LatencyRecorder {
+
+    static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final ConcurrentMap<String, Operation> operations = new ConcurrentHashMap<>();
+    private volatile boolean recording;
+    private volatile long startedNanos;
+    private volatile long stoppedNanos;
+
+    void start() {
+        startedNanos = System.nanoTime();
+        recording = true;
+    }
+
+    void stop() {
+        recording = false;
+        stoppedNanos = System.nanoTime();
+    }
+
+    /**
+     * Records the time since {@code startNanos}, which is the intended send time when requests are paced.
+     */
+    void record(String operation, long startNanos, boolean success) {
+        if (!recording) {
+            return;
+        }
+        long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos);
+        Operation target = operations.computeIfAbsent(operation, name -> new Operation());
+        target.latencies.recordValue(Math.min(Math.max(micros, 0), HIGHEST_TRACKABLE_MICROS));
+        if (!success) {
+            target.errors.increment();
+        }
+    }
+
+    double measuredSeconds() {
+        return (stoppedNanos - startedNanos) / 1_000_000_000.0;
+    }
+
+    Map<String, Histogram> histograms() {
+        Map<String, Histogram> histograms = new TreeMap<>();
+        operations.forEach((name, operation) -> histograms.put(name, operation.latencies.copy()));
+        return histograms;
+    }
+
+    long errors(String operation) {
+        Operation target = operations.get(operation);
+        return target == null ? 0 : target.errors.sum();
+    }
+
+    private static final class Operation {
+        private final ConcurrentHistogram latencies = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        private final LongAdder errors = new LongAdder();
+    }
+}
@@ -0,0 +1,145 @@
+package com.edis.backendproject.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+import org.HdrHistogram.Histogram;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * HTTP load test entry point, run by {@code mvn -Ploadtest -DskipTests verify}.
+ * Seeds data, warms up, measures a weighted scenario mix with a fixed number of virtual users and
+ * exits non-zero when a threshold from {@code loadtest-thresholds.properties} is breached.
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.load();
+        Files.createDirectories(settings.output());
+        int exitCode;
+        if (settings.baseUrl().isEmpty()) {
+            System.out.println("Starting embedded Postgres, Redis and " + settings.appJar().getFileName());
+            try (LocalEnvironment environment = LocalEnvironment.start(settings)) {
+                exitCode = run(settings, environment.getBaseUrl());
+            }
+        } else {
+            exitCode = run(settings, settings.baseUrl());
+        }
+        System.exit(exitCode);
+    }
+
+    private static int run(LoadTestSettings settings, String baseUrl) throws Exception {
+        ApiClient client = new ApiClient(baseUrl);
+        client.authenticate(settings.adminUsername(), settings.adminPassword());
+
+        LatencyRecorder recorder = new LatencyRecorder();
+        Workload workload = new Workload(client, recorder, settings.adminUsername(), settings.adminPassword());
+        System.out.printf("Seeding %d projects x %d students on %s%n",
+                settings.seedProjects(), settings.seedStudentsPerProject(), client.getBaseUrl());
+        workload.seed(settings.seedProjects(), settings.seedStudentsPerProject(), settings.users());
+
+        String startedAt = Instant.now().toString();
+        drive(settings, workload, recorder);
+
+        LoadTestResult result = LoadTestResult.from(startedAt, settings.users(), settings.rate(), recorder);
+        write(settings.output(), result, recorder.histograms());
+        print(result);
+
+        if (!settings.gatesEnabled()) {
+            return 0;
+        }
+        List<String> violations = new Thresholds(LoadTestSettings.readClasspath(settings.thresholds())).check(result);
+        violations.forEach(violation -> System.out.println("THRESHOLD BREACHED " + violation));
+        return violations.isEmpty() ? 0 : 1;
+    }
+
+    private static void drive(LoadTestSettings settings, Workload workload, LatencyRecorder recorder)
+            throws InterruptedException {
+        Scenario[] picks = weightedPicks(settings.mix());
+        int users = settings.users();
+        // With a target rate each user sends on a fixed schedule and latency counts from the scheduled time
+        long intervalNanos = settings.rate() > 0 ? (long) (users * 1_000_000_000L / settings.rate()) : 0;
+        long warmupNanos = settings.warmup().toNanos();
+        long endNanos = System.nanoTime() + warmupNanos + settings.duration().toNanos();
+
+        ExecutorService executor = Executors.newFixedThreadPool(users);
+        for (int user = 0; user < users; user++) {
+            long seed = user;
+            executor.execute(() -> {
+                SplittableRandom pick = new SplittableRandom(seed);
+                Random random = new Random(seed);
+                long next = System.nanoTime() + (intervalNanos > 0 ? ThreadLocalRandom.current().nextLong(intervalNanos) : 0);
+                while (System.nanoTime() < endNanos && !Thread.currentThread().isInterrupted()) {
+                    long start;
+                    if (intervalNanos > 0) {
+                        LockSupport.parkNanos(next - System.nanoTime());
+                        start = next;
+                        next += intervalNanos;
+                    } else {
+                        start = System.nanoTime();
+                    }
+                    workload.execute(picks[pick.nextInt(picks.length)], start, random);
+                }
+            });
+        }
+
+        System.out.printf("Warming up for %s with %d users%n", settings.warmup(), users);
+        TimeUnit.NANOSECONDS.sleep(warmupNanos);
+        recorder.start();
+        System.out.printf("Measuring for %s%n", settings.duration());
+        TimeUnit.NANOSECONDS.sleep(Math.max(endNanos - System.nanoTime(), 0));
+        recorder.stop();
+        executor.shutdown();
+        if (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+            executor.shutdownNow();
+        }
+    }
+
+    // One slot per unit of weight, so a uniform index follows the configured mix
+    private static Scenario[] weightedPicks(Map<Scenario, Integer> mix) {
+        return mix.entrySet().stream()
+                .flatMap(entry -> Stream.generate(entry::getKey).limit(entry.getValue()))
+                .toArray(Scenario[]::new);
+    }
+
+    private static void write(Path output, LoadTestResult result, Map<String, Histogram> histograms) throws IOException {
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(output.resolve("result.json").toFile(), result);
+        for (Map.Entry<String, Histogram> entry : histograms.entrySet()) {
+            try (PrintStream out = new PrintStream(output.resolve(entry.getKey() + ".hgrm").toFile())) {
+                entry.getValue().outputPercentileDistribution(out, 1000.0);
+            }
+        }
+    }
+
+    private static void print(LoadTestResult result) {
+        System.out.printf("%n%-22s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+                "operation", "count", "errors", "ops/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        result.operations().forEach(LoadTest::print);
+        print(result.total());
+    }
+
+    private static void print(LoadTestResult.OperationResult operation) {
+        System.out.printf("%-22s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n", operation.name(), operation.count(),
+                operation.errors(), operation.throughput(), operation.p50(), operation.p90(), operation.p99(),
+                operation.p999(), operation.max());
+    }
+}
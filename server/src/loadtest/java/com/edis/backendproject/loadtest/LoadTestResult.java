@@ -0,0 +1,57 @@
+package com.edis.backendproject.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Summary of a run as written to {@code result.json}; latencies are in milliseconds, throughput in operations per second.
+ */
+record LoadTestResult(String startedAt, double seconds, int users, double targetRate,
+                      List<OperationResult> operations, OperationResult total) {
+
+    static final String TOTAL = "total";
+
+    static LoadTestResult from(String startedAt, int users, double targetRate, LatencyRecorder recorder) {
+        double seconds = recorder.measuredSeconds();
+        Histogram all = new Histogram(LatencyRecorder.HIGHEST_TRACKABLE_MICROS, 3);
+        long allErrors = 0;
+        List<OperationResult> operations = new ArrayList<>();
+        for (Map.Entry<String, Histogram> entry : recorder.histograms().entrySet()) {
+            long errors = recorder.errors(entry.getKey());
+            operations.add(OperationResult.of(entry.getKey(), entry.getValue(), errors, seconds));
+            all.add(entry.getValue());
+            allErrors += errors;
+        }
+        return new LoadTestResult(startedAt, seconds, users, targetRate, operations,
+                OperationResult.of(TOTAL, all, allErrors, seconds));
+    }
+
+    OperationResult operation(String name) {
+        if (TOTAL.equals(name)) {
+            return total;
+        }
+        return operations.stream().filter(operation -> operation.name().equals(name)).findFirst().orElse(null);
+    }
+
+    record OperationResult(String name, long count, long errors, double errorRate, double throughput,
+                           double p50, double p90, double p99, double p999, double max) {
+
+        static OperationResult of(String name, Histogram histogram, long errors, double seconds) {
+            long count = histogram.getTotalCount();
+            return new OperationResult(name, count, errors, count == 0 ? 0 : (double) errors / count,
+                    seconds > 0 ? count / seconds : 0,
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(90)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue()));
+        }
+
+        private static double millis(long micros) {
+            return micros / 1000.0;
+        }
+    }
+}
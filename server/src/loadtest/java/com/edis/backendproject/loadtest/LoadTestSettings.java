@@ -0,0 +1,131 @@
+package com.edis.backendproject.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Load test configuration: defaults from {@code loadtest.properties}, overridden by {@code -Dloadtest.*}.
+ */
+final class LoadTestSettings {
+
+    private final Properties properties;
+
+    private LoadTestSettings(Properties properties) {
+        this.properties = properties;
+    }
+
+    static LoadTestSettings load() {
+        Properties properties = readClasspath("/loadtest.properties");
+        System.getProperties().stringPropertyNames().stream()
+                .filter(name -> name.startsWith("loadtest."))
+                .forEach(name -> properties.setProperty(name, System.getProperty(name)));
+        return new LoadTestSettings(properties);
+    }
+
+    static Properties readClasspath(String resource) {
+        Properties properties = new Properties();
+        try (InputStream in = LoadTestSettings.class.getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalArgumentException("Missing classpath resource " + resource);
+            }
+            properties.load(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return properties;
+    }
+
+    int users() {
+        return Integer.parseInt(required("loadtest.users"));
+    }
+
+    Duration warmup() {
+        return Duration.parse(required("loadtest.warmup"));
+    }
+
+    Duration duration() {
+        return Duration.parse(required("loadtest.duration"));
+    }
+
+    /**
+     * Target requests per second across all users, or 0 to let every user send back to back.
+     */
+    double rate() {
+        return Double.parseDouble(required("loadtest.rate"));
+    }
+
+    Map<Scenario, Integer> mix() {
+        Map<Scenario, Integer> mix = new EnumMap<>(Scenario.class);
+        for (String entry : required("loadtest.mix").split(",")) {
+            String[] parts = entry.split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("loadtest.mix entries must be scenario:weight, got " + entry);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                mix.put(Scenario.fromKey(parts[0]), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.mix must give at least one scenario a positive weight");
+        }
+        return mix;
+    }
+
+    int seedProjects() {
+        return Integer.parseInt(required("loadtest.seed.projects"));
+    }
+
+    int seedStudentsPerProject() {
+        return Integer.parseInt(required("loadtest.seed.students-per-project"));
+    }
+
+    String adminUsername() {
+        return required("loadtest.admin.username");
+    }
+
+    String adminPassword() {
+        return required("loadtest.admin.password");
+    }
+
+    /**
+     * Base URL of an already running backend; when blank the packaged jar is started on embedded stores.
+     */
+    String baseUrl() {
+        return properties.getProperty("loadtest.base-url", "").trim();
+    }
+
+    Path appJar() {
+        return Path.of(required("loadtest.app-jar"));
+    }
+
+    String appJvmArgs() {
+        return properties.getProperty("loadtest.app-jvm-args", "");
+    }
+
+    Path output() {
+        return Path.of(properties.getProperty("loadtest.output", "target/loadtest"));
+    }
+
+    String thresholds() {
+        return required("loadtest.thresholds");
+    }
+
+    boolean gatesEnabled() {
+        return Boolean.parseBoolean(properties.getProperty("loadtest.gates.enabled", "true"));
+    }
+
+    private String required(String name) {
+        String value = properties.getProperty(name);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Missing load test setting " + name);
+        }
+        return value.trim();
+    }
+}
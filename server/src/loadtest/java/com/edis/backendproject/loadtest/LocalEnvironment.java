@@ -0,0 +1,128 @@
+package com.edis.backendproject.loadtest;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import redis.embedded.RedisServer;
+
+/**
+ * Embedded Postgres and Redis plus the packaged application in its own JVM, so the load generator
+ * does not share heap or GC pauses with the server it measures.
+ */
+final class LocalEnvironment implements AutoCloseable {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+
+    private final EmbeddedPostgres postgres;
+    private final RedisServer redis;
+    private final Process application;
+    private final String baseUrl;
+
+    private LocalEnvironment(EmbeddedPostgres postgres, RedisServer redis, Process application, String baseUrl) {
+        this.postgres = postgres;
+        this.redis = redis;
+        this.application = application;
+        this.baseUrl = baseUrl;
+    }
+
+    static LocalEnvironment start(LoadTestSettings settings) throws IOException, InterruptedException {
+        Path jar = settings.appJar();
+        if (!Files.isRegularFile(jar)) {
+            throw new IllegalStateException("Application jar not found at " + jar + "; run the package phase first");
+        }
+        Files.createDirectories(settings.output());
+
+        EmbeddedPostgres postgres = EmbeddedPostgres.builder().start();
+        int redisPort = freePort();
+        RedisServer redis = new RedisServer(redisPort);
+        redis.start();
+
+        int appPort = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        Arrays.stream(settings.appJvmArgs().trim().split("\\s+")).filter(arg -> !arg.isEmpty()).forEach(command::add);
+        command.addAll(List.of(
+                "-jar", jar.toString(),
+                "--server.port=" + appPort,
+                "--management.server.port=" + appPort,
+                "--spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"),
+                "--spring.datasource.username=postgres",
+                "--spring.datasource.password=postgres",
+                "--spring.data.redis.host=localhost",
+                "--spring.data.redis.port=" + redisPort,
+                "--jwt.secret=load-test-secret-load-test-secret-load-test-secret",
+                "--app.admin.username=" + settings.adminUsername(),
+                "--app.admin.password=" + settings.adminPassword(),
+                // Every virtual user shares the admin principal, which the per-user limits would throttle
+                "--app.rate-limit.enabled=false",
+                "--logging.level.org.springframework.security=WARN",
+                "--logging.level.com.edis.backendproject=INFO"));
+        Process application = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(settings.output().resolve("app.log").toFile())
+                .start();
+
+        LocalEnvironment environment = new LocalEnvironment(postgres, redis, application, "http://localhost:" + appPort);
+        try {
+            environment.awaitReady();
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            environment.close();
+            throw e;
+        }
+        return environment;
+    }
+
+    String getBaseUrl() {
+        return baseUrl;
+    }
+
+    private void awaitReady() throws IOException, InterruptedException {
+        HttpClient http = HttpClient.newHttpClient();
+        HttpRequest readiness = HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/health/readiness"))
+                .timeout(Duration.ofSeconds(2))
+                .build();
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!application.isAlive()) {
+                throw new IllegalStateException("Application exited with " + application.exitValue() + "; see app.log");
+            }
+            try {
+                if (http.send(readiness, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // Not listening yet
+            }
+            Thread.sleep(500);
+        }
+        throw new IllegalStateException("Application not ready after " + STARTUP_TIMEOUT + "; see app.log");
+    }
+
+    @Override
+    public void close() throws IOException, InterruptedException {
+        application.destroy();
+        if (!application.waitFor(30, TimeUnit.SECONDS)) {
+            application.destroyForcibly().waitFor();
+        }
+        redis.stop();
+        postgres.close();
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.edis.backendproject.loadtest;
+
+/**
+ * User actions the load test mixes, keyed by the name used in {@code loadtest.mix}.
+ */
+enum Scenario {
+
+    LOGIN("login"),
+    PROJECTS("projects"),
+    STUDENTS("students"),
+    SEARCH("search"),
+    WRITE("write");
+
+    private final String key;
+
+    Scenario(String key) {
+        this.key = key;
+    }
+
+    String getKey() {
+        return key;
+    }
+
+    static Scenario fromKey(String key) {
+        for (Scenario scenario : values()) {
+            if (scenario.key.equalsIgnoreCase(key.trim())) {
+                return scenario;
+            }
+        }
+        throw new IllegalArgumentException("Unknown load test scenario: " + key);
+    }
+}
@@ -0,0 +1,70 @@
+package com.edis.backendproject.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.TreeSet;
+
+/**
+ * Regression gates read from {@code loadtest-thresholds.properties}. Keys are {@code <operation>.<limit>} where
+ * the operation is a name from the report (or {@code total}) and the limit one of {@code p99-ms},
+ * {@code min-throughput} or {@code max-error-rate}.
+ */
+final class Thresholds {
+
+    private static final String P99 = ".p99-ms";
+    private static final String MIN_THROUGHPUT = ".min-throughput";
+    private static final String MAX_ERROR_RATE = ".max-error-rate";
+
+    private final Properties limits;
+
+    Thresholds(Properties limits) {
+        this.limits = limits;
+    }
+
+    /**
+     * Returns one message per breached limit; empty when the run passes.
+     */
+    List<String> check(LoadTestResult result) {
+        List<String> violations = new ArrayList<>();
+        for (String key : new TreeSet<>(limits.stringPropertyNames())) {
+            double limit = Double.parseDouble(limits.getProperty(key).trim());
+            if (key.endsWith(P99)) {
+                check(result, key, P99, limit, violations);
+            } else if (key.endsWith(MIN_THROUGHPUT)) {
+                check(result, key, MIN_THROUGHPUT, limit, violations);
+            } else if (key.endsWith(MAX_ERROR_RATE)) {
+                check(result, key, MAX_ERROR_RATE, limit, violations);
+            } else {
+                throw new IllegalArgumentException("Unknown threshold " + key);
+            }
+        }
+        return violations;
+    }
+
+    private static void check(LoadTestResult result, String key, String suffix, double limit, List<String> violations) {
+        String name = key.substring(0, key.length() - suffix.length());
+        LoadTestResult.OperationResult operation = result.operation(name);
+        if (operation == null || operation.count() == 0) {
+            violations.add(name + ": no samples recorded");
+            return;
+        }
+        switch (suffix) {
+            case P99 -> {
+                if (operation.p99() > limit) {
+                    violations.add(String.format("%s: p99 %.2f ms exceeds %.2f ms", name, operation.p99(), limit));
+                }
+            }
+            case MIN_THROUGHPUT -> {
+                if (operation.throughput() < limit) {
+                    violations.add(String.format("%s: throughput %.1f/s below %.1f/s", name, operation.throughput(), limit));
+                }
+            }
+            default -> {
+                if (operation.errorRate() > limit) {
+                    violations.add(String.format("%s: error rate %.4f exceeds %.4f", name, operation.errorRate(), limit));
+                }
+            }
+        }
+    }
+}
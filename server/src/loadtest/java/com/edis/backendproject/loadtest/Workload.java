@@ -0,0 +1,126 @@
+package com.edis.backendproject.loadtest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Seeds projects and students through the API, then runs scenarios against them, recording each HTTP call.
+ */
+final class Workload {
+
+    private static final List<String> FIRST_NAMES = List.of(
+            "Maria", "Nikos", "Eleni", "Giorgos", "Katerina", "Dimitris", "Sofia", "Kostas", "Anna", "Yannis");
+    private static final List<String> LAST_NAMES = List.of(
+            "Papadopoulos", "Nikolaou", "Georgiou", "Karagiannis", "Oikonomou", "Dimitriou", "Vasileiou",
+            "Ioannou", "Makris", "Christodoulou", "Pappas", "Alexiou", "Antoniou", "Konstantinou", "Athanasiou");
+    private static final List<String> TITLES = List.of("Software Engineer", "Data Analyst", "Designer", "Tester");
+
+    private final ApiClient client;
+    private final LatencyRecorder recorder;
+    private final String adminUsername;
+    private final String adminPassword;
+    // Millisecond clock times 1000 keeps code numbers unique across runs against the same database
+    private final AtomicLong codeNumbers = new AtomicLong(System.currentTimeMillis() * 1000);
+    private final List<Long> projectIds = new ArrayList<>();
+
+    Workload(ApiClient client, LatencyRecorder recorder, String adminUsername, String adminPassword) {
+        this.client = client;
+        this.recorder = recorder;
+        this.adminUsername = adminUsername;
+        this.adminPassword = adminPassword;
+    }
+
+    void seed(int projects, int studentsPerProject, int parallelism) throws Exception {
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+        for (int i = 1; i <= projects; i++) {
+            Map<String, Object> project = Map.of("name", "Load test " + runId + " " + i,
+                    "description", "Seeded by the load test");
+            ApiClient.Response response = client.post("/api/projects", project);
+            projectIds.add(require(response, "create project").json().path("data").path("id").asLong());
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            List<Future<ApiClient.Response>> created = new ArrayList<>();
+            Random random = new Random(42);
+            for (long projectId : projectIds) {
+                for (int i = 0; i < studentsPerProject; i++) {
+                    Map<String, Object> student = student(projectId, random);
+                    created.add(executor.submit(() -> client.post("/api/students", student)));
+                }
+            }
+            for (Future<ApiClient.Response> response : created) {
+                require(response.get(), "create student");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    void execute(Scenario scenario, long startNanos, Random random) {
+        switch (scenario) {
+            case LOGIN -> record("login", startNanos, client.login(adminUsername, adminPassword));
+            case PROJECTS -> record("projects.list", startNanos, client.get("/api/projects"));
+            case STUDENTS -> record("students.by-project", startNanos,
+                    client.get("/api/students/project/" + randomProject(random)));
+            case SEARCH -> {
+                String prefix = LAST_NAMES.get(random.nextInt(LAST_NAMES.size())).substring(0, 4);
+                record("students.search", startNanos,
+                        client.get("/api/students/search?query=" + prefix + "&mode=prefix&limit=20"));
+            }
+            case WRITE -> write(startNanos, random);
+        }
+    }
+
+    private void write(long startNanos, Random random) {
+        long projectId = randomProject(random);
+        Map<String, Object> student = student(projectId, random);
+        ApiClient.Response created = record("students.create", startNanos, client.post("/api/students", student));
+        if (!created.isSuccess()) {
+            return;
+        }
+        long id = created.json().path("data").path("id").asLong();
+
+        Map<String, Object> changed = new LinkedHashMap<>(student);
+        changed.put("title", TITLES.get(random.nextInt(TITLES.size())));
+        record("students.update", System.nanoTime(), client.put("/api/students/" + id, changed));
+        record("students.delete", System.nanoTime(), client.delete("/api/students/" + id));
+    }
+
+    private ApiClient.Response record(String operation, long startNanos, ApiClient.Response response) {
+        recorder.record(operation, startNanos, response.isSuccess());
+        return response;
+    }
+
+    private long randomProject(Random random) {
+        return projectIds.get(random.nextInt(projectIds.size()));
+    }
+
+    private Map<String, Object> student(long projectId, Random random) {
+        Map<String, Object> student = new LinkedHashMap<>();
+        student.put("codeNumber", Long.toString(codeNumbers.incrementAndGet()));
+        student.put("firstName", FIRST_NAMES.get(random.nextInt(FIRST_NAMES.size())));
+        student.put("lastName", LAST_NAMES.get(random.nextInt(LAST_NAMES.size())));
+        student.put("dateOfBirth", String.format("%d-%02d-%02d", 1990 + random.nextInt(15), 1 + random.nextInt(12),
+                1 + random.nextInt(28)));
+        student.put("title", TITLES.get(random.nextInt(TITLES.size())));
+        student.put("description", "Load test student");
+        student.put("projectId", projectId);
+        return Collections.unmodifiableMap(student);
+    }
+
+    private static ApiClient.Response require(ApiClient.Response response, String action) {
+        if (!response.isSuccess()) {
+            throw new IllegalStateException("Seeding failed to " + action + ": HTTP " + response.status());
+        }
+        return response;
+    }
+}
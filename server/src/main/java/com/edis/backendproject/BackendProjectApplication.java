@@ -3,12 +3,18 @@ package com.edis.backendproject;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
+import com.edis.backendproject.config.NearCacheProperties;
 import com.edis.backendproject.security.JwtProperties;
+import com.edis.backendproject.security.PasswordHashingProperties;
+import com.edis.backendproject.security.RateLimitProperties;
 
 
 @SpringBootApplication
-@EnableConfigurationProperties({JwtProperties.class})
+@EnableScheduling
+@EnableConfigurationProperties({JwtProperties.class, NearCacheProperties.class, PasswordHashingProperties.class,
+        RateLimitProperties.class})
 public class BackendProjectApplication {
 
     public static void main(String[] args) {
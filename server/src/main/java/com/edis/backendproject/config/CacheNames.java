@@ -10,5 +10,7 @@ public final class CacheNames {
 
     public static final String PROJECTS = "projects";
     public static final String STUDENTS = "students";
+    public static final String STUDENT_PAGES = "student-pages";
     public static final String METADATA = "metadata";
+    public static final String USER_VERSIONS = "user-versions";
 }
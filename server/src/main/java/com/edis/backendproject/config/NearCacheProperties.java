@@ -0,0 +1,39 @@
+package com.edis.backendproject.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Tuning for the in-process L1 cache that sits in front of Redis.
+ * Entries under {@code caches} override the per-cache defaults declared in RedisConfig.
+ */
+@ConfigurationProperties(prefix = "app.cache.near")
+@Getter
+@Setter
+public class NearCacheProperties {
+
+    private boolean enabled = true;
+
+    private String invalidationChannel = "cache:invalidate";
+
+    private Map<String, Spec> caches = new HashMap<>();
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Spec {
+
+        private long maxSize;
+
+        private Duration ttl;
+    }
+}
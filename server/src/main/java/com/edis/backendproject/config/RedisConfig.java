@@ -5,17 +5,23 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.cache.BatchStrategies;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.RedisSerializer;
@@ -27,31 +33,58 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
+import io.lettuce.core.resource.ClientResources;
+
 /**
  * Centralizes Redis connectivity and serialization so the app can reuse RedisTemplate
- * wherever caching or ephemeral storage is needed.
+ * wherever caching or ephemeral storage is needed. Spring Cache reads go through an
+ * in-process L1 first and only reach Redis on a local miss.
  */
 @Configuration
 @EnableCaching
 public class RedisConfig {
 
     @Bean
+    @Primary
     public @NonNull LettuceConnectionFactory redisConnectionFactory(
             @Value("${spring.data.redis.host}") @NonNull String host,
             @Value("${spring.data.redis.port}") int port,
             @Value("${spring.data.redis.password:}") String password,
             @Value("${spring.data.redis.ssl.enabled:false}") boolean sslEnabled,
-            @Value("${spring.data.redis.timeout:PT5S}") @NonNull Duration commandTimeout) {
+            @Value("${spring.data.redis.timeout:PT5S}") @NonNull Duration commandTimeout,
+            @NonNull ClientResources clientResources) {
+        return connectionFactory(host, port, password, sslEnabled, commandTimeout, clientResources);
+    }
 
+    /**
+     * Connection used only by the rate limiter. Its short command timeout lets rate checks fall back to
+     * in-process buckets quickly when Redis stalls, without cutting short cache reads, SCANs or revocation
+     * lookups on the shared connection.
+     */
+    @Bean
+    public @NonNull LettuceConnectionFactory rateLimitConnectionFactory(
+            @Value("${spring.data.redis.host}") @NonNull String host,
+            @Value("${spring.data.redis.port}") int port,
+            @Value("${spring.data.redis.password:}") String password,
+            @Value("${spring.data.redis.ssl.enabled:false}") boolean sslEnabled,
+            @Value("${app.rate-limit.redis-timeout:200ms}") @NonNull Duration commandTimeout,
+            @NonNull ClientResources clientResources) {
+        return connectionFactory(host, port, password, sslEnabled, commandTimeout, clientResources);
+    }
+
+    private static @NonNull LettuceConnectionFactory connectionFactory(String host, int port, String password,
+            boolean sslEnabled, Duration commandTimeout, ClientResources clientResources) {
         String safeHost = Objects.requireNonNull(host, "spring.data.redis.host is required");
-        Duration safeTimeout = Objects.requireNonNull(commandTimeout, "spring.data.redis.timeout is required");
+        Duration safeTimeout = Objects.requireNonNull(commandTimeout, "Redis command timeout is required");
 
         RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(safeHost, port);
         if (StringUtils.hasText(password)) {
             configuration.setPassword(password);
         }
 
+        // Boot's shared ClientResources carry the Micrometer command latency recorder
         LettuceClientConfiguration.LettuceClientConfigurationBuilder builder = LettuceClientConfiguration.builder()
+            .clientResources(clientResources)
             .commandTimeout(safeTimeout)
             .shutdownTimeout(seconds(2));
         if (sslEnabled) {
@@ -77,10 +110,17 @@ public class RedisConfig {
     }
 
     @Bean
+    @Primary
     public @NonNull StringRedisTemplate stringRedisTemplate(@NonNull LettuceConnectionFactory connectionFactory) {
         return new StringRedisTemplate(Objects.requireNonNull(connectionFactory, "LettuceConnectionFactory is required"));
     }
 
+    @Bean
+    public @NonNull StringRedisTemplate rateLimitRedisTemplate(
+            @Qualifier("rateLimitConnectionFactory") @NonNull LettuceConnectionFactory connectionFactory) {
+        return new StringRedisTemplate(Objects.requireNonNull(connectionFactory, "LettuceConnectionFactory is required"));
+    }
+
     @Bean
     public @NonNull RedisCacheManager redisCacheManager(@NonNull LettuceConnectionFactory connectionFactory) {
         LettuceConnectionFactory safeConnectionFactory = Objects.requireNonNull(connectionFactory, "LettuceConnectionFactory is required");
@@ -95,15 +135,58 @@ public class RedisConfig {
         Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
         cacheConfigurations.put(CacheNames.PROJECTS, defaultConfig.entryTtl(minutes(10)));
         cacheConfigurations.put(CacheNames.STUDENTS, defaultConfig.entryTtl(minutes(5)));
+        cacheConfigurations.put(CacheNames.STUDENT_PAGES, defaultConfig.entryTtl(minutes(2)));
         cacheConfigurations.put(CacheNames.METADATA, defaultConfig.entryTtl(hours(1)));
+        cacheConfigurations.put(CacheNames.USER_VERSIONS, defaultConfig.entryTtl(minutes(10)));
+
+        // Cache clears walk keys with SCAN instead of the blocking KEYS command
+        RedisCacheWriter cacheWriter = RedisCacheWriter.nonLockingRedisCacheWriter(safeConnectionFactory, BatchStrategies.scan(1000));
 
-        return RedisCacheManager.builder(safeConnectionFactory)
+        // Transaction awareness is applied by the two-level manager wrapping these caches
+        return RedisCacheManager.builder(cacheWriter)
                 .cacheDefaults(defaultConfig)
                 .withInitialCacheConfigurations(cacheConfigurations)
-                .transactionAware()
+                .enableStatistics()
                 .build();
     }
 
+    /**
+     * Primary cache manager: a bounded Caffeine L1 per cache in front of the Redis caches above.
+     * L1 TTLs are kept well below the Redis TTLs since a lost invalidation is only healed by expiry.
+     */
+    @Bean
+    @Primary
+    public @NonNull TwoLevelCacheManager cacheManager(
+            @NonNull RedisCacheManager redisCacheManager,
+            @NonNull StringRedisTemplate stringRedisTemplate,
+            @NonNull NearCacheProperties nearCacheProperties) {
+        Map<String, NearCacheProperties.Spec> nearCaches = new HashMap<>();
+        if (nearCacheProperties.isEnabled()) {
+            nearCaches.put(CacheNames.PROJECTS, new NearCacheProperties.Spec(1_000, seconds(60)));
+            nearCaches.put(CacheNames.STUDENTS, new NearCacheProperties.Spec(10_000, seconds(30)));
+            nearCaches.put(CacheNames.STUDENT_PAGES, new NearCacheProperties.Spec(500, seconds(15)));
+            nearCaches.put(CacheNames.METADATA, new NearCacheProperties.Spec(100, minutes(5)));
+            nearCaches.put(CacheNames.USER_VERSIONS, new NearCacheProperties.Spec(10_000, seconds(60)));
+            nearCaches.putAll(nearCacheProperties.getCaches());
+        }
+
+        TwoLevelCacheManager manager = new TwoLevelCacheManager(
+                redisCacheManager, nearCaches, stringRedisTemplate, nearCacheProperties.getInvalidationChannel());
+        manager.setTransactionAware(true);
+        return manager;
+    }
+
+    @Bean
+    public @NonNull RedisMessageListenerContainer redisMessageListenerContainer(
+            @NonNull LettuceConnectionFactory connectionFactory,
+            @NonNull TwoLevelCacheManager cacheManager,
+            @NonNull NearCacheProperties nearCacheProperties) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(cacheManager, new ChannelTopic(nearCacheProperties.getInvalidationChannel()));
+        return container;
+    }
+
     private static @NonNull Duration minutes(long minutes) {
         return Objects.requireNonNull(Duration.ofMinutes(minutes));
     }
@@ -116,10 +199,14 @@ public class RedisConfig {
         return Objects.requireNonNull(Duration.ofSeconds(seconds));
     }
 
-    private static @NonNull RedisSerializer<Object> jsonSerializer() {
+    // Type hints are embedded so cached values come back as their declared types (pages, entities) instead of maps
+    static @NonNull RedisSerializer<Object> jsonSerializer() {
         ObjectMapper objectMapper = new ObjectMapper();
         objectMapper.registerModule(new JavaTimeModule());
         objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-        return new GenericJackson2JsonRedisSerializer(objectMapper);
+        return Objects.requireNonNull(GenericJackson2JsonRedisSerializer.builder()
+                .objectMapper(objectMapper)
+                .defaultTyping(true)
+                .build());
     }
 }
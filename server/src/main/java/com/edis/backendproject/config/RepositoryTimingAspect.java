@@ -0,0 +1,28 @@
+package com.edis.backendproject.config;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+/**
+ * Attributes time spent in Spring Data repositories and the JDBC-based repository classes to the
+ * {@link RequestPhases.Phase#DB} phase of a profiled request. Only registered when request timing is enabled.
+ */
+@Aspect
+public class RepositoryTimingAspect {
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))"
+            + " || within(com.edis.backendproject.repository..*)")
+    public Object timeRepositoryCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        RequestPhases phases = RequestPhases.current();
+        if (phases == null || !phases.enter(RequestPhases.Phase.DB)) {
+            return joinPoint.proceed();
+        }
+        long started = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            phases.exit(RequestPhases.Phase.DB, System.nanoTime() - started);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.edis.backendproject.config;
+
+import java.util.Locale;
+import java.util.function.Supplier;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Per-request accumulator of time spent in the stages a request goes through, bound to the request thread
+ * by {@link ServerTimingFilter} for sampled requests only. Everywhere else {@link #current()} is null and
+ * recording is a single ThreadLocal read.
+ * Re-entering a phase that is already running (a repository calling another repository) is not counted
+ * twice; different phases may nest, e.g. the user lookup includes its database query.
+ * Work handed to another thread (login hashing) keeps recording into the same request via {@link #propagate}.
+ */
+public final class RequestPhases {
+
+    public enum Phase {
+        BLACKLIST, PARSE, USER, DB, CACHE, RENDER;
+
+        private final String tag = name().toLowerCase(Locale.ROOT);
+
+        public String tag() {
+            return tag;
+        }
+    }
+
+    private static final ThreadLocal<RequestPhases> CURRENT = new ThreadLocal<>();
+
+    private final long startedNanos = System.nanoTime();
+    private final long[] nanos = new long[Phase.values().length];
+    private final int[] counts = new int[Phase.values().length];
+    private final boolean[] active = new boolean[Phase.values().length];
+
+    private RequestPhases() {
+    }
+
+    static RequestPhases begin() {
+        RequestPhases phases = new RequestPhases();
+        CURRENT.set(phases);
+        return phases;
+    }
+
+    // Rebinds a request's phases on the thread of its async dispatch
+    static void resume(RequestPhases phases) {
+        CURRENT.set(phases);
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Wraps a task so it records into the calling request's phases on whichever thread runs it.
+     * Returns the task unchanged when the request is not sampled.
+     */
+    public static <T> Supplier<T> propagate(Supplier<T> task) {
+        RequestPhases phases = CURRENT.get();
+        if (phases == null) {
+            return task;
+        }
+        return () -> {
+            RequestPhases previous = CURRENT.get();
+            CURRENT.set(phases);
+            try {
+                return task.get();
+            } finally {
+                if (previous == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(previous);
+                }
+            }
+        };
+    }
+
+    public static @Nullable RequestPhases current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Adds a duration measured elsewhere (e.g. by a Micrometer sample) to the current request, if sampled.
+     */
+    public static void record(Phase phase, long durationNanos) {
+        RequestPhases phases = CURRENT.get();
+        if (phases != null) {
+            phases.add(phase, durationNanos);
+        }
+    }
+
+    public static <T> T time(Phase phase, Supplier<T> action) {
+        RequestPhases phases = CURRENT.get();
+        if (phases == null || !phases.enter(phase)) {
+            return action.get();
+        }
+        long started = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            phases.exit(phase, System.nanoTime() - started);
+        }
+    }
+
+    public static void time(Phase phase, Runnable action) {
+        time(phase, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Marks the phase as running; false when it already is, in which case the caller must not call {@link #exit}.
+     */
+    public boolean enter(Phase phase) {
+        if (active[phase.ordinal()]) {
+            return false;
+        }
+        active[phase.ordinal()] = true;
+        return true;
+    }
+
+    public void exit(Phase phase, long durationNanos) {
+        active[phase.ordinal()] = false;
+        add(phase, durationNanos);
+    }
+
+    private void add(Phase phase, long durationNanos) {
+        nanos[phase.ordinal()] += durationNanos;
+        counts[phase.ordinal()]++;
+    }
+
+    public long nanos(Phase phase) {
+        return nanos[phase.ordinal()];
+    }
+
+    public int count(Phase phase) {
+        return counts[phase.ordinal()];
+    }
+
+    public long elapsedNanos() {
+        return System.nanoTime() - startedNanos;
+    }
+
+    /**
+     * Server-Timing header value: every phase that ran, then the total so far, durations in milliseconds.
+     */
+    public String toHeader() {
+        StringBuilder header = new StringBuilder(128);
+        for (Phase phase : Phase.values()) {
+            if (counts[phase.ordinal()] > 0) {
+                appendMetric(header, phase.tag(), nanos[phase.ordinal()]);
+                if (counts[phase.ordinal()] > 1) {
+                    header.append(";desc=\"x").append(counts[phase.ordinal()]).append('"');
+                }
+            }
+        }
+        appendMetric(header, "total", elapsedNanos());
+        return header.toString();
+    }
+
+    private static void appendMetric(StringBuilder header, String name, long durationNanos) {
+        if (!header.isEmpty()) {
+            header.append(", ");
+        }
+        header.append(name).append(";dur=").append(String.format(Locale.ROOT, "%.2f", durationNanos / 1_000_000.0));
+    }
+}
@@ -0,0 +1,34 @@
+package com.edis.backendproject.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Opt-in request profiling ({@code app.timing.enabled}): a sampled Server-Timing header and per-endpoint phase
+ * timers. The filter sits in front of Spring Security so the JWT phases are inside the measured request.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.timing.enabled", havingValue = "true")
+public class ServerTimingConfig {
+
+    @Bean
+    public FilterRegistrationBean<ServerTimingFilter> serverTimingFilter(
+            MeterRegistry meterRegistry,
+            @Value("${app.timing.sample-rate:0.01}") double sampleRate) {
+        FilterRegistrationBean<ServerTimingFilter> registration =
+                new FilterRegistrationBean<>(new ServerTimingFilter(meterRegistry, sampleRate));
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+        return registration;
+    }
+
+    @Bean
+    public RepositoryTimingAspect repositoryTimingAspect() {
+        return new RepositoryTimingAspect();
+    }
+}
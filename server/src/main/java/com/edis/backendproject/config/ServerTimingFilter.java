@@ -0,0 +1,122 @@
+package com.edis.backendproject.config;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.lang.NonNull;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Profiles a sample of requests phase by phase ({@link RequestPhases}) and reports the breakdown in a
+ * {@code Server-Timing} header, written just before the response commits. The same durations go to the
+ * {@code app.request.phase} timer, tagged by route template, method and phase, for per-endpoint histograms.
+ * Streamed responses (exports) commit early, so their header only covers the work done before the first flush.
+ * Async handlers (login and registration) are profiled across their async dispatch: the phases travel with the
+ * request and are reported once the response is rendered.
+ */
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    static final String HEADER = "Server-Timing";
+    static final String TIMER = "app.request.phase";
+    private static final String RESPONSE_ATTRIBUTE = ServerTimingFilter.class.getName() + ".response";
+
+    private final MeterRegistry meterRegistry;
+    private final double sampleRate;
+
+    public ServerTimingFilter(MeterRegistry meterRegistry, double sampleRate) {
+        if (sampleRate < 0 || sampleRate > 1) {
+            throw new IllegalArgumentException("app.timing.sample-rate must be between 0 and 1");
+        }
+        this.meterRegistry = meterRegistry;
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        // Set on the first dispatch of a sampled request and still present on its async dispatch
+        TimingHeaderResponse timedResponse = (TimingHeaderResponse) request.getAttribute(RESPONSE_ATTRIBUTE);
+        HttpServletResponse chainResponse = response;
+        if (timedResponse != null) {
+            RequestPhases.resume(timedResponse.phases);
+        } else if (request.getDispatcherType() != DispatcherType.ASYNC && sampled()) {
+            timedResponse = new TimingHeaderResponse(response, RequestPhases.begin());
+            request.setAttribute(RESPONSE_ATTRIBUTE, timedResponse);
+            chainResponse = timedResponse;
+        } else {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        try {
+            filterChain.doFilter(request, chainResponse);
+        } finally {
+            RequestPhases.end();
+            // An async handler renders on a later dispatch, which reports the phases instead
+            if (!request.isAsyncStarted()) {
+                timedResponse.writeHeader();
+                record(request, timedResponse.phases);
+            }
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    private boolean sampled() {
+        return sampleRate >= 1 || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+
+    private void record(HttpServletRequest request, RequestPhases phases) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        for (RequestPhases.Phase phase : RequestPhases.Phase.values()) {
+            if (phases.count(phase) > 0) {
+                timer(uri, request.getMethod(), phase.tag()).record(phases.nanos(phase), TimeUnit.NANOSECONDS);
+            }
+        }
+        timer(uri, request.getMethod(), "total").record(phases.elapsedNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    private Timer timer(String uri, String method, String phase) {
+        return Timer.builder(TIMER)
+                .description("Time per request phase for profiled requests")
+                .tags("uri", uri, "method", method, "phase", phase)
+                .register(meterRegistry);
+    }
+
+    private static final class TimingHeaderResponse extends OnCommittedResponseWrapper {
+
+        private final RequestPhases phases;
+        private boolean headerWritten;
+
+        TimingHeaderResponse(HttpServletResponse response, RequestPhases phases) {
+            super(response);
+            this.phases = phases;
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            writeHeader();
+        }
+
+        void writeHeader() {
+            if (!headerWritten && !isCommitted()) {
+                headerWritten = true;
+                setHeader(HEADER, phases.toHeader());
+            }
+        }
+    }
+}
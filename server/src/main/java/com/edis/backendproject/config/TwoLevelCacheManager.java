@@ -0,0 +1,131 @@
+package com.edis.backendproject.config;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Puts a Caffeine L1 in front of each Redis cache that has a near-cache spec.
+ * Invalidations are exchanged over a Redis pub/sub channel as "origin|cache|key" messages;
+ * a missing key means the whole cache was cleared. Messages from this node are ignored.
+ */
+@Slf4j
+public class TwoLevelCacheManager extends AbstractTransactionSupportingCacheManager implements MessageListener {
+
+    private static final String SEPARATOR = "|";
+    private static final String CLEAR_MARKER = "*";
+    private static final String KEY_MARKER = "k:";
+
+    private final RedisCacheManager remoteCacheManager;
+    private final Map<String, NearCacheProperties.Spec> nearCacheSpecs;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final String channel;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public TwoLevelCacheManager(RedisCacheManager remoteCacheManager, Map<String, NearCacheProperties.Spec> nearCacheSpecs,
+            StringRedisTemplate stringRedisTemplate, String channel) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.nearCacheSpecs = nearCacheSpecs;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.channel = channel;
+    }
+
+    @Override
+    protected @NonNull Collection<? extends Cache> loadCaches() {
+        List<Cache> caches = new ArrayList<>();
+        for (String name : remoteCacheManager.getCacheNames()) {
+            Cache cache = buildCache(name);
+            if (cache != null) {
+                caches.add(cache);
+            }
+        }
+        return caches;
+    }
+
+    @Override
+    protected @Nullable Cache getMissingCache(@NonNull String name) {
+        return buildCache(name);
+    }
+
+    private @Nullable Cache buildCache(String name) {
+        Cache remote = remoteCacheManager.getCache(name);
+        if (remote == null) {
+            return null;
+        }
+        NearCacheProperties.Spec spec = nearCacheSpecs.get(name);
+        if (spec == null || spec.getMaxSize() <= 0) {
+            return remote;
+        }
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                .maximumSize(spec.getMaxSize())
+                .recordStats();
+        if (spec.getTtl() != null) {
+            builder.expireAfterWrite(spec.getTtl());
+        }
+        return new TwoLevelCache(name, builder.build(), remote, this);
+    }
+
+    void publishEvict(String cacheName, String localKey) {
+        publish(nodeId + SEPARATOR + cacheName + SEPARATOR + KEY_MARKER + localKey);
+    }
+
+    void publishClear(String cacheName) {
+        publish(nodeId + SEPARATOR + cacheName + SEPARATOR + CLEAR_MARKER);
+    }
+
+    private void publish(String message) {
+        try {
+            stringRedisTemplate.convertAndSend(channel, message);
+        } catch (DataAccessException ex) {
+            // Peers fall back to their L1 TTL when the broadcast is lost
+            log.warn("Failed to broadcast cache invalidation", ex);
+        }
+    }
+
+    @Override
+    public void onMessage(@NonNull Message message, @Nullable byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(Pattern.quote(SEPARATOR), 3);
+        if (parts.length != 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+        Cache cache = lookupTwoLevelCache(parts[1]);
+        if (!(cache instanceof TwoLevelCache twoLevelCache)) {
+            return;
+        }
+        if (CLEAR_MARKER.equals(parts[2])) {
+            twoLevelCache.clearLocal();
+        } else if (parts[2].startsWith(KEY_MARKER)) {
+            twoLevelCache.evictLocal(parts[2].substring(KEY_MARKER.length()));
+        }
+    }
+
+    /**
+     * Returns the undecorated cache so remote invalidations bypass the transaction-aware wrapper.
+     */
+    public @Nullable Cache lookupTwoLevelCache(String name) {
+        Cache cache = lookupCache(name);
+        if (cache instanceof TransactionAwareCacheDecorator decorator) {
+            return decorator.getTargetCache();
+        }
+        return cache;
+    }
+}
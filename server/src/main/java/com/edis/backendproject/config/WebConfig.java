@@ -0,0 +1,81 @@
+package com.edis.backendproject.config;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * Registers CBOR and Smile next to JSON so service-to-service clients can ask for a binary body
+ * via Accept. Both mappers come from Boot's builder and share the JSON mapper's modules and settings.
+ * Boot adds HttpMessageConverter beans to the MVC converter list; JSON stays the default and is
+ * replaced by an equivalent converter that reports its rendering time to profiled requests.
+ */
+@Configuration
+public class WebConfig {
+
+    /**
+     * Boot's JSON converter with the same ObjectMapper; for requests profiled by {@link ServerTimingFilter}
+     * the body is rendered into a buffer first, so Jackson time is measured and lands in the Server-Timing header.
+     */
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        return new TimedJsonHttpMessageConverter(objectMapper);
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    private static final class TimedJsonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+        TimedJsonHttpMessageConverter(ObjectMapper objectMapper) {
+            super(objectMapper);
+        }
+
+        @Override
+        protected void writeInternal(@NonNull Object object, @Nullable Type type, @NonNull HttpOutputMessage outputMessage)
+                throws IOException {
+            if (RequestPhases.current() == null) {
+                super.writeInternal(object, type, outputMessage);
+                return;
+            }
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(8192);
+            long started = System.nanoTime();
+            super.writeInternal(object, type, new HttpOutputMessage() {
+                @Override
+                public @NonNull OutputStream getBody() {
+                    return buffer;
+                }
+
+                @Override
+                public @NonNull HttpHeaders getHeaders() {
+                    return outputMessage.getHeaders();
+                }
+            });
+            RequestPhases.record(RequestPhases.Phase.RENDER, System.nanoTime() - started);
+            buffer.writeTo(outputMessage.getBody());
+        }
+    }
+}
@@ -6,11 +6,13 @@ import com.edis.backendproject.dto.RegisterRequest;
 import com.edis.backendproject.model.User;
 import com.edis.backendproject.security.BearerTokenExtractor;
 import com.edis.backendproject.service.TokenBlacklistService;
+import com.edis.backendproject.service.UserSecurityVersions;
 import com.edis.backendproject.service.UserService;
 
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -29,7 +31,11 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.edis.backendproject.security.JwtTokenProvider;
+import com.edis.backendproject.security.PasswordHashingExecutor;
+import com.edis.backendproject.security.RateLimiter;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
@@ -39,30 +45,42 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class AuthController {
     private static final Logger log = LoggerFactory.getLogger(AuthController.class);
+    private static final String LOGIN_TIMER = "app.auth.login";
 
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider tokenProvider;
     private final UserService userService;
     private final TokenBlacklistService tokenBlacklistService;
+    private final UserSecurityVersions securityVersions;
+    private final MeterRegistry meterRegistry;
+    private final PasswordHashingExecutor passwordHashing;
+    private final RateLimiter rateLimiter;
 
+    // Login and registration run on the password hashing pool; the servlet thread is released meanwhile.
+    // The per-IP limit is applied by RateLimitFilter, the per-username one here once the body is parsed.
     @PostMapping(value = "/login", consumes = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<ApiResponse<Map<String, String>>> loginJson(@Valid @RequestBody LoginRequest loginRequest) {
-        return authenticate(loginRequest);
+    public CompletableFuture<ResponseEntity<ApiResponse<Map<String, String>>>> loginJson(@Valid @RequestBody LoginRequest loginRequest) {
+        rateLimiter.checkUsername(loginRequest.getUsername());
+        return passwordHashing.submit(() -> authenticate(loginRequest));
     }
 
     @PostMapping(value = "/login", consumes = MediaType.APPLICATION_FORM_URLENCODED_VALUE)
-    public ResponseEntity<ApiResponse<Map<String, String>>> loginForm(@Valid LoginRequest loginRequest) {
-        return authenticate(loginRequest);
+    public CompletableFuture<ResponseEntity<ApiResponse<Map<String, String>>>> loginForm(@Valid LoginRequest loginRequest) {
+        rateLimiter.checkUsername(loginRequest.getUsername());
+        return passwordHashing.submit(() -> authenticate(loginRequest));
     }
 
     @PostMapping(value = "/register", consumes = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<ApiResponse<Map<String, String>>> register(@Valid @RequestBody RegisterRequest registerRequest) {
-        User createdUser = userService.registerUser(registerRequest);
-        Map<String, String> data = new HashMap<>();
-        data.put("username", createdUser.getUsername());
-        log.info("User {} registered successfully", createdUser.getUsername());
-        return ResponseEntity.status(HttpStatus.CREATED)
-            .body(ApiResponse.success("Your account was created successfully.", data));
+    public CompletableFuture<ResponseEntity<ApiResponse<Map<String, String>>>> register(@Valid @RequestBody RegisterRequest registerRequest) {
+        rateLimiter.checkUsername(registerRequest.getUsername());
+        return passwordHashing.submit(() -> {
+            User createdUser = userService.registerUser(registerRequest);
+            Map<String, String> data = new HashMap<>();
+            data.put("username", createdUser.getUsername());
+            log.info("User {} registered successfully", createdUser.getUsername());
+            return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success("Your account was created successfully.", data));
+        });
     }
 
     @PostMapping("/logout")
@@ -82,7 +100,10 @@ public class AuthController {
         return ResponseEntity.ok(ApiResponse.<Void>success("Logout successful", null));
     }
 
+    // Timed as app.auth.login by outcome; the BCrypt share is app.auth.password{operation=matches}
     private ResponseEntity<ApiResponse<Map<String, String>>> authenticate(LoginRequest loginRequest) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
         try {
             Authentication authentication = Objects.requireNonNull(
                     authenticationManager.authenticate(
@@ -94,16 +115,19 @@ public class AuthController {
                     "Authentication cannot be null"
             );
 
-            String token = tokenProvider.generateToken(authentication);
+            long securityVersion = securityVersions.currentVersion(authentication.getName()).value();
+            String token = tokenProvider.generateToken(authentication, securityVersion);
 
             Map<String, String> data = new HashMap<>();
             data.put("token", token);
             data.put("username", loginRequest.getUsername());
 
+            outcome = "success";
             log.info("User {} authenticated successfully", loginRequest.getUsername());
             ResponseEntity<ApiResponse<Map<String, String>>> response = ResponseEntity.ok(ApiResponse.success("Login successful", data));
             return Objects.requireNonNull(response);
         } catch (AuthenticationException ex) {
+            outcome = "failure";
             log.warn("Failed login attempt for {}", loginRequest.getUsername());
             ResponseEntity<ApiResponse<Map<String, String>>> unauthorizedResponse = ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body(ApiResponse.error("Invalid username or password"));
@@ -113,6 +137,8 @@ public class AuthController {
             ResponseEntity<ApiResponse<Map<String, String>>> errorResponse = ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(ApiResponse.error("Unexpected error occurred"));
             return Objects.requireNonNull(errorResponse);
+        } finally {
+            sample.stop(meterRegistry.timer(LOGIN_TIMER, "outcome", outcome));
         }
     }
 }
@@ -0,0 +1,34 @@
+package com.edis.backendproject.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import com.edis.backendproject.config.CacheNames;
+import com.edis.backendproject.dto.ApiResponse;
+import com.edis.backendproject.service.CollectionVersions;
+import com.edis.backendproject.service.DashboardService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Single-request payload for the projects dashboard.
+ * Cached with the student pages, which every student and project write clears.
+ */
+@RestController
+@RequestMapping("/api/dashboard")
+@RequiredArgsConstructor
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+    private final ResponseBodyCache responseBodyCache;
+    private final CollectionVersions collectionVersions;
+
+    @GetMapping
+    public ResponseEntity<byte[]> getDashboard(WebRequest request) {
+        return responseBodyCache.respond(CacheNames.STUDENT_PAGES, "dashboard", collectionVersions.dashboardETag(),
+                request, () -> ApiResponse.success(dashboardService.getDashboard()));
+    }
+}
@@ -1,13 +1,22 @@
 package com.edis.backendproject.controller;
 
 import com.edis.backendproject.dto.ApiResponse;
+import com.edis.backendproject.dto.BatchRequest;
+import com.edis.backendproject.config.CacheNames;
+import com.edis.backendproject.dto.BatchResult;
+import com.edis.backendproject.dto.ProjectBatchOperation;
 import com.edis.backendproject.dto.ProjectRequest;
+import com.edis.backendproject.dto.ProjectStats;
 import com.edis.backendproject.model.Project;
+import com.edis.backendproject.service.CollectionVersions;
 import com.edis.backendproject.service.IProjectService;
+import com.edis.backendproject.service.ProjectBatchService;
+import com.edis.backendproject.service.ProjectStatsService;
 
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -23,12 +32,21 @@ import lombok.RequiredArgsConstructor;
 public class ProjectController {
 
     private final IProjectService projectService;
+    private final ProjectBatchService batchService;
+    private final ResponseBodyCache responseBodyCache;
+    private final CollectionVersions collectionVersions;
+    private final ProjectStatsService statsService;
 
     
     @GetMapping
-    public ResponseEntity<ApiResponse<List<Project>>> getAllProjects() {
-        List<Project> projects = projectService.getAllProjects();
-        return ResponseEntity.ok(ApiResponse.success(projects));
+    public ResponseEntity<byte[]> getAllProjects(WebRequest request) {
+        return responseBodyCache.respond(CacheNames.PROJECTS, "all", collectionVersions.projectsETag(), request,
+                () -> ApiResponse.success(projectService.getAllProjects()));
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<ApiResponse<ProjectStats>> getStats() {
+        return ResponseEntity.ok(ApiResponse.success(statsService.getStats()));
     }
 
     
@@ -45,6 +63,13 @@ public class ProjectController {
         return ResponseEntity.ok(ApiResponse.success("Project created successfully", created));
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<ApiResponse<List<BatchResult>>> applyBatch(
+            @Valid @RequestBody BatchRequest<ProjectBatchOperation> request) {
+        List<BatchResult> results = batchService.applyBatch(request.getOperations());
+        return ResponseEntity.ok(ApiResponse.success("Batch applied successfully", results));
+    }
+
     
     @PutMapping("/{id}")
     public ResponseEntity<ApiResponse<Project>> updateProject(@PathVariable Long id,
@@ -56,7 +81,9 @@ public class ProjectController {
     
     @DeleteMapping("/{id}")
     public ResponseEntity<ApiResponse<Void>> deleteProject(@PathVariable Long id) {
-        projectService.deleteProject(id);
+        if (projectService.deleteProject(id)) {
+            return ResponseEntity.accepted().body(ApiResponse.success("Project deletion scheduled", null));
+        }
         return ResponseEntity.ok(ApiResponse.success("Project deleted successfully", null));
     }
 }
\ No newline at end of file
@@ -0,0 +1,182 @@
+package com.edis.backendproject.controller;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import com.edis.backendproject.config.RequestPhases;
+import com.edis.backendproject.dto.BodyFormat;
+import com.edis.backendproject.dto.CachedBody;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Serves collection endpoints from cached response bytes instead of re-rendering cached objects.
+ * The bytes live in the same cache as the data under {@link BodyFormat#cacheKey(String)}, so the evictions
+ * that already clear that cache (or that key) drop them as well. A hit goes out without touching Jackson;
+ * bodies of at least {@code app.cache.response.gzip-min-bytes} are also stored gzip-compressed and sent
+ * that way to clients that accept it.
+ * The body is rendered as JSON, CBOR or Smile depending on Accept, each format cached on its own.
+ * When a collection version is passed, it becomes a strong ETag per representation (format and gzip
+ * suffixes) and a matching If-None-Match is answered with 304 before the cache is even read.
+ * Stored bodies remember that version and only count as hits for it: a write that lands between reading
+ * the version and storing the body leaves an entry that the next version re-renders instead of serving.
+ */
+@Component
+class ResponseBodyCache {
+
+    private static final String GZIP_SUFFIX = "-gzip";
+    private static final String VARY = HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING;
+
+    private final CacheManager cacheManager;
+    private final Map<BodyFormat, ObjectMapper> mappers = new EnumMap<>(BodyFormat.class);
+    private final int gzipMinBytes;
+
+    ResponseBodyCache(CacheManager cacheManager, ObjectMapper objectMapper,
+                      MappingJackson2CborHttpMessageConverter cborConverter,
+                      MappingJackson2SmileHttpMessageConverter smileConverter,
+                      @Value("${app.cache.response.gzip-min-bytes:2048}") int gzipMinBytes) {
+        this.cacheManager = cacheManager;
+        this.mappers.put(BodyFormat.JSON, objectMapper);
+        this.mappers.put(BodyFormat.CBOR, cborConverter.getObjectMapper());
+        this.mappers.put(BodyFormat.SMILE, smileConverter.getObjectMapper());
+        this.gzipMinBytes = gzipMinBytes;
+    }
+
+    /**
+     * Returns the cached body for {@code key} in {@code cacheName}, rendering and storing {@code body} on a miss.
+     *
+     * @param version collection version from {@link com.edis.backendproject.service.CollectionVersions}, or null
+     */
+    ResponseEntity<byte[]> respond(String cacheName, String key, @Nullable String version, WebRequest request,
+                                   Supplier<?> body) {
+        BodyFormat format = BodyFormat.negotiate(request.getHeader(HttpHeaders.ACCEPT));
+        String etag = version != null ? format.etag(version) : null;
+        if (etag != null) {
+            String matched = matchingETag(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag);
+            if (matched != null) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(matched)
+                        .header(HttpHeaders.VARY, VARY)
+                        .build();
+            }
+        }
+
+        Cache cache = cacheManager.getCache(cacheName);
+        String bodyKey = format.cacheKey(key);
+        CachedBody cached = cache != null ? cache.get(bodyKey, CachedBody.class) : null;
+        if (cached == null || version != null && !version.equals(cached.version())) {
+            Object value = body.get();
+            cached = RequestPhases.time(RequestPhases.Phase.RENDER, () -> render(format, value, version));
+            if (cache != null) {
+                cache.put(bodyKey, cached);
+            }
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.VARY, VARY);
+        if (cached.gzip() != null && acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+            if (etag != null) {
+                response.eTag(quote(etag + GZIP_SUFFIX));
+            }
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(cached.gzip());
+        }
+        if (etag != null) {
+            response.eTag(quote(etag));
+        }
+        return response.body(cached.body());
+    }
+
+    private CachedBody render(BodyFormat format, Object body, @Nullable String version) {
+        try {
+            byte[] bytes = mappers.get(format).writeValueAsBytes(body);
+            return new CachedBody(bytes, gzipMinBytes >= 0 && bytes.length >= gzipMinBytes ? gzip(bytes) : null,
+                    version);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not render response body", ex);
+        }
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return out.toByteArray();
+    }
+
+    // Either encoding of the current representation counts; weak comparison as RFC 9110 prescribes for If-None-Match
+    static @Nullable String matchingETag(@Nullable String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return null;
+        }
+        String plain = quote(etag);
+        String gzip = quote(etag + GZIP_SUFFIX);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(plain)) {
+                return plain;
+            }
+            if (tag.equals(gzip)) {
+                return gzip;
+            }
+        }
+        return null;
+    }
+
+    private static String quote(String tag) {
+        return "\"" + tag + "\"";
+    }
+
+    // Accepts "gzip" with any non-zero quality; "*" is ignored to stay conservative
+    static boolean acceptsGzip(@Nullable String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (!parts[0].trim().equalsIgnoreCase("gzip")) {
+                continue;
+            }
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.regionMatches(true, 0, "q=", 0, 2) && quality(param.substring(2)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    // A malformed q-value counts as the default quality of 1 instead of failing the request
+    private static double quality(String value) {
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            return 1;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.edis.backendproject.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.edis.backendproject.dto.ApiResponse;
+import com.edis.backendproject.dto.SearchIndexReport;
+import com.edis.backendproject.service.StudentSearchIndex;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Maintenance endpoints for the in-memory student search index.
+ * verify compares the index with PostgreSQL; rebuild reloads it from scratch. Both are restricted to
+ * ADMIN users in SecurityConfig.
+ */
+@RestController
+@RequestMapping("/api/students/search/index")
+@RequiredArgsConstructor
+public class SearchIndexController {
+
+    private final StudentSearchIndex searchIndex;
+
+    @GetMapping("/verify")
+    public ResponseEntity<ApiResponse<SearchIndexReport>> verify() {
+        return ResponseEntity.ok(ApiResponse.success(searchIndex.verify()));
+    }
+
+    @PostMapping("/rebuild")
+    public ResponseEntity<ApiResponse<SearchIndexReport>> rebuild() {
+        return ResponseEntity.ok(ApiResponse.success("Search index rebuilt", searchIndex.rebuild()));
+    }
+}
@@ -1,22 +1,48 @@
 package com.edis.backendproject.controller;
 
+import com.edis.backendproject.config.CacheNames;
 import com.edis.backendproject.dto.ApiResponse;
+import com.edis.backendproject.dto.BatchRequest;
+import com.edis.backendproject.dto.BatchResult;
+import com.edis.backendproject.dto.NameSearch;
+import com.edis.backendproject.dto.NameSearchMode;
+import com.edis.backendproject.dto.StudentBatchOperation;
+import com.edis.backendproject.dto.StudentFileFormat;
+import com.edis.backendproject.dto.StudentFilter;
+import com.edis.backendproject.dto.StudentImportReport;
+import com.edis.backendproject.dto.StudentPage;
 import com.edis.backendproject.dto.StudentRequest;
+import com.edis.backendproject.dto.StudentSort;
+import com.edis.backendproject.dto.StudentView;
 import com.edis.backendproject.model.Student;
+import com.edis.backendproject.service.CollectionVersions;
 import com.edis.backendproject.service.IStudentService;
+import com.edis.backendproject.service.StudentBatchService;
+import com.edis.backendproject.service.StudentExportService;
+import com.edis.backendproject.service.StudentImportService;
 
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Objects;
 
 import lombok.RequiredArgsConstructor;
 
 /**
  * REST controller for student operations.
  * Supports CRUD, search by code/name, and filtering by project.
+ * The unfiltered listing is keyset-paginated; follow nextCursor from the response to continue.
+ * The full roster is available as a streamed NDJSON or CSV export, and cohorts can be bulk-imported the same way.
  */
 @RestController
 @RequestMapping("/api/students")
@@ -24,35 +50,84 @@ import lombok.RequiredArgsConstructor;
 public class StudentController {
 
     private final IStudentService studentService;
+    private final StudentExportService exportService;
+    private final StudentImportService importService;
+    private final StudentBatchService batchService;
+    private final ResponseBodyCache responseBodyCache;
+    private final CollectionVersions collectionVersions;
 
     
     @GetMapping
-    public ResponseEntity<ApiResponse<List<Student>>> getAllStudents(
-            @RequestParam(name = "projectId", required = false) Long projectId) {
+    public ResponseEntity<byte[]> getAllStudents(
+            @RequestParam(name = "projectId", required = false) Long projectId,
+            @RequestParam(name = "sort", defaultValue = "lastName") String sort,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "limit", defaultValue = "50") int limit,
+            WebRequest request) {
         if (projectId != null) {
-            List<Student> students = studentService.getStudentsByProject(projectId);
-            return ResponseEntity.ok(ApiResponse.success(students));
+            return getStudentsByProject(projectId, request);
         }
-        @SuppressWarnings("unused")
-        List<Student> students = studentService.getAllStudents();
-        return ResponseEntity.ok(ApiResponse.success(students));
+        StudentSort studentSort = StudentSort.fromParam(sort);
+        // Same key as the cached StudentPage, so clearing the pages clears the rendered bodies too
+        String key = studentSort + ":" + limit + ":" + (cursor == null ? "" : cursor);
+        return responseBodyCache.respond(CacheNames.STUDENT_PAGES, key, collectionVersions.studentsETag(), request, () -> {
+            StudentPage page = studentService.getStudentsPage(studentSort, cursor, limit);
+            return ApiResponse.page(page.items(), page.nextCursor());
+        });
     }
 
-    @SuppressWarnings({ "unused", "null" })
     @GetMapping("/search")
-    public ResponseEntity<ApiResponse<List<Student>>> searchStudents(
-            @RequestParam String query,
-            @RequestParam(name = "projectId", required = false) Long projectId) {
-        String safeQuery = Objects.requireNonNull(query, "query parameter is required");
-        List<Student> students;
-        if (projectId != null) {
-            students = studentService.searchByNameAndProject(safeQuery, projectId);
-        } else {
-            students = studentService.searchByName(safeQuery);
-        }
+    public ResponseEntity<ApiResponse<List<StudentView>>> searchStudents(
+            @RequestParam(name = "query", required = false) String query,
+            @RequestParam(name = "projectId", required = false) List<Long> projectIds,
+            @RequestParam(name = "title", required = false) String title,
+            @RequestParam(name = "bornFrom", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate bornFrom,
+            @RequestParam(name = "bornTo", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate bornTo,
+            @RequestParam(name = "createdFrom", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(name = "createdTo", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+            @RequestParam(name = "mode", defaultValue = "exact") String mode,
+            @RequestParam(name = "threshold", defaultValue = "0.3") double threshold,
+            @RequestParam(name = "limit", defaultValue = "20") int limit) {
+        NameSearch name = query == null || query.isBlank()
+                ? null
+                : new NameSearch(query, NameSearchMode.fromParam(mode), threshold);
+        StudentFilter filter = StudentFilter.builder()
+                .name(name)
+                .projectIds(projectIds)
+                .title(title)
+                .bornFrom(bornFrom)
+                .bornTo(bornTo)
+                .createdFrom(createdFrom)
+                .createdTo(createdTo)
+                .limit(limit)
+                .build();
+        List<StudentView> students = studentService.searchStudents(filter);
         return ResponseEntity.ok(ApiResponse.success(students));
     }
 
+    @GetMapping("/export")
+    public void exportStudents(
+            @RequestParam(name = "format", defaultValue = "ndjson") String format,
+            @RequestParam(name = "projectId", required = false) Long projectId,
+            HttpServletResponse response) throws IOException {
+        StudentFileFormat exportFormat = StudentFileFormat.fromParam(format);
+        response.setContentType(exportFormat.getContentType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"students." + exportFormat.getParam() + "\"");
+        exportService.export(exportFormat, projectId, response.getOutputStream());
+    }
+
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<StudentImportReport>> importStudents(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(name = "format", required = false) String format) throws IOException {
+        StudentFileFormat importFormat = StudentFileFormat.resolve(format, file.getOriginalFilename());
+        StudentImportReport report = importService.importStudents(file.getInputStream(), importFormat);
+        String message = "Imported " + report.importedCount() + " of " + report.totalRows() + " students";
+        return ResponseEntity.ok(ApiResponse.success(message, report));
+    }
+
     
     @GetMapping("/search/code")
     public ResponseEntity<ApiResponse<Student>> searchByCode(@RequestParam String code) {
@@ -62,9 +137,10 @@ public class StudentController {
 
     
     @GetMapping("/project/{projectId}")
-    public ResponseEntity<ApiResponse<List<Student>>> getStudentsByProject(@PathVariable Long projectId) {
-        List<Student> students = studentService.getStudentsByProject(projectId);
-        return ResponseEntity.ok(ApiResponse.success(students));
+    public ResponseEntity<byte[]> getStudentsByProject(@PathVariable Long projectId, WebRequest request) {
+        return responseBodyCache.respond(CacheNames.STUDENTS, "project:" + projectId,
+                collectionVersions.projectStudentsETag(projectId), request,
+                () -> ApiResponse.success(studentService.getStudentsByProject(projectId)));
     }
 
     
@@ -81,6 +157,13 @@ public class StudentController {
         return ResponseEntity.ok(ApiResponse.success("Student created successfully", created));
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<ApiResponse<List<BatchResult>>> applyBatch(
+            @Valid @RequestBody BatchRequest<StudentBatchOperation> request) {
+        List<BatchResult> results = batchService.applyBatch(request.getOperations());
+        return ResponseEntity.ok(ApiResponse.success("Batch applied successfully", results));
+    }
+
     
     @PutMapping("/{id}")
     public ResponseEntity<ApiResponse<Student>> updateStudent(@PathVariable Long id,
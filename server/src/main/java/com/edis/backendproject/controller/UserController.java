@@ -6,20 +6,26 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.edis.backendproject.dto.ApiResponse;
+import com.edis.backendproject.dto.RoleChangeRequest;
 import com.edis.backendproject.security.BearerTokenExtractor;
 import com.edis.backendproject.service.TokenBlacklistService;
 import com.edis.backendproject.service.UserService;
 
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * Authenticated user-facing endpoints (profile management, etc.).
+ * Role changes are restricted to ADMIN users in SecurityConfig.
  */
 @Slf4j
 @RestController
@@ -42,4 +48,13 @@ public class UserController {
         log.info("User {} deleted their account", username);
         return ResponseEntity.ok(ApiResponse.success("Your account was deleted successfully.", null));
     }
+
+    @PutMapping("/{username}/role")
+    public ResponseEntity<ApiResponse<Void>> changeRole(@PathVariable String username,
+                                                        @Valid @RequestBody RoleChangeRequest request,
+                                                        Authentication authentication) {
+        userService.changeRole(username, request.getRole());
+        log.info("User {} changed the role of {} to {}", authentication.getName(), username, request.getRole());
+        return ResponseEntity.ok(ApiResponse.success("Role updated; existing tokens for this user were revoked.", null));
+    }
 }
@@ -3,12 +3,15 @@ package com.edis.backendproject.dto;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.time.LocalDateTime;
 import java.util.Map;
 
 /**
  * Standardized API response wrapper for all endpoints.
  * Includes success status, message, data payload, timestamp, and validation errors.
+ * Paginated endpoints also set an opaque nextCursor token pointing at the following page.
  */
 @Data
 @NoArgsConstructor
@@ -20,6 +23,9 @@ public class ApiResponse<T> {
     private LocalDateTime timestamp;
     private Map<String, String> validationErrors;
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+
     private ApiResponse(boolean success, String message, T data, Map<String, String> validationErrors) {
         this.success = success;
         this.message = message;
@@ -36,6 +42,12 @@ public class ApiResponse<T> {
         return new ApiResponse<>(true, message, data, null);
     }
 
+    public static <T> ApiResponse<T> page(T data, String nextCursor) {
+        ApiResponse<T> response = new ApiResponse<>(true, "Success", data, null);
+        response.nextCursor = nextCursor;
+        return response;
+    }
+
     public static <T> ApiResponse<T> error(String message) {
         return new ApiResponse<>(false, message, null, null);
     }
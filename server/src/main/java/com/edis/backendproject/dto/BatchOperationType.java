@@ -0,0 +1,36 @@
+package com.edis.backendproject.dto;
+
+import java.util.Arrays;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * Operations accepted by the batch mutation endpoints. REASSIGN only applies to students.
+ */
+public enum BatchOperationType {
+
+    CREATE("create"),
+    UPDATE("update"),
+    DELETE("delete"),
+    REASSIGN("reassign");
+
+    private final String param;
+
+    BatchOperationType(String param) {
+        this.param = param;
+    }
+
+    @JsonValue
+    public String getParam() {
+        return param;
+    }
+
+    @JsonCreator
+    public static BatchOperationType fromParam(String value) {
+        return Arrays.stream(values())
+                .filter(type -> type.param.equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unsupported batch operation: " + value));
+    }
+}
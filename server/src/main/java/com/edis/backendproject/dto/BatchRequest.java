@@ -0,0 +1,23 @@
+package com.edis.backendproject.dto;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Envelope for the batch endpoints; operations run in order inside one transaction.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchRequest<T> {
+
+    @NotEmpty(message = "operations must not be empty")
+    @Size(max = 1000, message = "A batch may contain at most 1000 operations")
+    private List<@Valid T> operations;
+}
@@ -0,0 +1,9 @@
+package com.edis.backendproject.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of one batch operation: its position in the request and the ids it touched.
+ */
+public record BatchResult(int index, BatchOperationType op, List<Long> ids) {
+}
@@ -0,0 +1,69 @@
+package com.edis.backendproject.dto;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.lang.Nullable;
+
+/**
+ * Wire formats a cached collection body can be rendered in, chosen from the Accept header.
+ * JSON keeps the plain "body:" key and ETag so existing entries and tags stay valid.
+ */
+public enum BodyFormat {
+    JSON(MediaType.APPLICATION_JSON, "", ""),
+    CBOR(MediaType.APPLICATION_CBOR, "cbor:", "-cbor"),
+    SMILE(MediaType.valueOf("application/x-jackson-smile"), "smile:", "-smile");
+
+    private final MediaType mediaType;
+    private final String keyInfix;
+    private final String etagSuffix;
+
+    BodyFormat(MediaType mediaType, String keyInfix, String etagSuffix) {
+        this.mediaType = mediaType;
+        this.keyInfix = keyInfix;
+        this.etagSuffix = etagSuffix;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String cacheKey(String key) {
+        return CachedBody.KEY_PREFIX + keyInfix + key;
+    }
+
+    public String etag(String version) {
+        return version + etagSuffix;
+    }
+
+    /**
+     * Picks the format the client prefers by quality value; wildcards, unknown types and a missing
+     * or malformed header fall back to JSON.
+     */
+    public static BodyFormat negotiate(@Nullable String accept) {
+        if (accept == null || accept.isBlank()) {
+            return JSON;
+        }
+        List<MediaType> accepted;
+        try {
+            accepted = new ArrayList<>(MediaType.parseMediaTypes(accept));
+        } catch (InvalidMediaTypeException ex) {
+            return JSON;
+        }
+        accepted.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+        for (MediaType type : accepted) {
+            if (type.getQualityValue() == 0) {
+                continue;
+            }
+            for (BodyFormat format : values()) {
+                if (type.isCompatibleWith(format.mediaType)) {
+                    return format;
+                }
+            }
+        }
+        return JSON;
+    }
+}
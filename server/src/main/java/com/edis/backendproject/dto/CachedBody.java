@@ -0,0 +1,14 @@
+package com.edis.backendproject.dto;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * A serialized response body kept next to the data it was rendered from.
+ * Stored under {@link BodyFormat#cacheKey(String)} of the data's own cache key; gzip is null for bodies
+ * too small to compress. version is the collection version the request had read before loading the data,
+ * or null when none was available.
+ */
+public record CachedBody(byte[] body, @Nullable byte[] gzip, @Nullable String version) {
+
+    public static final String KEY_PREFIX = "body:";
+}
@@ -0,0 +1,17 @@
+package com.edis.backendproject.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * One project card on the dashboard: the project, its exact student count and its most recently added students.
+ */
+public record DashboardProject(
+        Long id,
+        String name,
+        String description,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        long studentCount,
+        List<StudentView> recentStudents) {
+}
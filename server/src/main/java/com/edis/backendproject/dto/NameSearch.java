@@ -0,0 +1,30 @@
+package com.edis.backendproject.dto;
+
+import java.util.Locale;
+
+/**
+ * Normalized name search parameters. The term is trimmed and lower-cased to match the
+ * lower(...) expression indexes on first and last name.
+ */
+public record NameSearch(String term, NameSearchMode mode, double threshold) {
+
+    public static final double DEFAULT_THRESHOLD = 0.3;
+
+    public NameSearch {
+        if (term == null || term.isBlank()) {
+            throw new IllegalArgumentException("Search term cannot be empty");
+        }
+        if (threshold <= 0 || threshold > 1) {
+            throw new IllegalArgumentException("threshold must be greater than 0 and at most 1");
+        }
+        term = term.trim().toLowerCase(Locale.ROOT);
+        mode = mode == null ? NameSearchMode.EXACT : mode;
+    }
+
+    /**
+     * Term as a left-anchored LIKE pattern with wildcard characters escaped.
+     */
+    public String prefixPattern() {
+        return term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+    }
+}
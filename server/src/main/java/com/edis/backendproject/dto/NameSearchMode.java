@@ -0,0 +1,21 @@
+package com.edis.backendproject.dto;
+
+/**
+ * How the name search term is matched against first and last names.
+ * EXACT and PREFIX are case-insensitive; FUZZY ranks by trigram word similarity.
+ */
+public enum NameSearchMode {
+
+    EXACT,
+    PREFIX,
+    FUZZY;
+
+    public static NameSearchMode fromParam(String value) {
+        for (NameSearchMode mode : values()) {
+            if (mode.name().equalsIgnoreCase(value)) {
+                return mode;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported search mode: " + value);
+    }
+}
@@ -0,0 +1,26 @@
+package com.edis.backendproject.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One step of a project batch. create needs project; update needs id and project; delete needs id.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectBatchOperation {
+
+    @NotNull(message = "op is required")
+    private BatchOperationType op;
+
+    private Long id;
+
+    @Valid
+    private ProjectRequest project;
+}
@@ -0,0 +1,31 @@
+package com.edis.backendproject.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Aggregate view of projects and students for GET /api/projects/stats.
+ * Counts come from materialized views and are as fresh as {@code refreshedAt}.
+ */
+public record ProjectStats(
+        List<ProjectCount> projects,
+        List<AgeBucket> ageDistribution,
+        List<TitleCount> topTitles,
+        List<MonthCount> studentsCreated,
+        List<MonthCount> projectsCreated,
+        LocalDateTime refreshedAt) {
+
+    public record ProjectCount(Long projectId, String name, long studentCount) {
+    }
+
+    // maxAge is null for the open-ended top bucket; both bounds are null for students without a date of birth
+    public record AgeBucket(String label, Integer minAge, Integer maxAge, long count) {
+    }
+
+    public record TitleCount(String title, long count) {
+    }
+
+    public record MonthCount(LocalDate month, long count) {
+    }
+}
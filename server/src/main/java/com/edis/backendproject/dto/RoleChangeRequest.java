@@ -0,0 +1,18 @@
+package com.edis.backendproject.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Payload for an administrator changing another user's role (USER or ADMIN).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoleChangeRequest {
+
+    @NotBlank(message = "role is required")
+    private String role;
+}
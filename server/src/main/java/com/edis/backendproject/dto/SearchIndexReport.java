@@ -0,0 +1,24 @@
+package com.edis.backendproject.dto;
+
+import java.util.List;
+
+/**
+ * Result of comparing the in-memory student search index with the database.
+ * The id lists are truncated to a sample; the counts are exact.
+ */
+public record SearchIndexReport(
+        boolean enabled,
+        boolean serving,
+        int indexedCount,
+        long databaseCount,
+        int missingCount,
+        int staleCount,
+        int extraCount,
+        List<Long> missingIds,
+        List<Long> staleIds,
+        List<Long> extraIds) {
+
+    public boolean isConsistent() {
+        return missingCount == 0 && staleCount == 0 && extraCount == 0;
+    }
+}
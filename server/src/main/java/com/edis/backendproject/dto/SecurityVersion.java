@@ -0,0 +1,15 @@
+package com.edis.backendproject.dto;
+
+/**
+ * Current security version of a user as embedded in issued tokens.
+ * Wrapped in a record so it keeps its type through the JSON cache serializer.
+ */
+public record SecurityVersion(long value) {
+
+    /** Returned for usernames that no longer exist; never matches a token. */
+    public static final SecurityVersion NONE = new SecurityVersion(-1);
+
+    public boolean matches(long tokenVersion) {
+        return value >= 0 && value == tokenVersion;
+    }
+}
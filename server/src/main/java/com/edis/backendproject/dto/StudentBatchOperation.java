@@ -0,0 +1,33 @@
+package com.edis.backendproject.dto;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One step of a student batch.
+ * create needs student; update needs id and student; delete needs id; reassign needs ids and projectId.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentBatchOperation {
+
+    @NotNull(message = "op is required")
+    private BatchOperationType op;
+
+    private Long id;
+
+    private List<Long> ids;
+
+    private Long projectId;
+
+    @Valid
+    private StudentRequest student;
+}
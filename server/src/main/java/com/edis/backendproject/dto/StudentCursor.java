@@ -0,0 +1,72 @@
+package com.edis.backendproject.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * Position of the last row of a student page, encoded as an opaque URL-safe token.
+ * The token carries the sort it was issued for so it cannot be replayed against another ordering.
+ */
+public record StudentCursor(StudentSort sort, String sortValue, Long id) {
+
+    private static final String SEPARATOR = "|";
+    private static final String INVALID_CURSOR = "Invalid cursor";
+
+    public StudentCursor {
+        Objects.requireNonNull(sort, "sort is required");
+        Objects.requireNonNull(sortValue, "sortValue is required");
+        Objects.requireNonNull(id, "id is required");
+    }
+
+    public static StudentCursor after(StudentSort sort, StudentView last) {
+        String value = switch (sort) {
+            case LAST_NAME -> last.lastName();
+            case CREATED_AT -> last.createdAt().toString();
+            case CODE_NUMBER -> last.codeNumber();
+        };
+        return new StudentCursor(sort, value, last.id());
+    }
+
+    public String encode() {
+        String raw = sort.name() + SEPARATOR + id + SEPARATOR + sortValue;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode()} and checks it belongs to the requested sort.
+     *
+     * @throws IllegalArgumentException when the token is malformed or was issued for a different sort.
+     */
+    public static StudentCursor decode(String token, StudentSort expectedSort) {
+        StudentCursor cursor = parse(token);
+        if (cursor.sort() != expectedSort) {
+            throw new IllegalArgumentException("Cursor was issued for a different sort");
+        }
+        return cursor;
+    }
+
+    private static StudentCursor parse(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(Pattern.quote(SEPARATOR), 3);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException(INVALID_CURSOR);
+            }
+            StudentCursor cursor = new StudentCursor(StudentSort.valueOf(parts[0]), parts[2], Long.valueOf(parts[1]));
+            if (cursor.sort() == StudentSort.CREATED_AT) {
+                cursor.createdAt();
+            }
+            return cursor;
+        } catch (DateTimeParseException | IllegalArgumentException ex) {
+            throw new IllegalArgumentException(INVALID_CURSOR, ex);
+        }
+    }
+
+    public LocalDateTime createdAt() {
+        return LocalDateTime.parse(sortValue);
+    }
+}
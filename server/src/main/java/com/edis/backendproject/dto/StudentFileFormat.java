@@ -0,0 +1,49 @@
+package com.edis.backendproject.dto;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * File formats supported by the student export and bulk import.
+ */
+public enum StudentFileFormat {
+
+    NDJSON("ndjson", "application/x-ndjson"),
+    CSV("csv", "text/csv");
+
+    private final String param;
+    private final String contentType;
+
+    StudentFileFormat(String param, String contentType) {
+        this.param = param;
+        this.contentType = contentType;
+    }
+
+    public String getParam() {
+        return param;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    /**
+     * Picks the format from an explicit parameter, falling back to the upload's file extension.
+     */
+    public static StudentFileFormat resolve(@Nullable String param, @Nullable String filename) {
+        if (param != null && !param.isBlank()) {
+            return fromParam(param);
+        }
+        String name = filename == null ? "" : filename.toLowerCase(Locale.ROOT);
+        return name.endsWith(".ndjson") || name.endsWith(".jsonl") ? NDJSON : CSV;
+    }
+
+    public static StudentFileFormat fromParam(String value) {
+        return Arrays.stream(values())
+                .filter(format -> format.param.equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unsupported export format: " + value));
+    }
+}
@@ -0,0 +1,48 @@
+package com.edis.backendproject.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+
+import org.springframework.lang.Nullable;
+
+import lombok.Builder;
+
+/**
+ * Filters accepted by /api/students/search. Every non-null field becomes one SQL predicate;
+ * the ranges are inclusive and the limit is capped so a search never returns an unbounded list.
+ */
+@Builder
+public record StudentFilter(
+        @Nullable NameSearch name,
+        @Nullable List<Long> projectIds,
+        @Nullable String title,
+        @Nullable LocalDate bornFrom,
+        @Nullable LocalDate bornTo,
+        @Nullable LocalDateTime createdFrom,
+        @Nullable LocalDateTime createdTo,
+        int limit) {
+
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+
+    public StudentFilter {
+        projectIds = projectIds == null ? List.of() : List.copyOf(projectIds);
+        title = title == null || title.isBlank() ? null : title.trim().toLowerCase(Locale.ROOT);
+        limit = limit <= 0 ? DEFAULT_LIMIT : Math.min(limit, MAX_LIMIT);
+        requireOrdered(bornFrom, bornTo, "bornFrom must not be after bornTo");
+        requireOrdered(createdFrom, createdTo, "createdFrom must not be after createdTo");
+    }
+
+    public boolean isEmpty() {
+        return name == null && projectIds.isEmpty() && title == null
+                && bornFrom == null && bornTo == null && createdFrom == null && createdTo == null;
+    }
+
+    private static <T extends Comparable<? super T>> void requireOrdered(@Nullable T from, @Nullable T to, String message) {
+        if (from != null && to != null && from.compareTo(to) > 0) {
+            throw new IllegalArgumentException(message);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.edis.backendproject.dto;
+
+import java.util.List;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Outcome of a bulk student import: how many rows were read and inserted, and why the rest were rejected.
+ */
+public record StudentImportReport(int totalRows, int importedCount, int failedCount, List<RowError> errors) {
+
+    public record RowError(int row, @Nullable String codeNumber, String message) {
+    }
+}
@@ -0,0 +1,8 @@
+package com.edis.backendproject.dto;
+
+/**
+ * A validated upload row waiting to be copied into the staging table.
+ * The row number is 1-based and counts data rows, not the CSV header.
+ */
+public record StudentImportRow(int rowNumber, StudentRequest request) {
+}
@@ -0,0 +1,7 @@
+package com.edis.backendproject.dto;
+
+/**
+ * The values a student is cached under, read without loading the entity.
+ */
+public record StudentKeys(Long id, String codeNumber, Long projectId) {
+}
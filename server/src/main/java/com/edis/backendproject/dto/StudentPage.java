@@ -0,0 +1,12 @@
+package com.edis.backendproject.dto;
+
+import java.util.List;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * One keyset page of students plus the opaque cursor for the following page.
+ * nextCursor is null when the page is the last one.
+ */
+public record StudentPage(List<StudentView> items, @Nullable String nextCursor) {
+}
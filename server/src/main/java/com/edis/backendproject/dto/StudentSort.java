@@ -0,0 +1,31 @@
+package com.edis.backendproject.dto;
+
+import java.util.Arrays;
+
+/**
+ * Sort keys supported by the paginated student listing.
+ * Each key is paired with the student id as a tie-breaker so cursors stay stable.
+ */
+public enum StudentSort {
+
+    LAST_NAME("lastName"),
+    CREATED_AT("createdAt"),
+    CODE_NUMBER("codeNumber");
+
+    private final String param;
+
+    StudentSort(String param) {
+        this.param = param;
+    }
+
+    public String getParam() {
+        return param;
+    }
+
+    public static StudentSort fromParam(String value) {
+        return Arrays.stream(values())
+                .filter(sort -> sort.param.equalsIgnoreCase(value) || sort.name().equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unsupported sort: " + value));
+    }
+}
@@ -0,0 +1,37 @@
+package com.edis.backendproject.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.edis.backendproject.model.Student;
+
+/**
+ * Read-only row for student list and search responses, selected column by column with the project
+ * name joined in, so no entity is hydrated or snapshotted for dirty checking.
+ * Serializes to the same JSON fields as {@link Student}.
+ */
+public record StudentView(
+        Long id,
+        String codeNumber,
+        String firstName,
+        String lastName,
+        LocalDate dateOfBirth,
+        String title,
+        String description,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        Long projectId,
+        String projectName) {
+
+    // JPQL constructor expression shared by the repository queries; s is the student, p its project.
+    // The join condition drops students of projects that are being purged in the background.
+    public static final String SELECT = "SELECT new com.edis.backendproject.dto.StudentView(" +
+            "s.id, s.codeNumber, s.firstName, s.lastName, s.dateOfBirth, s.title, s.description, s.createdAt, " +
+            "s.updatedAt, p.id, p.name) FROM Student s JOIN s.project p ON p.deletingAt IS NULL ";
+
+    public static StudentView from(Student student) {
+        return new StudentView(student.getId(), student.getCodeNumber(), student.getFirstName(),
+                student.getLastName(), student.getDateOfBirth(), student.getTitle(), student.getDescription(),
+                student.getCreatedAt(), student.getUpdatedAt(), student.getProjectId(), student.getProjectName());
+    }
+}
@@ -7,6 +7,7 @@ import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.AuthenticationException;
@@ -16,8 +17,11 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import com.edis.backendproject.dto.ApiResponse;
+import com.edis.backendproject.security.PasswordHashingRejectedException;
+import com.edis.backendproject.security.RateLimitExceededException;
 
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 
@@ -36,6 +40,8 @@ public class GlobalExceptionHandler {
 	private static final String PROJECT_NAME_TAKEN = "This project name is already taken";
 	private static final String DATA_INTEGRITY_ERROR = "Data integrity constraint violation";
 	private static final String INVALID_CREDENTIALS = "Invalid username or password";
+	private static final String SIGN_IN_BUSY = "Too many sign-in requests, please retry shortly";
+	private static final String TOO_MANY_REQUESTS = "Too many requests, please retry later";
 	private static final String UNEXPECTED_ERROR = "Unexpected error occurred";
 	private static final String STUDENTS_CODE_KEY = "students_code_number_key";
 	private static final String PROJECTS_NAME_KEY = "projects_name_key";
@@ -94,6 +100,23 @@ public class GlobalExceptionHandler {
 				.body(ApiResponse.error(INVALID_CREDENTIALS));
 	}
 
+	@ExceptionHandler(PasswordHashingRejectedException.class)
+	public ResponseEntity<ApiResponse<Void>> handlePasswordHashingRejected(PasswordHashingRejectedException ex) {
+		long retryAfterSeconds = Math.max(1, (ex.getRetryAfter().toMillis() + 999) / 1000);
+		return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+				.header(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds))
+				.body(ApiResponse.error(SIGN_IN_BUSY));
+	}
+
+	@ExceptionHandler(RateLimitExceededException.class)
+	public ResponseEntity<ApiResponse<Void>> handleRateLimitExceeded(RateLimitExceededException ex,
+			HttpServletResponse response) {
+		// Replaces the per-IP headers RateLimitFilter already set with those of the bucket that refused the request
+		ex.getDecision().headers().forEach((name, values) -> response.setHeader(name, values.get(0)));
+		return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+				.body(ApiResponse.error(TOO_MANY_REQUESTS));
+	}
+
 	@ExceptionHandler(DataIntegrityViolationException.class)
 	public ResponseEntity<ApiResponse<Void>> handleDataIntegrityViolation(DataIntegrityViolationException ex) {
 		String message = ex.getMessage();
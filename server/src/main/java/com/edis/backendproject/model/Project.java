@@ -3,6 +3,8 @@ package com.edis.backendproject.model;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import org.hibernate.annotations.ColumnDefault;
+
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import jakarta.persistence.*;
@@ -14,7 +16,9 @@ import lombok.Setter;
 
 /**
  * Project entity with one-to-many relationship to students.
- * Name must be unique. CreatedAt timestamp set automatically on creation.
+ * Name must be unique. CreatedAt/updatedAt timestamps are maintained by the entity callbacks.
+ * Students are removed by the database (ON DELETE CASCADE), never loaded just to be deleted;
+ * a non-null deletingAt hides a project whose students are still being purged.
  */
 @Entity
 @Table(name = "projects")
@@ -26,7 +30,8 @@ import lombok.Setter;
 public class Project {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "projects_id_seq")
+    @SequenceGenerator(name = "projects_id_seq", sequenceName = "projects_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(unique = true, nullable = false, length = 100)
@@ -38,12 +43,32 @@ public class Project {
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
 
-    @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // Written only by the V11 triggers on students; read by the dashboard and the deletion threshold.
+    // Not serialized because the cached project list is not evicted on student writes.
+    @Column(name = "student_count", insertable = false, updatable = false)
+    @ColumnDefault("0")
+    @JsonIgnore
+    private long studentCount;
+
+    @Column(name = "deleting_at")
+    @JsonIgnore
+    private LocalDateTime deletingAt;
+
+    @OneToMany(mappedBy = "project")
     @JsonIgnore
     private List<Student> students;
 
     @PrePersist  // Auto-set timestamp before insert
     protected void onCreate() {
         this.createdAt = LocalDateTime.now();
+        this.updatedAt = this.createdAt;
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = LocalDateTime.now();
     }
 }
\ No newline at end of file
@@ -27,7 +27,8 @@ import lombok.Setter;
 public class Student {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "students_id_seq")
+    @SequenceGenerator(name = "students_id_seq", sequenceName = "students_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "code_number", unique = true, nullable = false, length = 20)
@@ -51,6 +52,9 @@ public class Student {
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
 
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
     @ManyToOne(fetch = FetchType.EAGER)
     @JoinColumn(name = "project_id", nullable = false)
     @JsonBackReference
@@ -68,8 +72,32 @@ public class Student {
         return project != null ? project.getName() : null;
     }
 
+    // Restores the project reference when a cached student is read back from JSON
+    @JsonProperty("projectId")
+    private void setProjectId(Long projectId) {
+        detachedProject().setId(projectId);
+    }
+
+    @JsonProperty("projectName")
+    private void setProjectName(String projectName) {
+        detachedProject().setName(projectName);
+    }
+
+    private Project detachedProject() {
+        if (project == null) {
+            project = new Project();
+        }
+        return project;
+    }
+
     @PrePersist
     protected void onCreate() {
         this.createdAt = LocalDateTime.now();
+        this.updatedAt = this.createdAt;
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = LocalDateTime.now();
     }
 }
\ No newline at end of file
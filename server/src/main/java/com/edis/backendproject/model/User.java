@@ -34,6 +34,12 @@ public class User {
     @Column(length = 20)
     private String role = "USER";
 
+    // Seeded from the clock rather than 0, so a deleted and re-registered username never
+    // starts at a version that tokens issued to the old account still carry
+    @Builder.Default
+    @Column(name = "security_version", nullable = false)
+    private long securityVersion = System.currentTimeMillis();
+
     @PrePersist
     @PreUpdate
     public void ensureRole() {
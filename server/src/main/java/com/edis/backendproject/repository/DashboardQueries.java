@@ -0,0 +1,78 @@
+package com.edis.backendproject.repository;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Repository;
+
+import com.edis.backendproject.dto.StudentView;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The two queries behind GET /api/dashboard: active projects with their trigger-maintained student count,
+ * and the newest students of every active project in one LATERAL join, where each project reads its
+ * first rows backwards from idx_students_project_created_at.
+ */
+@Repository
+@RequiredArgsConstructor
+public class DashboardQueries {
+
+    private static final String PROJECTS = """
+            SELECT id, name, description, created_at, updated_at, student_count
+            FROM projects
+            WHERE deleting_at IS NULL
+            ORDER BY name
+            """;
+
+    private static final String RECENT_STUDENTS = """
+            SELECT s.id, s.code_number, s.first_name, s.last_name, s.date_of_birth, s.title, s.description,
+                   s.created_at, s.updated_at, p.id, p.name
+            FROM projects p
+            CROSS JOIN LATERAL (
+                SELECT id, code_number, first_name, last_name, date_of_birth, title, description, created_at, updated_at
+                FROM students
+                WHERE project_id = p.id
+                ORDER BY created_at DESC, id DESC
+                LIMIT ?
+            ) s
+            WHERE p.deleting_at IS NULL
+            ORDER BY p.id, s.created_at DESC, s.id DESC
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<ProjectRow> activeProjects() {
+        return jdbcTemplate.query(PROJECTS, (rs, row) -> new ProjectRow(rs.getLong(1), rs.getString(2), rs.getString(3),
+                toLocalDateTime(rs.getTimestamp(4)), toLocalDateTime(rs.getTimestamp(5)), rs.getLong(6)));
+    }
+
+    /**
+     * Up to {@code perProject} newest students of each active project, grouped by project id.
+     */
+    public List<StudentView> recentStudents(int perProject) {
+        return jdbcTemplate.query(RECENT_STUDENTS, (rs, row) -> toView(rs), perProject);
+    }
+
+    private static StudentView toView(ResultSet rs) throws SQLException {
+        Date dateOfBirth = rs.getDate(5);
+        return new StudentView(rs.getLong(1), rs.getString(2), rs.getString(3), rs.getString(4),
+                dateOfBirth == null ? null : dateOfBirth.toLocalDate(), rs.getString(6), rs.getString(7),
+                toLocalDateTime(rs.getTimestamp(8)), toLocalDateTime(rs.getTimestamp(9)), rs.getLong(10),
+                rs.getString(11));
+    }
+
+    private static @Nullable LocalDateTime toLocalDateTime(@Nullable Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+
+    public record ProjectRow(Long id, String name, String description, LocalDateTime createdAt,
+                             LocalDateTime updatedAt, long studentCount) {
+    }
+}
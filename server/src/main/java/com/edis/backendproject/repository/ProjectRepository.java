@@ -1,8 +1,15 @@
 package com.edis.backendproject.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.edis.backendproject.model.Project;
@@ -10,8 +17,40 @@ import com.edis.backendproject.model.Project;
 /**
  * JPA repository for Project entity.
  * Provides CRUD operations and custom query to find by name.
+ * Projects marked as deleting stay in the table until their students are purged, so reads that
+ * serve clients go through the *DeletingAtIsNull variants; name lookups still see them because
+ * the name stays taken until the row is gone.
  */
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long> {
     Optional<Project> findByName(String name);
+
+    List<Project> findAllByDeletingAtIsNull();
+
+    Optional<Project> findByIdAndDeletingAtIsNull(Long id);
+
+    List<Project> findAllByIdInAndDeletingAtIsNull(Collection<Long> ids);
+
+    boolean existsByIdAndDeletingAtIsNull(Long id);
+
+    @Query("SELECT p.id FROM Project p WHERE p.id IN :ids AND p.deletingAt IS NULL")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    // Maintained by the V11 triggers, so this reads one row instead of counting students
+    @Query("SELECT p.studentCount FROM Project p WHERE p.id = :id")
+    Optional<Long> findStudentCountById(@Param("id") Long id);
+
+    @Query("SELECT p.id FROM Project p WHERE p.deletingAt IS NOT NULL")
+    List<Long> findDeletingIds();
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Project p SET p.deletingAt = :now WHERE p.id = :id AND p.deletingAt IS NULL")
+    int markDeleting(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    // Bulk delete: students go with the row through ON DELETE CASCADE instead of being loaded
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Project p WHERE p.id = :id")
+    int deleteRowById(@Param("id") Long id);
+
+    List<Project> findByNameIn(Collection<String> names);
 }
\ No newline at end of file
@@ -0,0 +1,118 @@
+package com.edis.backendproject.repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Repository;
+
+import com.edis.backendproject.dto.ProjectStats.MonthCount;
+import com.edis.backendproject.dto.ProjectStats.ProjectCount;
+import com.edis.backendproject.dto.ProjectStats.TitleCount;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Reads and refreshes the student aggregates created in V10, which skip projects being deleted since V12.
+ * Every read scans a view with at most one row per birth month, title or creation month, or the projects
+ * table with its V11 student_count, so cost does not grow with the number of students.
+ * Only the refresh touches students, and it runs in the background.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProjectStatsQueries {
+
+    public static final String AGGREGATE_NAME = "project-stats";
+
+    private static final List<String> VIEWS = List.of(
+            "student_birth_month_stats", "student_title_stats", "student_monthly_stats");
+
+    // Projects being purged are hidden
+    private static final String PROJECT_COUNTS = """
+            SELECT id, name, student_count
+            FROM projects
+            WHERE deleting_at IS NULL
+            ORDER BY student_count DESC, name
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<ProjectCount> projectCounts() {
+        return jdbcTemplate.query(PROJECT_COUNTS,
+                (rs, row) -> new ProjectCount(rs.getLong(1), rs.getString(2), rs.getLong(3)));
+    }
+
+    /**
+     * Student counts per birth month (first day of the month); the null month counts students without a date of birth.
+     */
+    public List<MonthCount> birthMonthCounts() {
+        return jdbcTemplate.query("SELECT birth_month, student_count FROM student_birth_month_stats",
+                (rs, row) -> new MonthCount(toLocalDate(rs.getDate(1)), rs.getLong(2)));
+    }
+
+    public List<TitleCount> topTitles(int limit) {
+        return jdbcTemplate.query(
+                "SELECT title, student_count FROM student_title_stats ORDER BY student_count DESC, title LIMIT ?",
+                (rs, row) -> new TitleCount(rs.getString(1), rs.getLong(2)), limit);
+    }
+
+    public List<MonthCount> studentsCreatedPerMonth() {
+        return jdbcTemplate.query("SELECT month, student_count FROM student_monthly_stats ORDER BY month",
+                (rs, row) -> new MonthCount(toLocalDate(rs.getDate(1)), rs.getLong(2)));
+    }
+
+    // projects is small enough to aggregate on the fly
+    public List<MonthCount> projectsCreatedPerMonth() {
+        return jdbcTemplate.query("""
+                SELECT CAST(date_trunc('month', created_at) AS DATE) AS month, count(*)
+                FROM projects
+                WHERE deleting_at IS NULL
+                GROUP BY 1
+                ORDER BY 1
+                """, (rs, row) -> new MonthCount(toLocalDate(rs.getDate(1)), rs.getLong(2)));
+    }
+
+    public @Nullable LocalDateTime refreshedAt() {
+        List<Timestamp> refreshedAt = jdbcTemplate.queryForList(
+                "SELECT refreshed_at FROM aggregate_refreshes WHERE name = ?", Timestamp.class, AGGREGATE_NAME);
+        return refreshedAt.isEmpty() ? null : refreshedAt.get(0).toLocalDateTime();
+    }
+
+    /**
+     * Collection versions the views were last refreshed from, or null if they never were.
+     */
+    public @Nullable String sourceVersion() {
+        List<String> versions = jdbcTemplate.queryForList(
+                "SELECT source_version FROM aggregate_refreshes WHERE name = ?", String.class, AGGREGATE_NAME);
+        return versions.isEmpty() ? null : versions.get(0);
+    }
+
+    /**
+     * Takes a transaction-scoped advisory lock so only one replica refreshes at a time; must run in a transaction.
+     */
+    public boolean tryLockRefresh() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT pg_try_advisory_xact_lock(hashtext(?))", Boolean.class, AGGREGATE_NAME));
+    }
+
+    /**
+     * Rebuilds every view without blocking readers and records what the refresh was computed from.
+     */
+    public void refresh(String sourceVersion) {
+        VIEWS.forEach(view -> jdbcTemplate.execute("REFRESH MATERIALIZED VIEW CONCURRENTLY " + view));
+        jdbcTemplate.update("""
+                INSERT INTO aggregate_refreshes (name, source_version, refreshed_at)
+                VALUES (?, ?, CURRENT_TIMESTAMP)
+                ON CONFLICT (name) DO UPDATE SET source_version = EXCLUDED.source_version,
+                                                 refreshed_at = EXCLUDED.refreshed_at
+                """, AGGREGATE_NAME, sourceVersion);
+    }
+
+    private static @Nullable LocalDate toLocalDate(@Nullable Date date) {
+        return date == null ? null : date.toLocalDate();
+    }
+}
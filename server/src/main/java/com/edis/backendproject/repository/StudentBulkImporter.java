@@ -0,0 +1,159 @@
+package com.edis.backendproject.repository;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Repository;
+
+import com.edis.backendproject.dto.StudentImportRow;
+import com.edis.backendproject.dto.StudentRequest;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Loads validated rows into a per-transaction staging table with PostgreSQL COPY and merges them
+ * into students with a single INSERT ... ON CONFLICT statement. Must run inside a transaction,
+ * since the staging table is dropped on commit.
+ * Ids are drawn from students_id_seq in whole blocks, the way Hibernate's pooled optimizer does,
+ * because the sequence steps by 50 (V7) and a per-row column default would burn 50 ids per student.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StudentBulkImporter {
+
+    private static final String CREATE_STAGING = """
+            CREATE TEMP TABLE student_import (
+                row_no INT NOT NULL,
+                id BIGINT NOT NULL,
+                code_number VARCHAR(20) NOT NULL,
+                first_name VARCHAR(100) NOT NULL,
+                last_name VARCHAR(100) NOT NULL,
+                date_of_birth DATE,
+                title VARCHAR(200) NOT NULL,
+                description TEXT,
+                project_id BIGINT NOT NULL
+            ) ON COMMIT DROP
+            """;
+
+    private static final String COPY_STAGING = "COPY student_import (row_no, id, code_number, first_name, last_name, "
+            + "date_of_birth, title, description, project_id) FROM STDIN WITH (FORMAT csv)";
+
+    // Rows whose code number already exists come back with a null id
+    private static final String MERGE_STAGING = """
+            WITH inserted AS (
+                INSERT INTO students (id, code_number, first_name, last_name, date_of_birth, title, description, project_id)
+                SELECT id, code_number, first_name, last_name, date_of_birth, title, description, project_id
+                FROM student_import
+                ORDER BY row_no
+                ON CONFLICT (code_number) DO NOTHING
+                RETURNING id, code_number
+            )
+            SELECT i.row_no, inserted.id
+            FROM student_import i
+            LEFT JOIN inserted ON inserted.code_number = i.code_number
+            ORDER BY i.row_no
+            """;
+
+    // Each nextval is the top of a block of ID_BLOCK_SIZE ids, as for the pooled optimizer on Student
+    private static final String NEXT_ID_BLOCKS = "SELECT nextval('students_id_seq') FROM generate_series(1, ?)";
+
+    // Must equal the sequence increment (V7) and the allocationSize on Student
+    static final int ID_BLOCK_SIZE = 50;
+
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public MergeResult copyAndMerge(List<StudentImportRow> rows) {
+        jdbcTemplate.execute(CREATE_STAGING);
+        long[] ids = allocateIds(rows.size());
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            copyRows(connection, rows, ids);
+            return null;
+        });
+
+        List<Long> insertedIds = new ArrayList<>();
+        List<Integer> conflictingRows = new ArrayList<>();
+        jdbcTemplate.query(MERGE_STAGING, resultSet -> {
+            long id = resultSet.getLong(2);
+            if (resultSet.wasNull()) {
+                conflictingRows.add(resultSet.getInt(1));
+            } else {
+                insertedIds.add(id);
+            }
+        });
+        return new MergeResult(insertedIds, conflictingRows);
+    }
+
+    long[] allocateIds(int count) {
+        int blocks = (count + ID_BLOCK_SIZE - 1) / ID_BLOCK_SIZE;
+        List<Long> blockEnds = jdbcTemplate.queryForList(NEXT_ID_BLOCKS, Long.class, blocks);
+        return idsFromBlocks(blockEnds, count);
+    }
+
+    static long[] idsFromBlocks(List<Long> blockEnds, int count) {
+        long[] ids = new long[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = blockEnds.get(i / ID_BLOCK_SIZE) - ID_BLOCK_SIZE + 1 + i % ID_BLOCK_SIZE;
+        }
+        return ids;
+    }
+
+    private static void copyRows(Connection connection, List<StudentImportRow> rows, long[] ids) {
+        PGConnection pgConnection;
+        try {
+            pgConnection = connection.unwrap(PGConnection.class);
+        } catch (SQLException ex) {
+            throw new IllegalStateException("Bulk import requires a PostgreSQL connection", ex);
+        }
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                new PGCopyOutputStream(pgConnection, COPY_STAGING, COPY_BUFFER_SIZE), StandardCharsets.UTF_8))) {
+            for (int i = 0; i < rows.size(); i++) {
+                StudentImportRow row = rows.get(i);
+                StudentRequest request = row.request();
+                writer.write(Integer.toString(row.rowNumber()));
+                writer.write(',');
+                writer.write(Long.toString(ids[i]));
+                writeField(writer, request.getCodeNumber());
+                writeField(writer, request.getFirstName());
+                writeField(writer, request.getLastName());
+                writeField(writer, request.getDateOfBirth() == null ? null : request.getDateOfBirth().toString());
+                writeField(writer, request.getTitle());
+                writeField(writer, request.getDescription());
+                writeField(writer, Long.toString(request.getProjectId()));
+                writer.write('\n');
+            }
+        } catch (SQLException ex) {
+            throw new IllegalStateException("Failed to start COPY into staging table", ex);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    // In CSV COPY an unquoted empty field is NULL, so every non-null value is quoted
+    private static void writeField(Writer writer, @Nullable String value) throws IOException {
+        writer.write(',');
+        if (value == null) {
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    public record MergeResult(List<Long> insertedIds, List<Integer> conflictingRows) {
+    }
+}
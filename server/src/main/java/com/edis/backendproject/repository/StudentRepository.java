@@ -1,23 +1,36 @@
 package com.edis.backendproject.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Repository;
 
+import com.edis.backendproject.dto.StudentKeys;
+import com.edis.backendproject.dto.StudentView;
 import com.edis.backendproject.model.Student;
 
 /**
  * JPA repository for Student entity.
- * Custom queries for searching by project, code number, and name (partial match).
+ * Custom queries for searching by project and code number; filtered search goes through
+ * {@link StudentSpecifications} via JpaSpecificationExecutor.
+ * Keyset page queries order by (sort key, id) and seek past the cursor instead of using OFFSET;
+ * the redundant ">=" bound lets Postgres start the index range scan at the cursor position.
+ * List and search responses read {@link StudentView} projections; entities are loaded only for writes,
+ * single-student lookups and the search index.
  */
 @Repository
-public interface StudentRepository extends JpaRepository<Student, Long> {
+public interface StudentRepository extends JpaRepository<Student, Long>, JpaSpecificationExecutor<Student>,
+        StudentViewQueries {
 
     @Override
     @EntityGraph(attributePaths = "project")
@@ -29,16 +42,62 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
     @NonNull
     Optional<Student> findById(@NonNull Long id);
 
-    // Spring Data JPA derives this query automatically from method name
     @EntityGraph(attributePaths = "project")
-    List<Student> findByProject_Id(Long projectId);
+    List<Student> findByIdIn(Collection<Long> ids);
+
+    // One bounded chunk of a project purge; the sub-select keeps each statement's lock set small
+    @Modifying
+    @Query(value = "DELETE FROM students WHERE id IN " +
+                   "(SELECT id FROM students WHERE project_id = :projectId LIMIT :limit)", nativeQuery = true)
+    int deleteChunkByProjectId(@Param("projectId") Long projectId, @Param("limit") int limit);
+
+    @Query("SELECT new com.edis.backendproject.dto.StudentKeys(s.id, s.codeNumber, s.project.id) FROM Student s WHERE s.id IN :ids")
+    List<StudentKeys> findKeysByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Set-based move; flushes pending batch writes first and clears the context so no stale project is seen afterwards
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Student s SET s.project.id = :projectId, s.updatedAt = LOCAL DATETIME WHERE s.id IN :ids")
+    int reassignProject(@Param("ids") Collection<Long> ids, @Param("projectId") Long projectId);
 
     @EntityGraph(attributePaths = "project")
     Optional<Student> findByCodeNumber(String codeNumber);
 
-    @EntityGraph(attributePaths = "project")
-    @Query("SELECT s FROM Student s WHERE " +
-           "LOWER(s.firstName) = LOWER(:searchTerm) OR " +
-           "LOWER(s.lastName) = LOWER(:searchTerm)")
-    List<Student> searchByName(@Param("searchTerm") String searchTerm);
-}
\ No newline at end of file
+    // Transaction-scoped, so it only affects the fuzzy search that follows in the same transaction;
+    // the <% operator used by StudentSpecifications honours this threshold
+    @Query(value = "SELECT set_config('pg_trgm.word_similarity_threshold', :threshold, true)", nativeQuery = true)
+    String applyWordSimilarityThreshold(@Param("threshold") String threshold);
+
+    // Students of projects being purged are skipped, like in every StudentView query
+    @Query("SELECT s FROM Student s JOIN FETCH s.project p WHERE p.deletingAt IS NULL ORDER BY s.codeNumber, s.id")
+    List<Student> findPageOrderByCodeNumber(Limit limit);
+
+    @Query("SELECT s FROM Student s JOIN FETCH s.project p WHERE p.deletingAt IS NULL AND s.codeNumber >= :codeNumber " +
+           "AND (s.codeNumber > :codeNumber OR s.id > :id) ORDER BY s.codeNumber, s.id")
+    List<Student> findPageOrderByCodeNumberAfter(@Param("codeNumber") String codeNumber, @Param("id") Long id, Limit limit);
+
+    // Keyset pages for the API as read-only projections; the entity variants above feed the search index
+
+    @Query(StudentView.SELECT + "ORDER BY s.lastName, s.id")
+    List<StudentView> findViewPageOrderByLastName(Limit limit);
+
+    @Query(StudentView.SELECT + "WHERE s.lastName >= :lastName " +
+           "AND (s.lastName > :lastName OR s.id > :id) ORDER BY s.lastName, s.id")
+    List<StudentView> findViewPageOrderByLastNameAfter(@Param("lastName") String lastName, @Param("id") Long id, Limit limit);
+
+    @Query(StudentView.SELECT + "ORDER BY s.createdAt, s.id")
+    List<StudentView> findViewPageOrderByCreatedAt(Limit limit);
+
+    @Query(StudentView.SELECT + "WHERE s.createdAt >= :createdAt " +
+           "AND (s.createdAt > :createdAt OR s.id > :id) ORDER BY s.createdAt, s.id")
+    List<StudentView> findViewPageOrderByCreatedAtAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
+
+    @Query(StudentView.SELECT + "ORDER BY s.codeNumber, s.id")
+    List<StudentView> findViewPageOrderByCodeNumber(Limit limit);
+
+    @Query(StudentView.SELECT + "WHERE s.codeNumber >= :codeNumber " +
+           "AND (s.codeNumber > :codeNumber OR s.id > :id) ORDER BY s.codeNumber, s.id")
+    List<StudentView> findViewPageOrderByCodeNumberAfter(@Param("codeNumber") String codeNumber, @Param("id") Long id, Limit limit);
+
+    @Query(StudentView.SELECT + "WHERE p.id = :projectId ORDER BY s.lastName, s.firstName, s.id")
+    List<StudentView> findViewsByProjectId(@Param("projectId") Long projectId);
+}
@@ -0,0 +1,37 @@
+package com.edis.backendproject.repository;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.query.sqm.function.SqmFunctionRegistry;
+import org.hibernate.type.BasicTypeRegistry;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers the SQL fragments used by {@link StudentSpecifications} for name search.
+ * They render verbatim so the generated SQL matches the expression indexes from V4:
+ * lower(first_name || ' ' || last_name) for the full name and the pg_trgm {@code <%} operator.
+ * Name ordering uses the "C" collation on Postgres (byte order, whatever the database locale);
+ * other dialects compare names as they are.
+ * Registered through META-INF/services/org.hibernate.boot.model.FunctionContributor.
+ */
+public class StudentSearchFunctions implements FunctionContributor {
+
+    static final String FULL_NAME = "student_full_name";
+    static final String WORD_SIMILAR = "word_similar";
+    static final String WORD_SIMILARITY = "word_similarity";
+    static final String BYTE_ORDER = "byte_order";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        SqmFunctionRegistry registry = functionContributions.getFunctionRegistry();
+        BasicTypeRegistry types = functionContributions.getTypeConfiguration().getBasicTypeRegistry();
+
+        registry.registerPattern(FULL_NAME, "lower(?1 || ' ' || ?2)", types.resolve(StandardBasicTypes.STRING));
+        registry.registerPattern(WORD_SIMILAR, "(?1 <% ?2)", types.resolve(StandardBasicTypes.BOOLEAN));
+        registry.registerPattern(WORD_SIMILARITY, "word_similarity(?1, ?2)", types.resolve(StandardBasicTypes.DOUBLE));
+        registry.registerPattern(BYTE_ORDER,
+                functionContributions.getDialect() instanceof PostgreSQLDialect ? "(?1 collate \"C\")" : "?1",
+                types.resolve(StandardBasicTypes.STRING));
+    }
+}
@@ -0,0 +1,142 @@
+package com.edis.backendproject.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.lang.Nullable;
+
+import com.edis.backendproject.dto.NameSearch;
+import com.edis.backendproject.dto.NameSearchMode;
+import com.edis.backendproject.dto.StudentFilter;
+import com.edis.backendproject.model.Project;
+import com.edis.backendproject.model.Student;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Translates a {@link StudentFilter} into one criteria query so every filter runs in SQL.
+ * Predicates use the same lower(...) expressions as the indexes in V4/V5; the project is fetched
+ * in the same statement, projects being deleted are excluded, and results are ordered by relevance,
+ * then name and id. Name searches order names in byte order, as the in-memory StudentSearchIndex does,
+ * so both return the same rows under a limit whatever the database locale.
+ */
+public final class StudentSpecifications {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private StudentSpecifications() {
+    }
+
+    public static Specification<Student> matching(StudentFilter filter) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            // Students of projects being purged in the background are already gone for clients
+            predicates.add(cb.isNull(projectJoin(root, query).get("deletingAt")));
+            NameSearch name = filter.name();
+            if (name != null) {
+                predicates.add(nameMatches(root, cb, name));
+            }
+            if (!filter.projectIds().isEmpty()) {
+                predicates.add(root.get("project").get("id").in(filter.projectIds()));
+            }
+            if (filter.title() != null) {
+                predicates.add(cb.equal(cb.lower(root.get("title")), filter.title()));
+            }
+            if (filter.bornFrom() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("dateOfBirth"), filter.bornFrom()));
+            }
+            if (filter.bornTo() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("dateOfBirth"), filter.bornTo()));
+            }
+            if (filter.createdFrom() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("createdAt"), filter.createdFrom()));
+            }
+            if (filter.createdTo() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("createdAt"), filter.createdTo()));
+            }
+
+            if (query != null && !isCountQuery(query)) {
+                query.orderBy(ordering(root, cb, name));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    // Reuses the join a projection query already made, so the project table is joined once
+    @SuppressWarnings("unchecked")
+    private static Join<Student, Project> projectJoin(Root<Student> root, @Nullable CriteriaQuery<?> query) {
+        for (Join<Student, ?> join : root.getJoins()) {
+            if (join.getAttribute().getName().equals("project")) {
+                return (Join<Student, Project>) join;
+            }
+        }
+        // A fetch is only valid when selecting entities; Hibernate's fetches double as joins
+        if (query != null && query.getResultType() == Student.class) {
+            return (Join<Student, Project>) root.<Student, Project>fetch("project", JoinType.INNER);
+        }
+        return root.join("project");
+    }
+
+    private static Predicate nameMatches(Root<Student> root, CriteriaBuilder cb, NameSearch name) {
+        Expression<String> firstName = cb.lower(root.get("firstName"));
+        Expression<String> lastName = cb.lower(root.get("lastName"));
+        return switch (name.mode()) {
+            case EXACT -> cb.or(cb.equal(firstName, name.term()), cb.equal(lastName, name.term()));
+            case PREFIX -> cb.or(cb.like(firstName, name.prefixPattern(), LIKE_ESCAPE),
+                    cb.like(lastName, name.prefixPattern(), LIKE_ESCAPE));
+            case FUZZY -> cb.isTrue(cb.function(StudentSearchFunctions.WORD_SIMILAR, Boolean.class,
+                    boundValue(cb, name.term()), fullName(root, cb)));
+        };
+    }
+
+    private static List<Order> ordering(Root<Student> root, CriteriaBuilder cb, @Nullable NameSearch name) {
+        List<Order> orders = new ArrayList<>();
+        if (name != null && name.mode() == NameSearchMode.FUZZY) {
+            orders.add(cb.desc(cb.function(StudentSearchFunctions.WORD_SIMILARITY, Double.class,
+                    boundValue(cb, name.term()), fullName(root, cb))));
+        } else if (name != null) {
+            // Whole-word matches rank ahead of longer names that merely start with the term
+            Expression<Integer> exactFirst = cb.<Integer>selectCase()
+                    .when(cb.or(cb.equal(cb.lower(root.get("firstName")), name.term()),
+                            cb.equal(cb.lower(root.get("lastName")), name.term())), 0)
+                    .otherwise(1);
+            orders.add(cb.asc(exactFirst));
+        }
+        if (name != null) {
+            orders.add(cb.asc(byteOrder(cb, root.get("lastName"))));
+            orders.add(cb.asc(byteOrder(cb, root.get("firstName"))));
+        } else {
+            orders.add(cb.asc(root.get("lastName")));
+            orders.add(cb.asc(root.get("firstName")));
+        }
+        orders.add(cb.asc(root.get("id")));
+        return orders;
+    }
+
+    private static Expression<String> byteOrder(CriteriaBuilder cb, Expression<String> value) {
+        return cb.function(StudentSearchFunctions.BYTE_ORDER, String.class, value);
+    }
+
+    // Function arguments would otherwise be inlined as SQL literals, defeating statement caching
+    private static Expression<String> boundValue(CriteriaBuilder cb, String value) {
+        return ((HibernateCriteriaBuilder) cb).value(value);
+    }
+
+    private static Expression<String> fullName(Root<Student> root, CriteriaBuilder cb) {
+        return cb.function(StudentSearchFunctions.FULL_NAME, String.class, root.get("firstName"), root.get("lastName"));
+    }
+
+    private static boolean isCountQuery(CriteriaQuery<?> query) {
+        Class<?> resultType = query.getResultType();
+        return resultType == Long.class || resultType == long.class;
+    }
+}
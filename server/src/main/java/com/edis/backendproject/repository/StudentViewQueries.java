@@ -0,0 +1,19 @@
+package com.edis.backendproject.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.edis.backendproject.dto.StudentView;
+import com.edis.backendproject.model.Student;
+
+/**
+ * Criteria-based projections that derived and @Query methods cannot express.
+ */
+public interface StudentViewQueries {
+
+    /**
+     * Runs a student specification but selects {@link StudentView} columns instead of entities.
+     */
+    List<StudentView> findViews(Specification<Student> specification, int limit);
+}
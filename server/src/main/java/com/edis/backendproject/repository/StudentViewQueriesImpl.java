@@ -0,0 +1,43 @@
+package com.edis.backendproject.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.edis.backendproject.dto.StudentView;
+import com.edis.backendproject.model.Project;
+import com.edis.backendproject.model.Student;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Spring Data fragment implementation for {@link StudentViewQueries}.
+ */
+class StudentViewQueriesImpl implements StudentViewQueries {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<StudentView> findViews(Specification<Student> specification, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<StudentView> query = cb.createQuery(StudentView.class);
+        Root<Student> root = query.from(Student.class);
+        Join<Student, Project> project = root.join("project");
+        query.select(cb.construct(StudentView.class,
+                root.get("id"), root.get("codeNumber"), root.get("firstName"), root.get("lastName"),
+                root.get("dateOfBirth"), root.get("title"), root.get("description"), root.get("createdAt"),
+                root.get("updatedAt"), project.get("id"), project.get("name")));
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+}
@@ -2,6 +2,8 @@ package com.edis.backendproject.repository;
 
 import com.edis.backendproject.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -15,4 +17,7 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUsername(String username);
     boolean existsByUsername(String username);
     void deleteByUsername(String username);
+
+    @Query("SELECT u.securityVersion FROM User u WHERE u.username = :username")
+    Optional<Long> findSecurityVersionByUsername(@Param("username") String username);
 }
\ No newline at end of file
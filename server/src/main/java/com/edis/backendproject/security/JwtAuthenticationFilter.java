@@ -3,23 +3,31 @@ package com.edis.backendproject.security;
 import java.io.IOException;
 
 import java.util.Objects;
+import java.util.Optional;
 
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.edis.backendproject.config.RequestPhases;
 import com.edis.backendproject.service.CustomUserDetailsService;
 import com.edis.backendproject.service.TokenBlacklistService;
+import com.edis.backendproject.service.UserSecurityVersions;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -27,42 +35,114 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 
 
+/**
+ * Authenticates requests carrying a bearer JWT. Each phase (blacklist check, token parse, user lookup) is
+ * timed as {@code app.auth.jwt.phase} tagged with phase and outcome, and every token request ends in one
+ * {@code app.auth.jwt.requests} outcome; requests without a token are not counted.
+ * Phase durations also feed the Server-Timing header of profiled requests.
+ */
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    static final String PHASE_TIMER = "app.auth.jwt.phase";
+    static final String REQUEST_COUNTER = "app.auth.jwt.requests";
+
     private final JwtTokenProvider tokenProvider;
     private final CustomUserDetailsService customUserDetailsService;
     private final TokenBlacklistService tokenBlacklistService;
+    private final UserSecurityVersions securityVersions;
+    private final boolean claimsAuthentication;
+    private final MeterRegistry meterRegistry;
 
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull FilterChain filterChain)
             throws ServletException, IOException {
 
+        String jwt = getJwtFromRequest(request);
+        if (StringUtils.hasText(jwt)) {
+            String outcome = authenticate(Objects.requireNonNull(jwt), request);
+            meterRegistry.counter(REQUEST_COUNTER, "outcome", outcome).increment();
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    // The sample of the phase in progress is stopped in finally, tagged with phaseOutcome ("error" if it threw)
+    private String authenticate(String token, HttpServletRequest request) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        RequestPhases.Phase phase = RequestPhases.Phase.BLACKLIST;
+        String phaseOutcome = "error";
         try {
-            String jwt = getJwtFromRequest(request);
-
-            if (StringUtils.hasText(jwt)) {
-                String token = Objects.requireNonNull(jwt);
-                if (tokenBlacklistService.isBlacklisted(token)) {
-                    logger.debug("Blocked blacklisted JWT for URI " + request.getRequestURI());
-                } else if (tokenProvider.validateToken(token)) {
-                    String username = tokenProvider.getUsernameFromToken(token);
-                    UserDetails userDetails = customUserDetailsService.loadUserByUsername(username);
-
-                    UsernamePasswordAuthenticationToken authentication =
-                            new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
-                }
+            if (tokenBlacklistService.isBlacklisted(token)) {
+                phaseOutcome = "blacklisted";
+                logger.debug("Blocked blacklisted JWT for URI " + request.getRequestURI());
+                return "blacklisted";
+            }
+            stop(sample, phase, "clear");
+
+            sample = Timer.start(meterRegistry);
+            phase = RequestPhases.Phase.PARSE;
+            Optional<Claims> claims = tokenProvider.verify(token);
+            if (claims.isEmpty()) {
+                phaseOutcome = "invalid";
+                return "invalid";
+            }
+            stop(sample, phase, "valid");
+
+            sample = Timer.start(meterRegistry);
+            phase = RequestPhases.Phase.USER;
+            UserDetails userDetails = resolvePrincipal(claims.get());
+            if (userDetails == null) {
+                phaseOutcome = "revoked";
+                logger.debug("Rejected JWT with outdated security version for URI " + request.getRequestURI());
+                return "revoked";
             }
+            phaseOutcome = "found";
+
+            UsernamePasswordAuthenticationToken authentication =
+                    new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+            authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+
+            SecurityContextHolder.getContext().setAuthentication(authentication);
+            return "authenticated";
         } catch (ExpiredJwtException | SignatureException | MalformedJwtException | UnsupportedJwtException | IllegalArgumentException ex) {
+            phaseOutcome = "invalid";
             logger.warn("Invalid JWT", ex);
+            return "invalid";
+        } catch (UsernameNotFoundException ex) {
+            // A token without a security version whose account has been deleted since
+            phaseOutcome = "missing";
+            SecurityContextHolder.clearContext();
+            logger.debug("Rejected JWT of an unknown user for URI " + request.getRequestURI());
+            return "revoked";
+        } finally {
+            stop(sample, phase, phaseOutcome);
         }
+    }
 
-        filterChain.doFilter(request, response);
+    private void stop(Timer.Sample sample, RequestPhases.Phase phase, String outcome) {
+        long nanos = sample.stop(meterRegistry.timer(PHASE_TIMER, "phase", phase.tag(), "outcome", outcome));
+        RequestPhases.record(phase, nanos);
     }
 
+    /**
+     * Builds the principal from token claims when the token carries a security version, checking only
+     * the cached version; older tokens fall back to loading the user. Returns null for revoked versions.
+     */
+    private @Nullable UserDetails resolvePrincipal(Claims claims) {
+        String username = Objects.requireNonNull(claims.getSubject(), "JWT subject missing");
+        Long tokenVersion = tokenProvider.getSecurityVersion(claims);
+        if (!claimsAuthentication || tokenVersion == null) {
+            return customUserDetailsService.loadUserByUsername(username);
+        }
+        if (!securityVersions.currentVersion(username).matches(tokenVersion)) {
+            return null;
+        }
+        return User.withUsername(username)
+                .password("")
+                .authorities(tokenProvider.getAuthorities(claims))
+                .build();
+    }
 
     private @Nullable String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
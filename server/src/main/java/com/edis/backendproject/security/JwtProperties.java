@@ -13,4 +13,10 @@ public class JwtProperties {
     private String secret;
    
     private long expiration;
+
+    // Upper bound on verified tokens kept in memory by JwtTokenProvider
+    private long verifiedCacheSize = 10_000;
+
+    // Build the principal from token claims instead of loading the user on every request
+    private boolean claimsAuthentication = true;
 }
\ No newline at end of file
@@ -3,30 +3,58 @@ package com.edis.backendproject.security;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Date;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
+import org.springframework.lang.Nullable;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
-import lombok.RequiredArgsConstructor;
 
 /**
  * Handles JWT token creation, validation, and parsing.
- * Tokens contain username and expiration, signed with HS256 algorithm.
+ * Tokens contain username, authorities, security version and expiration, signed with HS256 algorithm.
+ * The signing key and parser are built once; verified claims are cached by token digest
+ * until the token expires, so a repeated bearer token costs a hash lookup instead of a parse.
  */
 @Component
-@RequiredArgsConstructor
 public class JwtTokenProvider {
 
+    static final String ROLES_CLAIM = "roles";
+    static final String VERSION_CLAIM = "sv";
+
     private final JwtProperties jwtProperties;
+    private final Key signingKey;
+    private final JwtParser parser;
+    private final Cache<String, Claims> verifiedTokens;
+
+    public JwtTokenProvider(JwtProperties jwtProperties) {
+        this.jwtProperties = jwtProperties;
+        this.signingKey = createSigningKey(jwtProperties);
+        this.parser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(jwtProperties.getVerifiedCacheSize())
+                .expireAfter(new UntilTokenExpiry())
+                .build();
+    }
 
-    private Key getSigningKey() {
+    private static Key createSigningKey(JwtProperties jwtProperties) {
         String secret = Objects.requireNonNull(jwtProperties.getSecret(), "JWT secret must not be null");
         byte[] keyBytes = secret.getBytes(StandardCharsets.UTF_8);
         if (keyBytes.length < 32) {
@@ -36,19 +64,33 @@ public class JwtTokenProvider {
     }
 
 
-    public String generateToken(Authentication authentication) {
+    public String generateToken(Authentication authentication, long securityVersion) {
         String username = Objects.requireNonNull(authentication.getName(), "Authentication principal must have a username");
         Date now = Objects.requireNonNull(new Date());
         Date expiryDate = Objects.requireNonNull(new Date(now.getTime() + jwtProperties.getExpiration()));
+        List<String> roles = authentication.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList();
 
         return Objects.requireNonNull(Jwts.builder()
                 .setSubject(username)
+                .claim(ROLES_CLAIM, roles)
+                .claim(VERSION_CLAIM, securityVersion)
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact());
     }
 
+    /**
+     * Verifies signature and expiry once and returns the claims, or empty when the token is invalid.
+     */
+    public Optional<Claims> verify(String token) {
+        try {
+            return Optional.of(parseClaims(token));
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
     public String getUsernameFromToken(String token) {
         Claims claims = parseClaims(token);
         return Objects.requireNonNull(claims.getSubject(), "JWT subject missing");
@@ -59,21 +101,65 @@ public class JwtTokenProvider {
         return Objects.requireNonNull(claims.getExpiration(), "JWT expiration missing");
     }
 
-    public boolean validateToken(String token) {
-        try {
-            parseClaims(token);
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            return false;
+    /**
+     * Security version embedded at login, or null for tokens issued before versions existed.
+     */
+    public @Nullable Long getSecurityVersion(Claims claims) {
+        Number version = claims.get(VERSION_CLAIM, Number.class);
+        return version == null ? null : version.longValue();
+    }
+
+    public List<GrantedAuthority> getAuthorities(Claims claims) {
+        Object roles = claims.get(ROLES_CLAIM);
+        if (!(roles instanceof Collection<?> values)) {
+            return List.of();
         }
+        return values.stream()
+                .map(value -> (GrantedAuthority) new SimpleGrantedAuthority(String.valueOf(value)))
+                .toList();
+    }
+
+    public boolean validateToken(String token) {
+        return verify(token).isPresent();
+    }
+
+    /**
+     * Drops a token from the verified cache, e.g. after it has been revoked.
+     */
+    public void invalidate(String token) {
+        verifiedTokens.invalidate(TokenDigest.of(token));
     }
 
     private Claims parseClaims(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-            .parseClaimsJws(token)
-            .getBody();
-        return Objects.requireNonNull(claims);
+        String digest = TokenDigest.of(token);
+        Claims cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null) {
+            return cached;
+        }
+        Claims claims = Objects.requireNonNull(parser.parseClaimsJws(token).getBody());
+        if (claims.getExpiration() != null) {
+            verifiedTokens.put(digest, claims);
+        }
+        return claims;
+    }
+
+    // Cached claims never outlive the token they were parsed from
+    private static final class UntilTokenExpiry implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            long remainingMillis = claims.getExpiration().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,65 @@
+package com.edis.backendproject.security;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import com.edis.backendproject.config.RequestPhases;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+
+/**
+ * Fixed pool with a bounded queue for login and registration, whose cost is dominated by BCrypt.
+ * A burst of sign-ins queues here instead of occupying servlet threads; once the queue is full,
+ * callers are turned away immediately so unrelated traffic keeps its threads.
+ */
+public class PasswordHashingExecutor implements DisposableBean {
+
+    static final String NAME = "password.hashing";
+
+    private final ThreadPoolExecutor pool;
+    private final ExecutorService executor;
+    private final Duration retryAfter;
+    private final Counter rejected;
+
+    public PasswordHashingExecutor(int threads, int queueCapacity, Duration retryAfter, MeterRegistry meterRegistry) {
+        this.pool = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("password-hashing-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry, pool, NAME);
+        this.retryAfter = retryAfter;
+        this.rejected = Counter.builder("app.auth.hashing.rejected")
+                .description("Login and registration requests refused because the hashing queue was full")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs the task on the hashing pool.
+     *
+     * @throws PasswordHashingRejectedException when every thread is busy and the queue is full
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            // Keeps the user lookup and its queries in the request's Server-Timing breakdown
+            return CompletableFuture.supplyAsync(RequestPhases.propagate(task), executor);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new PasswordHashingRejectedException(retryAfter);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        pool.shutdown();
+    }
+}
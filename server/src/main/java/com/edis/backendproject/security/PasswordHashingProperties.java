@@ -0,0 +1,27 @@
+package com.edis.backendproject.security;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * BCrypt cost and the bounded pool that runs password hashing off the request threads.
+ */
+@ConfigurationProperties(prefix = "app.auth.hashing")
+@Getter
+@Setter
+public class PasswordHashingProperties {
+
+    // BCrypt log rounds; changing it rehashes each password on its owner's next successful login
+    private int bcryptStrength = 10;
+
+    private int threads = Runtime.getRuntime().availableProcessors();
+
+    // Hashing requests allowed to wait for a thread before callers get 503
+    private int queueCapacity = 50;
+
+    private Duration retryAfter = Duration.ofSeconds(1);
+}
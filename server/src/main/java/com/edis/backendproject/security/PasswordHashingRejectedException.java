@@ -0,0 +1,20 @@
+package com.edis.backendproject.security;
+
+import java.time.Duration;
+
+/**
+ * Thrown when the password hashing pool and its queue are full; mapped to 503 with a Retry-After header.
+ */
+public class PasswordHashingRejectedException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public PasswordHashingRejectedException(Duration retryAfter) {
+        super("Password hashing capacity exhausted");
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,23 @@
+package com.edis.backendproject.security;
+
+import org.springframework.http.HttpHeaders;
+
+/**
+ * Outcome of one token bucket check, rendered as the {@code RateLimit-*} headers of the IETF
+ * rate limit fields draft plus {@code Retry-After} when the request is refused.
+ */
+public record RateLimitDecision(boolean allowed, long limit, long remaining, long resetSeconds,
+                                long retryAfterSeconds, String policy) {
+
+    public HttpHeaders headers() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("RateLimit-Limit", Long.toString(limit));
+        headers.set("RateLimit-Remaining", Long.toString(remaining));
+        headers.set("RateLimit-Reset", Long.toString(resetSeconds));
+        headers.set("RateLimit-Policy", policy);
+        if (!allowed) {
+            headers.set(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        }
+        return headers;
+    }
+}
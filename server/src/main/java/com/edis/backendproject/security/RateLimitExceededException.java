@@ -0,0 +1,18 @@
+package com.edis.backendproject.security;
+
+/**
+ * Thrown when a rate limit bucket is empty; mapped to 429 with the decision's headers.
+ */
+public class RateLimitExceededException extends RuntimeException {
+
+    private final transient RateLimitDecision decision;
+
+    public RateLimitExceededException(RateLimitDecision decision) {
+        super("Rate limit exceeded");
+        this.decision = decision;
+    }
+
+    public RateLimitDecision getDecision() {
+        return decision;
+    }
+}
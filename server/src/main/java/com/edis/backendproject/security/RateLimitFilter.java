@@ -0,0 +1,73 @@
+package com.edis.backendproject.security;
+
+import java.io.IOException;
+import java.util.Set;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.edis.backendproject.dto.ApiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Applies the per-IP limit to login and registration and the per-principal limit to the rest of {@code /api/**}.
+ * Runs right after {@link JwtAuthenticationFilter} so the principal is known; anonymous API calls are left to
+ * the authorization rules. The per-username auth limit needs the request body and is checked in AuthController.
+ * Client IPs come from {@code getRemoteAddr()}, so deployments behind a proxy need
+ * {@code server.forward-headers-strategy} set for limits to apply per client.
+ */
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String TOO_MANY_REQUESTS = "Too many requests, please retry later";
+    private static final Set<String> AUTH_PATHS = Set.of("/api/auth/login", "/api/auth/register");
+
+    private final RateLimiter rateLimiter;
+    private final RateLimitProperties properties;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        RateLimitDecision decision = decide(request);
+        if (decision != null) {
+            decision.headers().forEach((name, values) -> response.setHeader(name, values.get(0)));
+            if (!decision.allowed()) {
+                response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+                response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+                objectMapper.writeValue(response.getOutputStream(), ApiResponse.error(TOO_MANY_REQUESTS));
+                return;
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private RateLimitDecision decide(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (AUTH_PATHS.contains(path)) {
+            return "POST".equals(request.getMethod())
+                    ? rateLimiter.tryConsume(RateLimiter.AUTH_IP, request.getRemoteAddr(), properties.getAuthIp())
+                    : null;
+        }
+        if (!path.startsWith("/api/")) {
+            return null;
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return rateLimiter.tryConsume(RateLimiter.API, authentication.getName(), properties.getApi());
+    }
+}
@@ -0,0 +1,46 @@
+package com.edis.backendproject.security;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Token buckets for the auth endpoints (per client IP and per username) and for {@code /api/**} (per principal).
+ */
+@ConfigurationProperties(prefix = "app.rate-limit")
+@Getter
+@Setter
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    private String keyPrefix = "ratelimit:";
+
+    // How long to stay on the in-process buckets after a Redis failure before trying Redis again
+    private Duration fallbackCooldown = Duration.ofSeconds(10);
+
+    private Bucket authIp = new Bucket(20, 20, Duration.ofMinutes(1));
+
+    private Bucket authUsername = new Bucket(5, 5, Duration.ofMinutes(1));
+
+    private Bucket api = new Bucket(200, 100, Duration.ofSeconds(1));
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Bucket {
+
+        // Burst size: a full bucket allows this many requests back to back
+        private long capacity;
+
+        private long refillTokens;
+
+        private Duration refillPeriod;
+    }
+}
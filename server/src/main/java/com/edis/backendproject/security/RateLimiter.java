@@ -0,0 +1,187 @@
+package com.edis.backendproject.security;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Token bucket rate limiter shared by all nodes through an atomic Redis Lua script.
+ * When Redis fails, checks fall back to per-node in-process buckets for {@code fallback-cooldown}
+ * before Redis is tried again, so an outage loosens limits by the node count instead of failing requests.
+ * Every check is counted as {@code app.ratelimit.requests} tagged with rule, outcome and backend.
+ * Redis is reached through its own connection with the short {@code app.rate-limit.redis-timeout}.
+ */
+@Component
+public class RateLimiter {
+
+    static final String COUNTER = "app.ratelimit.requests";
+    static final String AUTH_IP = "auth-ip";
+    static final String AUTH_USERNAME = "auth-username";
+    static final String API = "api";
+
+    private static final Logger log = LoggerFactory.getLogger(RateLimiter.class);
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> TOKEN_BUCKET = tokenBucketScript();
+
+    private final StringRedisTemplate redisTemplate;
+    private final RateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final LongSupplier nanoClock;
+    private final Cache<String, LocalBucket> localBuckets = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterAccess(Duration.ofMinutes(10))
+            .build();
+    private volatile boolean redisFailed;
+    private volatile long redisRetryAt;
+
+    @Autowired
+    public RateLimiter(@Qualifier("rateLimitRedisTemplate") StringRedisTemplate redisTemplate,
+                       RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this(redisTemplate, properties, meterRegistry, System::nanoTime);
+    }
+
+    RateLimiter(StringRedisTemplate redisTemplate, RateLimitProperties properties, MeterRegistry meterRegistry,
+                LongSupplier nanoClock) {
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Takes one token from the bucket identified by rule and id.
+     */
+    public RateLimitDecision tryConsume(String rule, String id, RateLimitProperties.Bucket bucket) {
+        String key = properties.getKeyPrefix() + rule + ":" + id;
+        String backend = "redis";
+        BucketState state = redisAvailable() ? consumeInRedis(key, bucket) : null;
+        if (state == null) {
+            backend = "local";
+            long now = nanoClock.getAsLong();
+            state = localBuckets.get(key, ignored -> new LocalBucket(bucket.getCapacity(), now)).tryConsume(bucket, now);
+        }
+        meterRegistry.counter(COUNTER, "rule", rule, "outcome", state.allowed() ? "allowed" : "limited",
+                "backend", backend).increment();
+        return new RateLimitDecision(state.allowed(), bucket.getCapacity(), state.remaining(),
+                seconds(state.resetMillis()), Math.max(1, seconds(state.retryAfterMillis())), policy(bucket));
+    }
+
+    /**
+     * Per-username limit of the auth endpoints; usernames are compared case-insensitively.
+     *
+     * @throws RateLimitExceededException when the username's bucket is empty
+     */
+    public void checkUsername(String username) {
+        if (!properties.isEnabled() || username == null) {
+            return;
+        }
+        String id = username.trim().toLowerCase(Locale.ROOT);
+        RateLimitDecision decision = tryConsume(AUTH_USERNAME, id, properties.getAuthUsername());
+        if (!decision.allowed()) {
+            throw new RateLimitExceededException(decision);
+        }
+    }
+
+    private boolean redisAvailable() {
+        return !redisFailed || nanoClock.getAsLong() - redisRetryAt >= 0;
+    }
+
+    private BucketState consumeInRedis(String key, RateLimitProperties.Bucket bucket) {
+        try {
+            List<?> result = redisTemplate.execute(TOKEN_BUCKET, List.of(key),
+                    Long.toString(bucket.getCapacity()),
+                    Long.toString(bucket.getRefillTokens()),
+                    Long.toString(bucket.getRefillPeriod().toMillis()),
+                    "1");
+            if (result == null || result.size() != 4) {
+                throw new IllegalStateException("Unexpected token bucket reply " + result);
+            }
+            if (redisFailed) {
+                redisFailed = false;
+                log.info("Rate limiting is back on Redis");
+            }
+            return new BucketState(number(result.get(0)) == 1, number(result.get(1)), number(result.get(2)),
+                    number(result.get(3)));
+        } catch (DataAccessException | IllegalStateException ex) {
+            redisRetryAt = nanoClock.getAsLong() + properties.getFallbackCooldown().toNanos();
+            if (!redisFailed) {
+                redisFailed = true;
+                log.warn("Rate limiting falls back to in-process buckets: {}", ex.getMessage());
+            }
+            return null;
+        }
+    }
+
+    private static long number(Object value) {
+        return ((Number) value).longValue();
+    }
+
+    private static long seconds(long millis) {
+        return (millis + 999) / 1000;
+    }
+
+    // "limit;w=window": the burst size and how long an empty bucket takes to fill up again
+    private static String policy(RateLimitProperties.Bucket bucket) {
+        long windowMillis = bucket.getCapacity() * bucket.getRefillPeriod().toMillis() / bucket.getRefillTokens();
+        return bucket.getCapacity() + ";w=" + Math.max(1, seconds(windowMillis));
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static RedisScript<List> tokenBucketScript() {
+        DefaultRedisScript<List> script = new DefaultRedisScript<>();
+        script.setScriptSource(new ResourceScriptSource(new ClassPathResource("redis/token-bucket.lua")));
+        script.setResultType(List.class);
+        return script;
+    }
+
+    record BucketState(boolean allowed, long remaining, long retryAfterMillis, long resetMillis) {
+    }
+
+    // Same arithmetic as token-bucket.lua, on the local monotonic clock
+    private static final class LocalBucket {
+
+        private double tokens;
+        private long updatedAt;
+
+        LocalBucket(long capacity, long now) {
+            this.tokens = capacity;
+            this.updatedAt = now;
+        }
+
+        synchronized BucketState tryConsume(RateLimitProperties.Bucket bucket, long now) {
+            double tokensPerMilli = (double) bucket.getRefillTokens() / bucket.getRefillPeriod().toMillis();
+            if (now > updatedAt) {
+                tokens = Math.min(bucket.getCapacity(), tokens + (now - updatedAt) / 1_000_000.0 * tokensPerMilli);
+                updatedAt = now;
+            }
+            boolean allowed = tokens >= 1;
+            long retryAfterMillis = 0;
+            if (allowed) {
+                tokens -= 1;
+            } else {
+                retryAfterMillis = (long) Math.ceil((1 - tokens) / tokensPerMilli);
+            }
+            long resetMillis = (long) Math.ceil((bucket.getCapacity() - tokens) / tokensPerMilli);
+            return new BucketState(allowed, (long) Math.floor(tokens), retryAfterMillis, resetMillis);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.edis.backendproject.security;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * In-process copy of the revoked-token set, keyed by {@link TokenDigest}.
+ * A Bloom filter answers "definitely not revoked" for the common case; hits are confirmed
+ * against the exact digest map. Entries are dropped once the token would have expired anyway,
+ * and the filter is rebuilt from the surviving digests when that happens.
+ */
+public class RevokedTokenMirror {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final long PRUNE_INTERVAL_MILLIS = 60_000;
+
+    private final int expectedRevocations;
+    private final Map<String, Long> expiresAtByDigest = new ConcurrentHashMap<>();
+    private volatile BloomFilter filter;
+    private volatile long nextPruneAt;
+
+    public RevokedTokenMirror(int expectedRevocations) {
+        this.expectedRevocations = Math.max(expectedRevocations, 1_000);
+        this.filter = new BloomFilter(this.expectedRevocations);
+    }
+
+    public void add(String digest, long expiresAtMillis) {
+        long now = System.currentTimeMillis();
+        if (expiresAtMillis <= now) {
+            return;
+        }
+        expiresAtByDigest.merge(digest, expiresAtMillis, Math::max);
+        filter.put(digest);
+        if (now >= nextPruneAt) {
+            prune(now);
+        }
+    }
+
+    public boolean isRevoked(String digest) {
+        if (!filter.mightContain(digest)) {
+            return false;
+        }
+        Long expiresAt = expiresAtByDigest.get(digest);
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    public int size() {
+        return expiresAtByDigest.size();
+    }
+
+    synchronized void prune(long now) {
+        nextPruneAt = now + PRUNE_INTERVAL_MILLIS;
+        boolean removed = expiresAtByDigest.values().removeIf(expiresAt -> expiresAt <= now);
+        int size = expiresAtByDigest.size();
+        if (removed || size > filter.capacity) {
+            BloomFilter rebuilt = new BloomFilter(Math.max(expectedRevocations, size * 2));
+            expiresAtByDigest.keySet().forEach(rebuilt::put);
+            filter = rebuilt;
+            // Digests added while the new filter was being filled
+            expiresAtByDigest.keySet().forEach(rebuilt::put);
+        }
+    }
+
+    /**
+     * Fixed-size Bloom filter over digest strings using double hashing of the SHA-256 bytes.
+     */
+    static final class BloomFilter {
+
+        private final int capacity;
+        private final long bitCount;
+        private final int hashCount;
+        private final AtomicLongArray words;
+
+        BloomFilter(int capacity) {
+            this.capacity = capacity;
+            double ln2 = Math.log(2);
+            this.bitCount = Math.max(64, (long) Math.ceil(-capacity * Math.log(FALSE_POSITIVE_RATE) / (ln2 * ln2)));
+            this.hashCount = Math.max(1, (int) Math.round(bitCount / (double) capacity * ln2));
+            this.words = new AtomicLongArray((int) ((bitCount + 63) / 64));
+        }
+
+        void put(String digest) {
+            long[] hashes = hashes(digest);
+            for (int i = 0; i < hashCount; i++) {
+                long bit = index(hashes, i);
+                int word = (int) (bit >>> 6);
+                long mask = 1L << bit;
+                long current;
+                do {
+                    current = words.get(word);
+                } while ((current & mask) == 0 && !words.compareAndSet(word, current, current | mask));
+            }
+        }
+
+        boolean mightContain(String digest) {
+            long[] hashes = hashes(digest);
+            for (int i = 0; i < hashCount; i++) {
+                long bit = index(hashes, i);
+                if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private long index(long[] hashes, int i) {
+            return Math.floorMod(hashes[0] + i * hashes[1], bitCount);
+        }
+
+        private static long[] hashes(String digest) {
+            byte[] bytes;
+            try {
+                bytes = Base64.getUrlDecoder().decode(digest);
+            } catch (IllegalArgumentException ex) {
+                bytes = digest.getBytes(StandardCharsets.UTF_8);
+            }
+            long h1 = 0;
+            long h2 = 0;
+            for (int i = 0; i < bytes.length; i++) {
+                if (i < 8) {
+                    h1 = (h1 << 8) | (bytes[i] & 0xff);
+                } else if (i < 16) {
+                    h2 = (h2 << 8) | (bytes[i] & 0xff);
+                } else {
+                    h2 = h2 * 31 + bytes[i];
+                }
+            }
+            return new long[] {h1, h2 | 1};
+        }
+    }
+}
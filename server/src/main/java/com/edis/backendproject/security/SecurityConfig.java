@@ -2,53 +2,77 @@ package com.edis.backendproject.security;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import com.edis.backendproject.service.CustomUserDetailsService;
 import com.edis.backendproject.service.TokenBlacklistService;
+import com.edis.backendproject.service.UserSecurityVersions;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
 
 
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
 
+    private static final String BCRYPT_ID = "bcrypt";
+
+    private static final String PROMETHEUS_PATH = "/actuator/prometheus";
+
     private final List<String> allowedOrigins;
+    private final int serverPort;
+    private final int managementPort;
 
-    public SecurityConfig(@Value("${app.cors.allowed-origins}") String allowedOriginsProperty) {
+    public SecurityConfig(@Value("${app.cors.allowed-origins}") String allowedOriginsProperty,
+                          @Value("${server.port:8080}") int serverPort,
+                          @Value("${management.server.port:${server.port:8080}}") int managementPort) {
         this.allowedOrigins = Arrays.stream(allowedOriginsProperty.split(","))
                 .map(String::trim)
                 .filter(origin -> !origin.isEmpty())
                 .toList();
+        this.serverPort = serverPort;
+        this.managementPort = managementPort;
     }
 
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter(
             JwtTokenProvider tokenProvider,
             CustomUserDetailsService customUserDetailsService,
-            TokenBlacklistService tokenBlacklistService) {
-        return new JwtAuthenticationFilter(tokenProvider, customUserDetailsService, tokenBlacklistService);
+            TokenBlacklistService tokenBlacklistService,
+            UserSecurityVersions securityVersions,
+            JwtProperties jwtProperties,
+            MeterRegistry meterRegistry) {
+        return new JwtAuthenticationFilter(tokenProvider, customUserDetailsService, tokenBlacklistService,
+                securityVersions, jwtProperties.isClaimsAuthentication(), meterRegistry);
     }
 
  
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http,
-                                           JwtAuthenticationFilter jwtAuthenticationFilter) throws Exception {
+                                           JwtAuthenticationFilter jwtAuthenticationFilter,
+                                           RateLimiter rateLimiter,
+                                           RateLimitProperties rateLimitProperties,
+                                           ObjectMapper objectMapper) throws Exception {
 
         http
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
@@ -56,11 +80,21 @@ public class SecurityConfig {
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
                 .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
+                // Scraped without a token, but only on the internal management port
+                .requestMatchers(prometheusScrape(serverPort, managementPort)).permitAll()
                 .requestMatchers("/api/auth/login", "/api/auth/register").permitAll()
+                // Anyone can self-register, so maintenance endpoints need more than a valid token
+                .requestMatchers("/api/students/search/index/**").hasRole("ADMIN")
+                .requestMatchers(HttpMethod.PUT, "/api/users/*/role").hasRole("ADMIN")
                 .anyRequest().authenticated()
             );
 
         http.addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+        // Not a bean, so it only runs inside the security chain, after the principal is resolved
+        if (rateLimitProperties.isEnabled()) {
+            http.addFilterAfter(new RateLimitFilter(rateLimiter, rateLimitProperties, objectMapper),
+                    JwtAuthenticationFilter.class);
+        }
 
         SecurityFilterChain builtChain = http.build();
         return Objects.requireNonNull(builtChain);
@@ -103,8 +137,36 @@ public class SecurityConfig {
         return Objects.requireNonNull(manager);
     }
 
+    /**
+     * Stored hashes carry a {bcrypt} id; hashes from before the id was added still match as plain BCrypt.
+     * Successful logins rehash passwords whose id or cost differs from the configured one.
+     */
+    @Bean
+    public PasswordEncoder passwordEncoder(PasswordHashingProperties hashingProperties, MeterRegistry meterRegistry) {
+        return new TimedPasswordEncoder(delegatingPasswordEncoder(hashingProperties.getBcryptStrength()), meterRegistry);
+    }
+
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordHashingExecutor passwordHashingExecutor(PasswordHashingProperties hashingProperties,
+                                                           MeterRegistry meterRegistry) {
+        return new PasswordHashingExecutor(hashingProperties.getThreads(), hashingProperties.getQueueCapacity(),
+                hashingProperties.getRetryAfter(), meterRegistry);
+    }
+
+    /**
+     * Matches the Prometheus endpoint only when it is served on its own management port; when actuator shares
+     * the application port the scrape falls through to the authenticated rule.
+     */
+    static RequestMatcher prometheusScrape(int serverPort, int managementPort) {
+        return request -> managementPort > 0 && managementPort != serverPort
+                && request.getLocalPort() == managementPort
+                && PROMETHEUS_PATH.equals(request.getRequestURI());
+    }
+
+    static DelegatingPasswordEncoder delegatingPasswordEncoder(int bcryptStrength) {
+        PasswordEncoder bcrypt = new CostAwareBCryptPasswordEncoder(bcryptStrength);
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(BCRYPT_ID, Map.of(BCRYPT_ID, bcrypt));
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
     }
 }
\ No newline at end of file
@@ -0,0 +1,128 @@
+package com.edis.backendproject.service;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Monotonic version counters in Redis for the project list, the student roster and each project's students.
+ * Writes bump them once the transaction has completed (after the cache evictions that run on commit), so a
+ * version is never paired with data cached before the write. Controllers turn them into strong ETags.
+ * A missing counter is seeded with SETNX from the current epoch milliseconds instead of starting at 0, so a
+ * counter recreated after a Redis flush or failover does not repeat versions that clients still hold.
+ */
+@Slf4j
+@Component
+public class CollectionVersions {
+
+    static final String PROJECTS_KEY = "version:projects";
+    static final String STUDENTS_KEY = "version:students";
+    static final String PROJECT_STUDENTS_PREFIX = "version:project-students:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final LongSupplier clock;
+
+    @Autowired
+    public CollectionVersions(StringRedisTemplate redisTemplate) {
+        this(redisTemplate, System::currentTimeMillis);
+    }
+
+    CollectionVersions(StringRedisTemplate redisTemplate, LongSupplier clock) {
+        this.redisTemplate = redisTemplate;
+        this.clock = clock;
+    }
+
+    /**
+     * ETag for GET /api/projects, or null when Redis is unavailable and the response should go out untagged.
+     */
+    public @Nullable String projectsETag() {
+        return etag("projects", PROJECTS_KEY);
+    }
+
+    public @Nullable String studentsETag() {
+        return etag("students", STUDENTS_KEY);
+    }
+
+    public @Nullable String projectStudentsETag(Long projectId) {
+        return etag("project-" + projectId + "-students", PROJECT_STUDENTS_PREFIX + projectId);
+    }
+
+    // Changes with either counter, since the dashboard shows projects and students together
+    public @Nullable String dashboardETag() {
+        String projects = projectsETag();
+        String students = studentsETag();
+        return projects == null || students == null ? null : "dashboard-" + projects + "-" + students;
+    }
+
+    public void projectsChanged() {
+        afterCompletion(Set.of(PROJECTS_KEY));
+    }
+
+    /**
+     * Bumps the roster and the student lists of the given projects (old and new project of a moved student).
+     */
+    public void studentsChanged(Collection<Long> projectIds) {
+        Set<String> keys = new LinkedHashSet<>();
+        keys.add(STUDENTS_KEY);
+        projectIds.forEach(projectId -> keys.add(PROJECT_STUDENTS_PREFIX + projectId));
+        afterCompletion(keys);
+    }
+
+    private @Nullable String etag(String name, String key) {
+        try {
+            String version = redisTemplate.opsForValue().get(key);
+            if (version == null) {
+                seed(key);
+                // Another replica may have won the SETNX; whatever is stored now is the version
+                version = redisTemplate.opsForValue().get(key);
+            }
+            return version == null ? null : name + "-" + version;
+        } catch (DataAccessException ex) {
+            log.debug("Skipping ETag for {}: {}", name, ex.getMessage());
+            return null;
+        }
+    }
+
+    // afterCompletion runs after every afterCommit callback, including the transaction-aware cache evictions
+    private void afterCompletion(Set<String> keys) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        bump(keys);
+                    }
+                }
+            });
+        } else {
+            bump(keys);
+        }
+    }
+
+    private void bump(Set<String> keys) {
+        try {
+            keys.forEach(key -> {
+                // INCR on a missing key would restart the counter at 1
+                seed(key);
+                redisTemplate.opsForValue().increment(key);
+            });
+        } catch (DataAccessException ex) {
+            log.warn("Could not bump collection versions {}: {}", keys, ex.getMessage());
+        }
+    }
+
+    private void seed(String key) {
+        redisTemplate.opsForValue().setIfAbsent(key, Long.toString(clock.getAsLong()));
+    }
+}
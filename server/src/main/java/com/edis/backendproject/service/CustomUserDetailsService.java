@@ -1,9 +1,11 @@
 package com.edis.backendproject.service;
 
-import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -17,11 +19,12 @@ import lombok.RequiredArgsConstructor;
 
 /**
  * Loads user details from database for Spring Security authentication.
- * Used by AuthenticationManager during login validation.
+ * Used by AuthenticationManager during login validation, which also stores rehashed passwords
+ * through {@link #updatePassword} when the configured hash cost has changed.
  */
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
 
@@ -36,7 +39,20 @@ public class CustomUserDetailsService implements UserDetailsService {
         return Objects.requireNonNull(org.springframework.security.core.userdetails.User
                 .withUsername(user.getUsername())
                 .password(user.getPassword())
-                .authorities(Collections.emptyList()) 
+                .authorities(List.of(new SimpleGrantedAuthority("ROLE_" + user.getRole())))
+                .build());
+    }
+
+    // Same password under a new hash, so the security version and issued tokens are left alone
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, @Nullable String newPassword) {
+        String username = userDetails.getUsername();
+        User user = userRepository.findByUsername(username)
+            .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + username));
+        user.setPassword(Objects.requireNonNull(newPassword, "newPassword is required"));
+        return Objects.requireNonNull(org.springframework.security.core.userdetails.User.withUserDetails(userDetails)
+                .password(newPassword)
                 .build());
     }
 }
@@ -0,0 +1,46 @@
+package com.edis.backendproject.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.edis.backendproject.dto.DashboardProject;
+import com.edis.backendproject.dto.StudentView;
+import com.edis.backendproject.repository.DashboardQueries;
+
+/**
+ * Builds the whole dashboard (projects, counts and recent students) from two queries, replacing one
+ * project request plus one student request per project.
+ */
+@Service
+public class DashboardService {
+
+    private final DashboardQueries dashboardQueries;
+    private final int recentStudents;
+
+    public DashboardService(DashboardQueries dashboardQueries,
+                            @Value("${app.dashboard.recent-students:5}") int recentStudents) {
+        if (recentStudents < 0) {
+            throw new IllegalArgumentException("app.dashboard.recent-students must not be negative");
+        }
+        this.dashboardQueries = dashboardQueries;
+        this.recentStudents = recentStudents;
+    }
+
+    @Transactional(readOnly = true)
+    public List<DashboardProject> getDashboard() {
+        List<DashboardQueries.ProjectRow> projects = dashboardQueries.activeProjects();
+        Map<Long, List<StudentView>> students = recentStudents == 0 ? Map.of()
+                : dashboardQueries.recentStudents(recentStudents).stream()
+                        .collect(Collectors.groupingBy(StudentView::projectId));
+        return projects.stream()
+                .map(project -> new DashboardProject(project.id(), project.name(), project.description(),
+                        project.createdAt(), project.updatedAt(), project.studentCount(),
+                        students.getOrDefault(project.id(), List.of())))
+                .toList();
+    }
+}
@@ -15,5 +15,6 @@ public interface IProjectService {
 
     Project updateProject(Long id, ProjectRequest request);
 
-    void deleteProject(Long id);
+    // true when the project was hidden and its students are still being purged in the background
+    boolean deleteProject(Long id);
 }
\ No newline at end of file
@@ -1,23 +1,27 @@
 package com.edis.backendproject.service;
 
+import com.edis.backendproject.dto.StudentFilter;
+import com.edis.backendproject.dto.StudentPage;
 import com.edis.backendproject.dto.StudentRequest;
+import com.edis.backendproject.dto.StudentSort;
+import com.edis.backendproject.dto.StudentView;
 import com.edis.backendproject.model.Student;
 
 import java.util.List;
 
+import org.springframework.lang.Nullable;
+
 public interface IStudentService {
 
-    List<Student> getAllStudents();
+    StudentPage getStudentsPage(StudentSort sort, @Nullable String cursor, int limit);
 
     Student getStudentById(Long id);
 
-    List<Student> getStudentsByProject(Long projectId);
+    List<StudentView> getStudentsByProject(Long projectId);
 
     Student searchByCode(String code);
 
-    List<Student> searchByName(String name);
-
-    List<Student> searchByNameAndProject(String name, Long projectId);
+    List<StudentView> searchStudents(StudentFilter filter);
 
     Student createStudent(StudentRequest request);
 
@@ -0,0 +1,156 @@
+package com.edis.backendproject.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.edis.backendproject.config.CacheNames;
+import com.edis.backendproject.dto.BatchOperationType;
+import com.edis.backendproject.dto.BatchResult;
+import com.edis.backendproject.dto.ProjectBatchOperation;
+import com.edis.backendproject.dto.ProjectRequest;
+import com.edis.backendproject.model.Project;
+import com.edis.backendproject.repository.ProjectRepository;
+
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Applies a list of project create/update/delete operations in one transaction.
+ * Name uniqueness is checked against one upfront query instead of a lookup per operation,
+ * so pending inserts are not flushed early and go out as a single JDBC batch.
+ * Names used anywhere in the batch stay reserved until it commits.
+ * Deletes go through {@link ProjectDeletionService}, so large projects are purged in the background.
+ */
+@Service
+@RequiredArgsConstructor
+public class ProjectBatchService {
+
+    private final ProjectRepository projectRepository;
+    private final StudentSearchIndex searchIndex;
+    private final ProjectDeletionService deletionService;
+    private final CollectionVersions collectionVersions;
+
+    @Transactional
+    @CacheEvict(cacheNames = {CacheNames.PROJECTS, CacheNames.STUDENTS, CacheNames.STUDENT_PAGES}, allEntries = true)
+    public List<BatchResult> applyBatch(List<ProjectBatchOperation> operations) {
+        Map<String, Long> nameOwners = preloadNames(operations);
+        Map<Long, Project> projects = preloadProjects(operations);
+        List<BatchResult> results = new ArrayList<>(operations.size());
+        Set<Long> changedProjects = new LinkedHashSet<>();
+
+        for (int index = 0; index < operations.size(); index++) {
+            ProjectBatchOperation operation = operations.get(index);
+            BatchOperationType op = Objects.requireNonNull(operation.getOp(), "op is required");
+            Long id = switch (op) {
+                case CREATE -> {
+                    ProjectRequest request = requireProject(operation, index);
+                    claimName(nameOwners, request.getName(), null);
+                    Project saved = projectRepository.save(applyRequest(new Project(), request));
+                    nameOwners.put(saved.getName(), saved.getId());
+                    yield saved.getId();
+                }
+                case UPDATE -> {
+                    ProjectRequest request = requireProject(operation, index);
+                    Project project = project(projects, requireId(operation, index));
+                    claimName(nameOwners, request.getName(), project.getId());
+                    // save() merges in case an earlier delete in this batch cleared the persistence context
+                    projectRepository.save(applyRequest(project, request));
+                    searchIndex.projectRenamed(project.getId(), project.getName());
+                    changedProjects.add(project.getId());
+                    yield project.getId();
+                }
+                case DELETE -> {
+                    Project project = project(projects, requireId(operation, index));
+                    deletionService.delete(project.getId());
+                    projects.remove(project.getId());
+                    searchIndex.projectDeleted(project.getId());
+                    changedProjects.add(project.getId());
+                    yield project.getId();
+                }
+                case REASSIGN -> throw new IllegalArgumentException("Operation " + index + ": reassign is not supported for projects");
+            };
+            results.add(new BatchResult(index, op, List.of(id)));
+        }
+        collectionVersions.projectsChanged();
+        if (!changedProjects.isEmpty()) {
+            collectionVersions.studentsChanged(changedProjects);
+        }
+        return results;
+    }
+
+    private Map<String, Long> preloadNames(List<ProjectBatchOperation> operations) {
+        Set<String> names = new LinkedHashSet<>();
+        for (ProjectBatchOperation operation : operations) {
+            if (operation.getProject() != null && operation.getProject().getName() != null) {
+                names.add(operation.getProject().getName());
+            }
+        }
+        Map<String, Long> owners = new HashMap<>();
+        if (!names.isEmpty()) {
+            projectRepository.findByNameIn(names).forEach(project -> owners.put(project.getName(), project.getId()));
+        }
+        return owners;
+    }
+
+    private Map<Long, Project> preloadProjects(List<ProjectBatchOperation> operations) {
+        Set<Long> ids = new LinkedHashSet<>();
+        for (ProjectBatchOperation operation : operations) {
+            if (operation.getOp() != BatchOperationType.CREATE && operation.getId() != null) {
+                ids.add(operation.getId());
+            }
+        }
+        Map<Long, Project> projects = new HashMap<>();
+        if (!ids.isEmpty()) {
+            projectRepository.findAllByIdInAndDeletingAtIsNull(ids).forEach(project -> projects.put(project.getId(), project));
+        }
+        return projects;
+    }
+
+    // projectId is null for a project that has not been saved yet
+    private static void claimName(Map<String, Long> nameOwners, String name, Long projectId) {
+        Long owner = nameOwners.get(name);
+        if (owner != null && !owner.equals(projectId)) {
+            throw new IllegalArgumentException("Project with this name already exists");
+        }
+        if (projectId != null) {
+            nameOwners.put(name, projectId);
+        }
+    }
+
+    private static Project project(Map<Long, Project> projects, Long id) {
+        Project project = projects.get(id);
+        if (project == null) {
+            throw new EntityNotFoundException("Project not found");
+        }
+        return project;
+    }
+
+    private static ProjectRequest requireProject(ProjectBatchOperation operation, int index) {
+        if (operation.getProject() == null) {
+            throw new IllegalArgumentException("Operation " + index + ": project is required");
+        }
+        return operation.getProject();
+    }
+
+    private static Long requireId(ProjectBatchOperation operation, int index) {
+        if (operation.getId() == null) {
+            throw new IllegalArgumentException("Operation " + index + ": id is required");
+        }
+        return operation.getId();
+    }
+
+    private static Project applyRequest(Project project, ProjectRequest request) {
+        project.setName(Objects.requireNonNull(request.getName(), "Project name must not be null"));
+        project.setDescription(request.getDescription());
+        return project;
+    }
+}
@@ -0,0 +1,143 @@
+package com.edis.backendproject.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.edis.backendproject.repository.ProjectRepository;
+import com.edis.backendproject.repository.StudentRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Deletes projects with set-based SQL instead of loading their students.
+ * Projects up to {@code app.projects.delete.async-threshold} students are removed with one DELETE and
+ * the database cascades to students. Larger ones are marked deleting (hidden from every project lookup)
+ * and their students are purged after commit in chunks of {@code app.projects.delete.chunk-size},
+ * one short transaction each, on a dedicated single-thread pool so purges run one at a time and never
+ * occupy the shared ForkJoin pool; purges left unfinished by a restart resume on startup.
+ */
+@Slf4j
+@Service
+public class ProjectDeletionService implements DisposableBean {
+
+    private final ProjectRepository projectRepository;
+    private final StudentRepository studentRepository;
+    private final StudentCacheEvictor cacheEvictor;
+    private final CollectionVersions collectionVersions;
+    private final TransactionTemplate transactionTemplate;
+    private final long asyncThreshold;
+    private final int chunkSize;
+    private final Set<Long> purging = ConcurrentHashMap.newKeySet();
+    private final ExecutorService purgeExecutor =
+            Executors.newSingleThreadExecutor(new CustomizableThreadFactory("project-purge-"));
+
+    public ProjectDeletionService(ProjectRepository projectRepository,
+                                  StudentRepository studentRepository,
+                                  StudentCacheEvictor cacheEvictor,
+                                  CollectionVersions collectionVersions,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${app.projects.delete.async-threshold:5000}") long asyncThreshold,
+                                  @Value("${app.projects.delete.chunk-size:1000}") int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("app.projects.delete.chunk-size must be positive");
+        }
+        this.projectRepository = projectRepository;
+        this.studentRepository = studentRepository;
+        this.cacheEvictor = cacheEvictor;
+        this.collectionVersions = collectionVersions;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.asyncThreshold = asyncThreshold;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Deletes the project, or hides it and schedules a background purge when it has many students.
+     * The caller is expected to have checked that the project exists and is not already deleting.
+     *
+     * @return true when the purge continues in the background
+     */
+    @Transactional
+    public boolean delete(Long projectId) {
+        if (projectRepository.findStudentCountById(projectId).orElse(0L) <= asyncThreshold) {
+            projectRepository.deleteRowById(projectId);
+            return false;
+        }
+        projectRepository.markDeleting(projectId, LocalDateTime.now());
+        runAfterCommit(() -> schedulePurge(projectId));
+        return true;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumePendingPurges() {
+        projectRepository.findDeletingIds().forEach(this::schedulePurge);
+    }
+
+    void schedulePurge(Long projectId) {
+        if (!purging.add(projectId)) {
+            return;
+        }
+        purgeExecutor.execute(() -> {
+            try {
+                purge(projectId);
+            } catch (RuntimeException ex) {
+                // The project stays marked, so the next startup picks it up again
+                log.warn("Purge of project {} stopped: {}", projectId, ex.getMessage());
+            } finally {
+                purging.remove(projectId);
+            }
+        });
+    }
+
+    long purge(Long projectId) {
+        long removed = 0;
+        while (true) {
+            Integer deleted = transactionTemplate.execute(status ->
+                    studentRepository.deleteChunkByProjectId(projectId, chunkSize));
+            if (deleted == null || deleted == 0) {
+                break;
+            }
+            removed += deleted;
+        }
+        transactionTemplate.executeWithoutResult(status -> projectRepository.deleteRowById(projectId));
+        // Reads during the purge may have cached students that are gone now
+        cacheEvictor.evictAll();
+        collectionVersions.studentsChanged(List.of(projectId));
+        log.info("Purged project {} with {} students", projectId, removed);
+        return removed;
+    }
+
+    @Override
+    public void destroy() {
+        // An interrupted purge leaves the project marked, so the next startup resumes it
+        purgeExecutor.shutdownNow();
+    }
+
+    private static void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
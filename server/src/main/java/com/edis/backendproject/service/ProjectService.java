@@ -15,41 +15,51 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 import java.util.Objects;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 
 /**
  * Handles project CRUD operations with validation.
  * Checks for duplicate names, manages transactions.
+ * Projects marked as deleting are treated as gone; deletion itself goes through {@link ProjectDeletionService}.
  */
 @Service
+@Timed(value = "app.service", description = "Service method latency, tagged by class and method")
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class ProjectService implements IProjectService {
 
     private final ProjectRepository projectRepository;
+    private final StudentSearchIndex searchIndex;
+    private final ProjectDeletionService deletionService;
+    private final CollectionVersions collectionVersions;
 
     @Override
     @Cacheable(cacheNames = CacheNames.PROJECTS)
     public List<Project> getAllProjects() {
-        return projectRepository.findAll();
+        return projectRepository.findAllByDeletingAtIsNull();
     }
 
     public Project getProjectById(Long id) {
         return loadProject(id);
     }
 
+    // The dashboard is cached with the student pages and lists every project
     @Transactional
-    @CacheEvict(cacheNames = CacheNames.PROJECTS, allEntries = true)
+    @CacheEvict(cacheNames = {CacheNames.PROJECTS, CacheNames.STUDENT_PAGES}, allEntries = true)
     public Project createProject(ProjectRequest request) {
         String name = requireName(request);
         ensureUniqueName(name, null);
 
         Project project = applyRequest(new Project(), request);
-        return projectRepository.save(project);
+        Project saved = projectRepository.save(project);
+        collectionVersions.projectsChanged();
+        return saved;
     }
 
+    // Renames change the projectName embedded in cached students, so those entries go too
     @Transactional
-    @CacheEvict(cacheNames = CacheNames.PROJECTS, allEntries = true)
+    @CacheEvict(cacheNames = {CacheNames.PROJECTS, CacheNames.STUDENTS, CacheNames.STUDENT_PAGES}, allEntries = true)
     public Project updateProject(Long id, ProjectRequest request) {
         final Project project = loadProject(id);
         String name = requireName(request);
@@ -58,18 +68,26 @@ public class ProjectService implements IProjectService {
         }
 
         Project updated = applyRequest(project, request);
-        return projectRepository.save(updated);
+        Project saved = projectRepository.save(updated);
+        searchIndex.projectRenamed(saved.getId(), saved.getName());
+        collectionVersions.projectsChanged();
+        collectionVersions.studentsChanged(List.of(id));
+        return saved;
     }
 
     @Transactional
-    @CacheEvict(cacheNames = CacheNames.PROJECTS, allEntries = true)
-    public void deleteProject(Long id) {
-        final Project project = loadProject(id);
-        projectRepository.delete(project);
+    @CacheEvict(cacheNames = {CacheNames.PROJECTS, CacheNames.STUDENTS, CacheNames.STUDENT_PAGES}, allEntries = true)
+    public boolean deleteProject(Long id) {
+        loadProject(id);
+        boolean deferred = deletionService.delete(id);
+        searchIndex.projectDeleted(id);
+        collectionVersions.projectsChanged();
+        collectionVersions.studentsChanged(List.of(id));
+        return deferred;
     }
 
     private Project loadProject(Long id) {
-        Project project = projectRepository.findById(id)
+        Project project = projectRepository.findByIdAndDeletingAtIsNull(id)
                 .orElseThrow(() -> new EntityNotFoundException("Project not found"));
         return Objects.requireNonNull(project);
     }
@@ -0,0 +1,140 @@
+package com.edis.backendproject.service;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.edis.backendproject.config.CacheNames;
+import com.edis.backendproject.dto.ProjectStats;
+import com.edis.backendproject.dto.ProjectStats.AgeBucket;
+import com.edis.backendproject.dto.ProjectStats.MonthCount;
+import com.edis.backendproject.repository.ProjectStatsQueries;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Project analytics served from the V10 materialized views and cached in {@link CacheNames#METADATA}.
+ * Every {@code app.stats.refresh-interval-ms} the views are refreshed concurrently, but only when the project
+ * or student {@link CollectionVersions} moved since the last refresh and only by the replica holding the
+ * advisory lock; the cached stats are evicted with the refresh commit.
+ */
+@Slf4j
+@Service
+public class ProjectStatsService {
+
+    static final String STATS_KEY = "project-stats";
+
+    // Lower bounds of the age buckets; the last one is open-ended
+    private static final int[] AGE_BOUNDS = {0, 18, 25, 35, 45, 55};
+
+    private final ProjectStatsQueries statsQueries;
+    private final CollectionVersions collectionVersions;
+    private final CacheManager cacheManager;
+    private final TransactionTemplate transactionTemplate;
+    private final int topTitles;
+    private volatile String refreshedVersion;
+
+    public ProjectStatsService(ProjectStatsQueries statsQueries,
+                               CollectionVersions collectionVersions,
+                               CacheManager cacheManager,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${app.stats.top-titles:10}") int topTitles) {
+        this.statsQueries = statsQueries;
+        this.collectionVersions = collectionVersions;
+        this.cacheManager = cacheManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.topTitles = topTitles;
+    }
+
+    @Cacheable(value = CacheNames.METADATA, key = "'" + STATS_KEY + "'")
+    @Transactional(readOnly = true)
+    public ProjectStats getStats() {
+        return new ProjectStats(
+                statsQueries.projectCounts(),
+                ageDistribution(statsQueries.birthMonthCounts(), LocalDate.now()),
+                statsQueries.topTitles(topTitles),
+                statsQueries.studentsCreatedPerMonth(),
+                statsQueries.projectsCreatedPerMonth(),
+                statsQueries.refreshedAt());
+    }
+
+    /**
+     * Refreshes the views if projects or students changed since the last refresh.
+     *
+     * @return true if this call refreshed them
+     */
+    @Scheduled(fixedDelayString = "${app.stats.refresh-interval-ms:60000}",
+            initialDelayString = "${app.stats.refresh-interval-ms:60000}")
+    public boolean refreshIfChanged() {
+        String projects = collectionVersions.projectsETag();
+        String students = collectionVersions.studentsETag();
+        if (projects == null || students == null) {
+            // Without Redis writes cannot be detected; keep serving the last refresh
+            return false;
+        }
+        String version = projects + "/" + students;
+        if (version.equals(refreshedVersion)) {
+            return false;
+        }
+        Boolean refreshed = transactionTemplate.execute(status -> {
+            if (!statsQueries.tryLockRefresh()) {
+                return false;
+            }
+            if (!version.equals(statsQueries.sourceVersion())) {
+                long started = System.nanoTime();
+                statsQueries.refresh(version);
+                log.info("Refreshed project stats for {} in {} ms", version, (System.nanoTime() - started) / 1_000_000);
+            }
+            // Evicted on commit by the transaction-aware cache, also when another replica refreshed first
+            Cache cache = cacheManager.getCache(CacheNames.METADATA);
+            if (cache != null) {
+                cache.evict(STATS_KEY);
+            }
+            return true;
+        });
+        if (Boolean.TRUE.equals(refreshed)) {
+            refreshedVersion = version;
+            return true;
+        }
+        return false;
+    }
+
+    // Ages are taken at the first of the birth month, which is at most a month off
+    static List<AgeBucket> ageDistribution(List<MonthCount> birthMonths, LocalDate today) {
+        long[] counts = new long[AGE_BOUNDS.length];
+        long unknown = 0;
+        for (MonthCount month : birthMonths) {
+            if (month.month() == null) {
+                unknown += month.count();
+                continue;
+            }
+            int age = Math.max(0, Period.between(month.month(), today).getYears());
+            int bucket = AGE_BOUNDS.length - 1;
+            while (age < AGE_BOUNDS[bucket]) {
+                bucket--;
+            }
+            counts[bucket] += month.count();
+        }
+
+        List<AgeBucket> buckets = new ArrayList<>(AGE_BOUNDS.length + 1);
+        for (int i = 0; i < AGE_BOUNDS.length; i++) {
+            boolean last = i == AGE_BOUNDS.length - 1;
+            Integer maxAge = last ? null : AGE_BOUNDS[i + 1] - 1;
+            String label = last ? AGE_BOUNDS[i] + "+" : AGE_BOUNDS[i] + "-" + maxAge;
+            buckets.add(new AgeBucket(label, AGE_BOUNDS[i], maxAge, counts[i]));
+        }
+        buckets.add(new AgeBucket("unknown", null, null, unknown));
+        return buckets;
+    }
+}
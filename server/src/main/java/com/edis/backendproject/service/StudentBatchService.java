@@ -0,0 +1,185 @@
+package com.edis.backendproject.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.edis.backendproject.dto.BatchOperationType;
+import com.edis.backendproject.dto.BatchResult;
+import com.edis.backendproject.dto.StudentBatchOperation;
+import com.edis.backendproject.dto.StudentKeys;
+import com.edis.backendproject.dto.StudentRequest;
+import com.edis.backendproject.model.Project;
+import com.edis.backendproject.model.Student;
+import com.edis.backendproject.repository.ProjectRepository;
+import com.edis.backendproject.repository.StudentRepository;
+
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Applies a list of student create/update/delete/reassign operations in one transaction.
+ * Students and projects referenced by the batch are loaded up front with one query each, inserts and
+ * updates are flushed as JDBC batches at commit, and reassignments run as a single UPDATE.
+ * Cache keys touched by the whole batch are evicted once at the end.
+ */
+@Service
+@RequiredArgsConstructor
+public class StudentBatchService {
+
+    private final StudentRepository studentRepository;
+    private final ProjectRepository projectRepository;
+    private final StudentCacheEvictor cacheEvictor;
+    private final StudentSearchIndex searchIndex;
+
+    @Transactional
+    public List<BatchResult> applyBatch(List<StudentBatchOperation> operations) {
+        Map<Long, Project> projects = preloadProjects(operations);
+        preloadStudents(operations);
+
+        Set<Long> touchedIds = new LinkedHashSet<>();
+        Set<String> touchedCodes = new LinkedHashSet<>();
+        Set<Long> touchedProjects = new LinkedHashSet<>();
+        List<BatchResult> results = new ArrayList<>(operations.size());
+
+        for (int index = 0; index < operations.size(); index++) {
+            StudentBatchOperation operation = operations.get(index);
+            BatchOperationType op = Objects.requireNonNull(operation.getOp(), "op is required");
+            List<Long> ids = switch (op) {
+                case CREATE -> {
+                    StudentRequest request = requireStudent(operation, index);
+                    Student student = applyRequest(new Student(), request);
+                    student.setProject(project(projects, request.getProjectId()));
+                    Student saved = studentRepository.save(student);
+                    touchedProjects.add(saved.getProjectId());
+                    searchIndex.studentSaved(saved);
+                    yield List.of(saved.getId());
+                }
+                case UPDATE -> {
+                    StudentRequest request = requireStudent(operation, index);
+                    Student student = loadStudent(requireId(operation, index));
+                    touchedCodes.add(student.getCodeNumber());
+                    touchedProjects.add(student.getProjectId());
+                    applyRequest(student, request);
+                    if (request.getProjectId() != null && !request.getProjectId().equals(student.getProjectId())) {
+                        student.setProject(project(projects, request.getProjectId()));
+                    }
+                    touchedIds.add(student.getId());
+                    touchedCodes.add(student.getCodeNumber());
+                    touchedProjects.add(student.getProjectId());
+                    searchIndex.studentSaved(student);
+                    yield List.of(student.getId());
+                }
+                case DELETE -> {
+                    Student student = loadStudent(requireId(operation, index));
+                    studentRepository.delete(student);
+                    touchedIds.add(student.getId());
+                    touchedCodes.add(student.getCodeNumber());
+                    touchedProjects.add(student.getProjectId());
+                    searchIndex.studentDeleted(student.getId());
+                    yield List.of(student.getId());
+                }
+                case REASSIGN -> {
+                    List<Long> studentIds = operation.getIds();
+                    if (studentIds == null || studentIds.isEmpty() || operation.getProjectId() == null) {
+                        throw new IllegalArgumentException("Operation " + index + ": reassign requires ids and projectId");
+                    }
+                    Long projectId = project(projects, operation.getProjectId()).getId();
+                    List<StudentKeys> keys = studentRepository.findKeysByIdIn(studentIds);
+                    if (keys.size() != Set.copyOf(studentIds).size()) {
+                        throw new EntityNotFoundException("Student not found");
+                    }
+                    studentRepository.reassignProject(studentIds, projectId);
+                    keys.forEach(key -> {
+                        touchedIds.add(key.id());
+                        touchedCodes.add(key.codeNumber());
+                        touchedProjects.add(key.projectId());
+                    });
+                    touchedProjects.add(projectId);
+                    searchIndex.reloadStudents(studentIds);
+                    yield List.copyOf(studentIds);
+                }
+            };
+            results.add(new BatchResult(index, op, ids));
+        }
+
+        cacheEvictor.evictStudents(touchedIds, touchedCodes, touchedProjects);
+        return results;
+    }
+
+    // Warms the persistence context so per-operation lookups below don't each hit the database
+    private void preloadStudents(List<StudentBatchOperation> operations) {
+        Set<Long> ids = new LinkedHashSet<>();
+        for (StudentBatchOperation operation : operations) {
+            if ((operation.getOp() == BatchOperationType.UPDATE || operation.getOp() == BatchOperationType.DELETE)
+                    && operation.getId() != null) {
+                ids.add(operation.getId());
+            }
+        }
+        if (!ids.isEmpty()) {
+            studentRepository.findByIdIn(ids);
+        }
+    }
+
+    private Map<Long, Project> preloadProjects(List<StudentBatchOperation> operations) {
+        Set<Long> ids = new LinkedHashSet<>();
+        for (StudentBatchOperation operation : operations) {
+            if (operation.getStudent() != null && operation.getStudent().getProjectId() != null) {
+                ids.add(operation.getStudent().getProjectId());
+            }
+            if (operation.getProjectId() != null) {
+                ids.add(operation.getProjectId());
+            }
+        }
+        Map<Long, Project> projects = new HashMap<>();
+        if (!ids.isEmpty()) {
+            projectRepository.findAllByIdInAndDeletingAtIsNull(ids).forEach(project -> projects.put(project.getId(), project));
+        }
+        return projects;
+    }
+
+    private static Project project(Map<Long, Project> projects, Long projectId) {
+        Project project = projects.get(Objects.requireNonNull(projectId, "Project ID is required"));
+        if (project == null) {
+            throw new EntityNotFoundException("Project not found");
+        }
+        return project;
+    }
+
+    private Student loadStudent(Long id) {
+        Student student = studentRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Student not found"));
+        return Objects.requireNonNull(student);
+    }
+
+    private static StudentRequest requireStudent(StudentBatchOperation operation, int index) {
+        if (operation.getStudent() == null) {
+            throw new IllegalArgumentException("Operation " + index + ": student is required");
+        }
+        return operation.getStudent();
+    }
+
+    private static Long requireId(StudentBatchOperation operation, int index) {
+        if (operation.getId() == null) {
+            throw new IllegalArgumentException("Operation " + index + ": id is required");
+        }
+        return operation.getId();
+    }
+
+    private static Student applyRequest(Student target, StudentRequest request) {
+        target.setCodeNumber(request.getCodeNumber());
+        target.setFirstName(request.getFirstName());
+        target.setLastName(request.getLastName());
+        target.setDateOfBirth(request.getDateOfBirth());
+        target.setTitle(request.getTitle());
+        target.setDescription(request.getDescription());
+        return target;
+    }
+}
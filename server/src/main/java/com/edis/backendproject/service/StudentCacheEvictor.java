@@ -0,0 +1,81 @@
+package com.edis.backendproject.service;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import com.edis.backendproject.config.CacheNames;
+import com.edis.backendproject.dto.BodyFormat;
+import com.edis.backendproject.dto.CachedBody;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Evicts only the student cache entries a write actually touches.
+ * Entity entries are keyed "id:{id}" and "code:{codeNumber}", per-project lists "project:{projectId}";
+ * keyset pages live in their own cache and are dropped as a whole because any write can shift them.
+ * Rendered response bodies sit under the same keys with the {@link CachedBody#KEY_PREFIX} (one per
+ * {@link BodyFormat}) and go with them, and the matching {@link CollectionVersions} move on so ETags issued before the write stop matching.
+ */
+@Component
+@RequiredArgsConstructor
+public class StudentCacheEvictor {
+
+    static final String ID_PREFIX = "id:";
+    static final String CODE_PREFIX = "code:";
+    static final String PROJECT_PREFIX = "project:";
+
+    private final CacheManager cacheManager;
+    private final CollectionVersions collectionVersions;
+
+    /**
+     * Evicts the entries for one student; pass both the old and new values when a write changes them.
+     */
+    public void evictStudent(@Nullable Long studentId, Set<String> codeNumbers, Set<Long> projectIds) {
+        evictStudents(studentId == null ? Set.of() : Set.of(studentId), codeNumbers, projectIds);
+    }
+
+    /**
+     * Evicts the entries for a set of students in one pass, e.g. at the end of a batch.
+     */
+    public void evictStudents(Collection<Long> studentIds, Collection<String> codeNumbers, Collection<Long> projectIds) {
+        Cache students = cacheManager.getCache(CacheNames.STUDENTS);
+        if (students != null) {
+            Set<String> keys = new LinkedHashSet<>();
+            studentIds.forEach(studentId -> keys.add(ID_PREFIX + studentId));
+            codeNumbers.forEach(code -> keys.add(CODE_PREFIX + code));
+            projectIds.forEach(projectId -> {
+                keys.add(PROJECT_PREFIX + projectId);
+                for (BodyFormat format : BodyFormat.values()) {
+                    keys.add(format.cacheKey(PROJECT_PREFIX + projectId));
+                }
+            });
+            keys.forEach(students::evict);
+        }
+        evictPages();
+        collectionVersions.studentsChanged(projectIds);
+    }
+
+    /**
+     * Drops every student entry, for writes that remove rows without knowing their keys.
+     */
+    public void evictAll() {
+        Cache students = cacheManager.getCache(CacheNames.STUDENTS);
+        if (students != null) {
+            students.clear();
+        }
+        evictPages();
+    }
+
+    public void evictPages() {
+        Cache pages = cacheManager.getCache(CacheNames.STUDENT_PAGES);
+        if (pages != null) {
+            pages.clear();
+        }
+    }
+}
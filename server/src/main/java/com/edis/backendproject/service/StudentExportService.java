@@ -0,0 +1,192 @@
+package com.edis.backendproject.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.edis.backendproject.dto.StudentFileFormat;
+import com.edis.backendproject.repository.ProjectRepository;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import jakarta.persistence.EntityNotFoundException;
+
+/**
+ * Streams the student roster straight from a forward-only JDBC cursor to an output stream.
+ * Rows are written one at a time and never collected, so heap use does not grow with the table.
+ * PostgreSQL only honours the fetch size inside a transaction, hence the read-only transaction.
+ */
+@Service
+public class StudentExportService {
+
+    static final String[] COLUMNS = {
+            "id", "codeNumber", "firstName", "lastName", "dateOfBirth",
+            "title", "description", "createdAt", "projectId", "projectName"
+    };
+
+    private static final String SELECT_STUDENTS = """
+            SELECT s.id, s.code_number, s.first_name, s.last_name, s.date_of_birth,
+                   s.title, s.description, s.created_at, s.project_id, p.name
+            FROM students s
+            JOIN projects p ON p.id = s.project_id AND p.deleting_at IS NULL
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ProjectRepository projectRepository;
+    private final int fetchSize;
+
+    public StudentExportService(JdbcTemplate jdbcTemplate, ProjectRepository projectRepository,
+            @Value("${app.export.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.projectRepository = projectRepository;
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Writes every student (optionally of one project) in the requested format and returns the row count.
+     */
+    @Transactional(readOnly = true)
+    public long export(StudentFileFormat format, @Nullable Long projectId, OutputStream out) throws IOException {
+        if (projectId != null && !projectRepository.existsByIdAndDeletingAtIsNull(projectId)) {
+            throw new EntityNotFoundException("Project not found");
+        }
+        String sql = SELECT_STUDENTS + (projectId == null ? "" : "WHERE s.project_id = ?\n") + "ORDER BY s.id";
+
+        try (RowWriter writer = format == StudentFileFormat.CSV ? new CsvRowWriter(out) : new NdjsonRowWriter(out)) {
+            long[] rows = {0};
+            jdbcTemplate.query((Connection connection) -> {
+                PreparedStatement statement = connection.prepareStatement(sql,
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(fetchSize);
+                if (projectId != null) {
+                    statement.setLong(1, projectId);
+                }
+                return statement;
+            }, (ResultSet resultSet) -> {
+                try {
+                    writer.write(resultSet);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+                rows[0]++;
+            });
+            return rows[0];
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    private interface RowWriter extends AutoCloseable {
+
+        void write(ResultSet row) throws SQLException, IOException;
+
+        @Override
+        void close() throws IOException;
+    }
+
+    private static final class NdjsonRowWriter implements RowWriter {
+
+        private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+        private final JsonGenerator generator;
+
+        NdjsonRowWriter(OutputStream out) throws IOException {
+            generator = JSON_FACTORY.createGenerator(out, JsonEncoding.UTF8);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        }
+
+        @Override
+        public void write(ResultSet row) throws SQLException, IOException {
+            generator.writeStartObject();
+            generator.writeNumberField(COLUMNS[0], row.getLong(1));
+            generator.writeStringField(COLUMNS[1], row.getString(2));
+            generator.writeStringField(COLUMNS[2], row.getString(3));
+            generator.writeStringField(COLUMNS[3], row.getString(4));
+            Date dateOfBirth = row.getDate(5);
+            generator.writeStringField(COLUMNS[4], dateOfBirth == null ? null : dateOfBirth.toLocalDate().toString());
+            generator.writeStringField(COLUMNS[5], row.getString(6));
+            generator.writeStringField(COLUMNS[6], row.getString(7));
+            Timestamp createdAt = row.getTimestamp(8);
+            generator.writeStringField(COLUMNS[7], createdAt == null ? null : createdAt.toLocalDateTime().toString());
+            generator.writeNumberField(COLUMNS[8], row.getLong(9));
+            generator.writeStringField(COLUMNS[9], row.getString(10));
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.close();
+        }
+    }
+
+    private static final class CsvRowWriter implements RowWriter {
+
+        private final Writer writer;
+
+        CsvRowWriter(OutputStream out) throws IOException {
+            writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 16 * 1024);
+            writer.write(String.join(",", COLUMNS));
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void write(ResultSet row) throws SQLException, IOException {
+            Date dateOfBirth = row.getDate(5);
+            Timestamp createdAt = row.getTimestamp(8);
+            writer.write(Long.toString(row.getLong(1)));
+            writeField(row.getString(2));
+            writeField(row.getString(3));
+            writeField(row.getString(4));
+            writeField(dateOfBirth == null ? null : dateOfBirth.toLocalDate().toString());
+            writeField(row.getString(6));
+            writeField(row.getString(7));
+            writeField(createdAt == null ? null : createdAt.toLocalDateTime().toString());
+            writeField(Long.toString(row.getLong(9)));
+            writeField(row.getString(10));
+            writer.write("\r\n");
+        }
+
+        // RFC 4180 quoting: only fields containing a separator, quote or line break are quoted
+        private void writeField(@Nullable String value) throws IOException {
+            writer.write(',');
+            if (value == null) {
+                return;
+            }
+            boolean quote = false;
+            for (int i = 0; i < value.length() && !quote; i++) {
+                char c = value.charAt(i);
+                quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+            }
+            if (!quote) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.flush();
+        }
+    }
+}
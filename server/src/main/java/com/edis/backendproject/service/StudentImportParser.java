@@ -0,0 +1,180 @@
+package com.edis.backendproject.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.springframework.lang.Nullable;
+
+import com.edis.backendproject.dto.StudentFileFormat;
+import com.edis.backendproject.dto.StudentRequest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+/**
+ * Reads bulk-import uploads row by row into {@link StudentRequest}s.
+ * CSV uploads need a header naming the StudentRequest fields; NDJSON uploads hold one object per line.
+ * Rows that cannot be read are reported with an error instead of aborting the upload.
+ */
+class StudentImportParser {
+
+    private static final List<String> CSV_COLUMNS = List.of(
+            "codeNumber", "firstName", "lastName", "dateOfBirth", "title", "description", "projectId");
+
+    record ParsedRow(int rowNumber, @Nullable StudentRequest request, @Nullable String error) {
+    }
+
+    private final ObjectReader jsonReader;
+
+    StudentImportParser(ObjectReader jsonReader) {
+        this.jsonReader = jsonReader;
+    }
+
+    void parse(InputStream input, StudentFileFormat format, Consumer<ParsedRow> consumer) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        if (format == StudentFileFormat.NDJSON) {
+            parseNdjson(reader, consumer);
+        } else {
+            parseCsv(reader, consumer);
+        }
+    }
+
+    private void parseNdjson(BufferedReader reader, Consumer<ParsedRow> consumer) throws IOException {
+        int rowNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            rowNumber++;
+            try {
+                consumer.accept(new ParsedRow(rowNumber, jsonReader.readValue(line), null));
+            } catch (JsonProcessingException ex) {
+                consumer.accept(new ParsedRow(rowNumber, null, "Malformed JSON row"));
+            }
+        }
+    }
+
+    private void parseCsv(BufferedReader reader, Consumer<ParsedRow> consumer) throws IOException {
+        List<String> header = readRecord(reader);
+        if (header == null) {
+            return;
+        }
+        Map<String, Integer> positions = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            positions.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        for (String column : CSV_COLUMNS) {
+            if (!positions.containsKey(column.toLowerCase(Locale.ROOT)) && !"description".equals(column)
+                    && !"dateOfBirth".equals(column)) {
+                throw new IllegalArgumentException("CSV header is missing column " + column);
+            }
+        }
+
+        int rowNumber = 0;
+        List<String> record;
+        while ((record = readRecord(reader)) != null) {
+            if (record.size() == 1 && record.get(0).isBlank()) {
+                continue;
+            }
+            rowNumber++;
+            consumer.accept(toRow(rowNumber, record, positions));
+        }
+    }
+
+    private static ParsedRow toRow(int rowNumber, List<String> record, Map<String, Integer> positions) {
+        StudentRequest request = new StudentRequest();
+        request.setCodeNumber(field(record, positions, "codeNumber"));
+        request.setFirstName(field(record, positions, "firstName"));
+        request.setLastName(field(record, positions, "lastName"));
+        request.setTitle(field(record, positions, "title"));
+        request.setDescription(field(record, positions, "description"));
+
+        String dateOfBirth = field(record, positions, "dateOfBirth");
+        if (dateOfBirth != null) {
+            try {
+                request.setDateOfBirth(LocalDate.parse(dateOfBirth));
+            } catch (DateTimeParseException ex) {
+                return new ParsedRow(rowNumber, null, "dateOfBirth must be an ISO date (yyyy-MM-dd)");
+            }
+        }
+        String projectId = field(record, positions, "projectId");
+        if (projectId != null) {
+            try {
+                request.setProjectId(Long.valueOf(projectId));
+            } catch (NumberFormatException ex) {
+                return new ParsedRow(rowNumber, null, "projectId must be a number");
+            }
+        }
+        return new ParsedRow(rowNumber, request, null);
+    }
+
+    // Empty cells become null so @NotBlank/@NotNull report them like a missing JSON field
+    private static @Nullable String field(List<String> record, Map<String, Integer> positions, String column) {
+        Integer position = positions.get(column.toLowerCase(Locale.ROOT));
+        if (position == null || position >= record.size()) {
+            return null;
+        }
+        String value = record.get(position).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * Reads one RFC 4180 record, honouring quoted separators, doubled quotes and line breaks.
+     * Returns null at end of input.
+     */
+    static @Nullable List<String> readRecord(Reader reader) throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean sawAny = false;
+        int c;
+        while ((c = reader.read()) != -1) {
+            sawAny = true;
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    int next = reader.read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        if (next != -1) {
+                            reader.reset();
+                        }
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r') {
+                // Part of a CRLF line ending
+            } else if (c == '\n') {
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+        }
+        if (!sawAny) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
@@ -0,0 +1,143 @@
+package com.edis.backendproject.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.edis.backendproject.dto.StudentFileFormat;
+import com.edis.backendproject.dto.StudentImportReport;
+import com.edis.backendproject.dto.StudentImportReport.RowError;
+import com.edis.backendproject.dto.StudentImportRow;
+import com.edis.backendproject.dto.StudentRequest;
+import com.edis.backendproject.repository.ProjectRepository;
+import com.edis.backendproject.repository.StudentBulkImporter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/**
+ * Imports a CSV or NDJSON upload of students in one transaction.
+ * Rows are validated with the same constraints as {@link StudentRequest}, projects are checked with a
+ * single query, and the survivors are copied and merged by {@link StudentBulkImporter}.
+ * Student caches are evicted once for the whole upload.
+ */
+@Service
+public class StudentImportService {
+
+    static final String CODE_NUMBER_TAKEN = "This student ID is already taken";
+
+    private final StudentBulkImporter bulkImporter;
+    private final ProjectRepository projectRepository;
+    private final StudentCacheEvictor cacheEvictor;
+    private final StudentSearchIndex searchIndex;
+    private final Validator validator;
+    private final StudentImportParser parser;
+    private final int maxRows;
+
+    public StudentImportService(StudentBulkImporter bulkImporter,
+            ProjectRepository projectRepository,
+            StudentCacheEvictor cacheEvictor,
+            StudentSearchIndex searchIndex,
+            Validator validator,
+            ObjectMapper objectMapper,
+            @Value("${app.import.max-rows:50000}") int maxRows) {
+        this.bulkImporter = bulkImporter;
+        this.projectRepository = projectRepository;
+        this.cacheEvictor = cacheEvictor;
+        this.searchIndex = searchIndex;
+        this.validator = validator;
+        this.parser = new StudentImportParser(objectMapper.readerFor(StudentRequest.class));
+        this.maxRows = maxRows;
+    }
+
+    @Transactional
+    public StudentImportReport importStudents(InputStream input, StudentFileFormat format) throws IOException {
+        List<StudentImportRow> candidates = new ArrayList<>();
+        List<RowError> errors = new ArrayList<>();
+        Set<String> seenCodes = new HashSet<>();
+        int[] totalRows = {0};
+
+        parser.parse(input, format, parsed -> {
+            if (++totalRows[0] > maxRows) {
+                throw new IllegalArgumentException("Import is limited to " + maxRows + " rows");
+            }
+            StudentRequest request = parsed.request();
+            if (request == null) {
+                errors.add(new RowError(parsed.rowNumber(), null, parsed.error()));
+                return;
+            }
+            String violations = violations(request);
+            if (violations != null) {
+                errors.add(new RowError(parsed.rowNumber(), request.getCodeNumber(), violations));
+            } else if (!seenCodes.add(request.getCodeNumber())) {
+                errors.add(new RowError(parsed.rowNumber(), request.getCodeNumber(), "Duplicate codeNumber in upload"));
+            } else {
+                candidates.add(new StudentImportRow(parsed.rowNumber(), request));
+            }
+        });
+
+        List<StudentImportRow> rows = withExistingProjects(candidates, errors);
+        int imported = 0;
+        if (!rows.isEmpty()) {
+            StudentBulkImporter.MergeResult result = bulkImporter.copyAndMerge(rows);
+            imported = result.insertedIds().size();
+            Map<Integer, String> codesByRow = new HashMap<>();
+            rows.forEach(row -> codesByRow.put(row.rowNumber(), row.request().getCodeNumber()));
+            result.conflictingRows().forEach(row -> errors.add(new RowError(row, codesByRow.get(row), CODE_NUMBER_TAKEN)));
+
+            if (imported > 0) {
+                Set<Long> projectIds = rows.stream()
+                        .map(row -> row.request().getProjectId())
+                        .collect(Collectors.toCollection(LinkedHashSet::new));
+                cacheEvictor.evictStudent(null, Set.of(), projectIds);
+                searchIndex.reloadStudents(result.insertedIds());
+            }
+        }
+
+        errors.sort(Comparator.comparingInt(RowError::row));
+        return new StudentImportReport(totalRows[0], imported, errors.size(), errors);
+    }
+
+    // Rows pointing at unknown projects are rejected here rather than failing the whole COPY on the foreign key
+    private List<StudentImportRow> withExistingProjects(List<StudentImportRow> candidates, List<RowError> errors) {
+        if (candidates.isEmpty()) {
+            return candidates;
+        }
+        Set<Long> requested = candidates.stream().map(row -> row.request().getProjectId()).collect(Collectors.toSet());
+        Set<Long> existing = projectRepository.findExistingIds(requested);
+        List<StudentImportRow> rows = new ArrayList<>(candidates.size());
+        for (StudentImportRow row : candidates) {
+            if (existing.contains(row.request().getProjectId())) {
+                rows.add(row);
+            } else {
+                errors.add(new RowError(row.rowNumber(), row.request().getCodeNumber(), "Project not found"));
+            }
+        }
+        return rows;
+    }
+
+    private @Nullable String violations(StudentRequest request) {
+        Set<ConstraintViolation<StudentRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                .map(ConstraintViolation::getMessage)
+                .collect(Collectors.joining("; "));
+    }
+}
@@ -0,0 +1,531 @@
+package com.edis.backendproject.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.edis.backendproject.dto.NameSearchMode;
+import com.edis.backendproject.dto.SearchIndexReport;
+import com.edis.backendproject.dto.StudentFilter;
+import com.edis.backendproject.model.Project;
+import com.edis.backendproject.model.Student;
+import com.edis.backendproject.repository.StudentRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Optional in-JVM inverted index over student first and last names that answers PREFIX name searches
+ * with the same results as the SQL path. The term is tokenized and every token treated as a prefix:
+ * postings of all terms starting with it are merged, then intersected across tokens using sorted long[]
+ * posting lists. The candidates are checked against lower(first_name) / lower(last_name) LIKE 'term%'
+ * and ordered like StudentSpecifications (whole-name matches first, then last name, first name, id).
+ * Names compare by code point, the byte order the SQL path sorts name searches in (COLLATE "C").
+ * Results are served from detached snapshots, so a hit never touches Postgres.
+ *
+ * Built on startup when app.search.index.enabled is set, kept current by StudentService and
+ * ProjectService after their transactions commit, and checkable against the database via verify().
+ */
+@Slf4j
+@Component
+public class StudentSearchIndex {
+
+    private static final int LOAD_BATCH_SIZE = 1_000;
+    private static final int REPORT_SAMPLE_SIZE = 100;
+
+    private final StudentRepository studentRepository;
+    private final boolean enabled;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Lock rebuildLock = new ReentrantLock();
+
+    private TreeMap<String, Postings> terms = new TreeMap<>();
+    private Map<Long, Doc> docs = new HashMap<>();
+    private volatile boolean serving;
+
+    // Ids written while a rebuild is scanning the table; reloaded once the new index is swapped in
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+    private volatile boolean rebuilding;
+
+    public StudentSearchIndex(StudentRepository studentRepository,
+            @Value("${app.search.index.enabled:false}") boolean enabled) {
+        this.studentRepository = studentRepository;
+        this.enabled = enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    /**
+     * True when the index is enabled, built, and can answer this filter on its own
+     * (a PREFIX name search, optionally restricted to projects).
+     */
+    public boolean canServe(StudentFilter filter) {
+        return serving && filter.name() != null && filter.name().mode() == NameSearchMode.PREFIX
+                && !tokenize(filter.name().term()).isEmpty()
+                && filter.title() == null
+                && filter.bornFrom() == null && filter.bornTo() == null
+                && filter.createdFrom() == null && filter.createdTo() == null;
+    }
+
+    public List<Student> search(String term, Collection<Long> projectIds, int limit) {
+        String prefix = term.trim().toLowerCase(Locale.ROOT);
+        String[] tokens = tokenize(prefix).toArray(String[]::new);
+        if (tokens.length == 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            long[] matches = null;
+            for (String token : tokens) {
+                long[] tokenMatches = prefixPostings(token);
+                matches = matches == null ? tokenMatches : intersect(matches, tokenMatches);
+                if (matches.length == 0) {
+                    return List.of();
+                }
+            }
+            Set<Long> projects = projectIds.isEmpty() ? Set.of() : new HashSet<>(projectIds);
+            List<Doc> hits = new ArrayList<>();
+            for (long id : Objects.requireNonNull(matches)) {
+                Doc doc = docs.get(id);
+                if (doc != null && doc.startsWith(prefix)
+                        && (projects.isEmpty() || projects.contains(doc.student().getProjectId()))) {
+                    hits.add(doc);
+                }
+            }
+            return hits.stream()
+                    .sorted(Comparator.comparing((Doc doc) -> !doc.equalsName(prefix))
+                            .thenComparing(doc -> doc.student().getLastName(), StudentSearchIndex::compareCodePoints)
+                            .thenComparing(doc -> doc.student().getFirstName(), StudentSearchIndex::compareCodePoints)
+                            .thenComparing(doc -> doc.student().getId()))
+                    .limit(limit)
+                    .map(Doc::student)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // UTF-8 byte order; String.compareTo differs from it for characters above U+FFFF
+    static int compareCodePoints(String a, String b) {
+        int i = 0;
+        int j = 0;
+        while (i < a.length() && j < b.length()) {
+            int left = a.codePointAt(i);
+            int right = b.codePointAt(j);
+            if (left != right) {
+                return Integer.compare(left, right);
+            }
+            i += Character.charCount(left);
+            j += Character.charCount(right);
+        }
+        return Integer.compare(a.length() - i, b.length() - j);
+    }
+
+    public void studentSaved(Student student) {
+        Student snapshot = snapshot(student);
+        afterCommit(() -> apply(snapshot.getId(), snapshot));
+    }
+
+    /**
+     * Reloads students written by set-based statements (bulk import, reassignment) once the transaction
+     * commits; skipped entirely when the index is off.
+     */
+    public void reloadStudents(List<Long> studentIds) {
+        if (!enabled || studentIds.isEmpty()) {
+            return;
+        }
+        List<Long> ids = List.copyOf(studentIds);
+        afterCommit(() -> {
+            for (int from = 0; from < ids.size(); from += LOAD_BATCH_SIZE) {
+                List<Long> batch = ids.subList(from, Math.min(from + LOAD_BATCH_SIZE, ids.size()));
+                studentRepository.findByIdIn(batch).forEach(student -> apply(student.getId(), snapshot(student)));
+            }
+        });
+    }
+
+    public void studentDeleted(Long studentId) {
+        afterCommit(() -> apply(studentId, null));
+    }
+
+    public void projectRenamed(Long projectId, String projectName) {
+        afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                docs.values().stream()
+                        .filter(doc -> projectId.equals(doc.student().getProjectId()))
+                        .forEach(doc -> doc.student().getProject().setName(projectName));
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    public void projectDeleted(Long projectId) {
+        afterCommit(() -> {
+            List<Long> ids;
+            lock.readLock().lock();
+            try {
+                ids = docs.values().stream()
+                        .map(Doc::student)
+                        .filter(student -> projectId.equals(student.getProjectId()))
+                        .map(Student::getId)
+                        .toList();
+            } finally {
+                lock.readLock().unlock();
+            }
+            ids.forEach(id -> apply(id, null));
+        });
+    }
+
+    /**
+     * Rebuilds the index from the database and swaps it in atomically.
+     */
+    public SearchIndexReport rebuild() {
+        if (!enabled) {
+            return verify();
+        }
+        // One rebuild at a time, so a second one cannot clear the ids the first is still collecting
+        rebuildLock.lock();
+        try {
+            return rebuildExclusively();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private SearchIndexReport rebuildExclusively() {
+        long started = System.nanoTime();
+        rebuilding = true;
+        changedDuringRebuild.clear();
+        TreeMap<String, Postings> newTerms = new TreeMap<>();
+        Map<Long, Doc> newDocs = new HashMap<>();
+        try {
+            forEachStudent(student -> addDoc(newTerms, newDocs, snapshot(student)));
+            lock.writeLock().lock();
+            try {
+                terms = newTerms;
+                docs = newDocs;
+                serving = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            rebuilding = false;
+        }
+        for (Long id : new ArrayList<>(changedDuringRebuild)) {
+            apply(id, studentRepository.findById(id).map(StudentSearchIndex::snapshot).orElse(null));
+        }
+        changedDuringRebuild.clear();
+        log.info("Student search index built with {} documents and {} terms in {} ms",
+                newDocs.size(), newTerms.size(), (System.nanoTime() - started) / 1_000_000);
+        return verify();
+    }
+
+    /**
+     * Compares every indexed document with the current database row.
+     */
+    public SearchIndexReport verify() {
+        Set<Long> seen = new HashSet<>();
+        List<Long> missing = new ArrayList<>();
+        List<Long> stale = new ArrayList<>();
+        long[] databaseCount = {0};
+        forEachStudent(student -> {
+            databaseCount[0]++;
+            seen.add(student.getId());
+            Doc doc;
+            lock.readLock().lock();
+            try {
+                doc = docs.get(student.getId());
+            } finally {
+                lock.readLock().unlock();
+            }
+            if (doc == null) {
+                missing.add(student.getId());
+            } else if (!fingerprint(doc.student()).equals(fingerprint(student))) {
+                stale.add(student.getId());
+            }
+        });
+
+        List<Long> extra;
+        int indexedCount;
+        lock.readLock().lock();
+        try {
+            indexedCount = docs.size();
+            extra = docs.keySet().stream().filter(id -> !seen.contains(id)).sorted().toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+        return new SearchIndexReport(enabled, serving, indexedCount, databaseCount[0],
+                missing.size(), stale.size(), extra.size(),
+                sample(missing), sample(stale), sample(extra));
+    }
+
+    private void apply(Long studentId, @Nullable Student snapshot) {
+        if (!enabled) {
+            return;
+        }
+        if (rebuilding) {
+            changedDuringRebuild.add(studentId);
+        }
+        lock.writeLock().lock();
+        try {
+            removeDoc(terms, docs, studentId);
+            if (snapshot != null) {
+                addDoc(terms, docs, snapshot);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void forEachStudent(Consumer<Student> consumer) {
+        Limit batch = Limit.of(LOAD_BATCH_SIZE);
+        List<Student> page = studentRepository.findPageOrderByCodeNumber(batch);
+        while (!page.isEmpty()) {
+            page.forEach(consumer);
+            if (page.size() < LOAD_BATCH_SIZE) {
+                return;
+            }
+            Student last = page.get(page.size() - 1);
+            page = studentRepository.findPageOrderByCodeNumberAfter(last.getCodeNumber(), last.getId(), batch);
+        }
+    }
+
+    private long[] prefixPostings(String prefix) {
+        SortedMap<String, Postings> range = terms.subMap(prefix, prefix + Character.MAX_VALUE);
+        return merge(range.values());
+    }
+
+    private static void addDoc(TreeMap<String, Postings> terms, Map<Long, Doc> docs, Student snapshot) {
+        Set<String> docTerms = new LinkedHashSet<>();
+        docTerms.addAll(tokenize(snapshot.getFirstName()));
+        docTerms.addAll(tokenize(snapshot.getLastName()));
+        long id = snapshot.getId();
+        for (String term : docTerms) {
+            terms.computeIfAbsent(term, key -> new Postings()).add(id);
+        }
+        docs.put(id, new Doc(snapshot, lower(snapshot.getFirstName()), lower(snapshot.getLastName()),
+                docTerms.toArray(String[]::new)));
+    }
+
+    private static void removeDoc(TreeMap<String, Postings> terms, Map<Long, Doc> docs, Long studentId) {
+        Doc previous = docs.remove(studentId);
+        if (previous == null) {
+            return;
+        }
+        for (String term : previous.terms()) {
+            Postings postings = terms.get(term);
+            if (postings != null && postings.remove(studentId) && postings.isEmpty()) {
+                terms.remove(term);
+            }
+        }
+    }
+
+    static List<String> tokenize(@Nullable String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(token -> !token.isEmpty())
+                .toList();
+    }
+
+    static long[] intersect(long[] left, long[] right) {
+        long[] result = new long[Math.min(left.length, right.length)];
+        int i = 0;
+        int j = 0;
+        int size = 0;
+        while (i < left.length && j < right.length) {
+            if (left[i] == right[j]) {
+                result[size++] = left[i];
+                i++;
+                j++;
+            } else if (left[i] < right[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    /**
+     * Unions sorted posting lists with a k-way heap merge, so a short prefix spanning many terms costs
+     * O(total postings * log terms) instead of one pass over the accumulated result per term.
+     */
+    static long[] merge(Collection<Postings> lists) {
+        if (lists.isEmpty()) {
+            return new long[0];
+        }
+        if (lists.size() == 1) {
+            return lists.iterator().next().toArray();
+        }
+        PriorityQueue<Cursor> heap = new PriorityQueue<>(lists.size(), Comparator.comparingLong(Cursor::current));
+        int total = 0;
+        for (Postings postings : lists) {
+            if (!postings.isEmpty()) {
+                heap.add(new Cursor(postings));
+                total += postings.size;
+            }
+        }
+        long[] result = new long[total];
+        int size = 0;
+        while (!heap.isEmpty()) {
+            Cursor cursor = heap.poll();
+            long id = cursor.current();
+            if (size == 0 || result[size - 1] != id) {
+                result[size++] = id;
+            }
+            if (cursor.advance()) {
+                heap.add(cursor);
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    // Detached copy so the index never holds on to managed entities
+    private static Student snapshot(Student student) {
+        Project project = student.getProject() == null ? null
+                : Project.builder().id(student.getProject().getId()).name(student.getProject().getName()).build();
+        return Student.builder()
+                .id(student.getId())
+                .codeNumber(student.getCodeNumber())
+                .firstName(student.getFirstName())
+                .lastName(student.getLastName())
+                .dateOfBirth(student.getDateOfBirth())
+                .title(student.getTitle())
+                .description(student.getDescription())
+                .createdAt(student.getCreatedAt())
+                .updatedAt(student.getUpdatedAt())
+                .project(project)
+                .build();
+    }
+
+    private static List<Object> fingerprint(Student student) {
+        return Arrays.asList(student.getCodeNumber(), student.getFirstName(), student.getLastName(),
+                student.getDateOfBirth(), student.getTitle(), student.getDescription(),
+                student.getProjectId(), student.getProjectName());
+    }
+
+    private static List<Long> sample(List<Long> ids) {
+        return List.copyOf(ids.subList(0, Math.min(ids.size(), REPORT_SAMPLE_SIZE)));
+    }
+
+    private static String lower(@Nullable String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+
+    private record Doc(Student student, String firstName, String lastName, String[] terms) {
+
+        // Mirrors lower(first_name) LIKE 'term%' OR lower(last_name) LIKE 'term%'
+        boolean startsWith(String prefix) {
+            return firstName.startsWith(prefix) || lastName.startsWith(prefix);
+        }
+
+        boolean equalsName(String term) {
+            return firstName.equals(term) || lastName.equals(term);
+        }
+    }
+
+    private static final class Cursor {
+
+        private final Postings postings;
+        private int position;
+
+        Cursor(Postings postings) {
+            this.postings = postings;
+        }
+
+        long current() {
+            return postings.ids[position];
+        }
+
+        boolean advance() {
+            return ++position < postings.size;
+        }
+    }
+
+    /**
+     * Sorted, duplicate-free list of student ids backed by a growable long[].
+     */
+    static final class Postings {
+
+        private long[] ids = new long[4];
+        private int size;
+
+        void add(long id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0) {
+                return;
+            }
+            int insertAt = -index - 1;
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+            ids[insertAt] = id;
+            size++;
+        }
+
+        boolean remove(long id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+            size--;
+            return true;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(ids, size);
+        }
+    }
+}
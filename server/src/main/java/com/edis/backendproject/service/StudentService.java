@@ -1,50 +1,92 @@
 package com.edis.backendproject.service;
 
 import com.edis.backendproject.config.CacheNames;
+import com.edis.backendproject.dto.NameSearch;
+import com.edis.backendproject.dto.NameSearchMode;
+import com.edis.backendproject.dto.StudentCursor;
+import com.edis.backendproject.dto.StudentFilter;
+import com.edis.backendproject.dto.StudentPage;
 import com.edis.backendproject.dto.StudentRequest;
+import com.edis.backendproject.dto.StudentSort;
+import com.edis.backendproject.dto.StudentView;
 import com.edis.backendproject.model.Project;
 import com.edis.backendproject.model.Student;
 import com.edis.backendproject.repository.ProjectRepository;
 import com.edis.backendproject.repository.StudentRepository;
+import com.edis.backendproject.repository.StudentSpecifications;
 
 import jakarta.persistence.EntityNotFoundException;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 
 /**
  * Handles student CRUD operations and search functionality.
- * Supports search by code number and name with various endpoints.
+ * Supports search by code number and a composable filter search (name, projects, title, date ranges)
+ * that is evaluated entirely in SQL.
+ * The full roster is only exposed through keyset pages, each cached under its own key.
+ * Lists and search results are {@link StudentView} projections rather than managed entities.
+ * Reads are cached per entity and per project; writes evict only the keys they touch.
+ * When the in-memory search index is enabled, plain free-text searches are answered from it.
  */
 @Service
+@Timed(value = "app.service", description = "Service method latency, tagged by class and method")
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class StudentService implements IStudentService {
 
     private final StudentRepository studentRepository;
     private final ProjectRepository projectRepository;
+    private final StudentCacheEvictor cacheEvictor;
+    private final StudentSearchIndex searchIndex;
+
+    private static final int MAX_PAGE_SIZE = 500;
 
     @Override
-    @Cacheable(cacheNames = CacheNames.STUDENTS)
-    public List<Student> getAllStudents() {
-        return studentRepository.findAll();
+    @Cacheable(cacheNames = CacheNames.STUDENT_PAGES, key = "#sort + ':' + #limit + ':' + (#cursor ?: '')")
+    public StudentPage getStudentsPage(StudentSort sort, @Nullable String cursor, int limit) {
+        int pageSize = clampPageSize(limit);
+        // Fetch one extra row to learn whether another page follows without a COUNT query
+        Limit fetchLimit = Limit.of(pageSize + 1);
+        StudentCursor after = cursor == null || cursor.isBlank() ? null : StudentCursor.decode(cursor, sort);
+
+        List<StudentView> rows = after == null ? findFirstPage(sort, fetchLimit) : findPageAfter(after, fetchLimit);
+        if (rows.size() <= pageSize) {
+            return new StudentPage(new ArrayList<>(rows), null);
+        }
+
+        List<StudentView> items = new ArrayList<>(rows.subList(0, pageSize));
+        String nextCursor = StudentCursor.after(sort, items.get(pageSize - 1)).encode();
+        return new StudentPage(items, nextCursor);
+    }
+
+    private static int clampPageSize(int limit) {
+        return Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
     }
 
+    @Cacheable(cacheNames = CacheNames.STUDENTS, key = "'id:' + #id")
     public Student getStudentById(Long id) {
         return loadStudent(id);
     }
 
-    public List<Student> getStudentsByProject(Long projectId) {
-        List<Student> students = studentRepository.findByProject_Id(projectId);
+    @Cacheable(cacheNames = CacheNames.STUDENTS, key = "'project:' + #projectId")
+    public List<StudentView> getStudentsByProject(Long projectId) {
+        List<StudentView> students = studentRepository.findViewsByProjectId(projectId);
         return Objects.requireNonNull(students);
     }
 
+    @Cacheable(cacheNames = CacheNames.STUDENTS, key = "'code:' + #code")
     public Student searchByCode(String code) {
         if (code == null || code.trim().isEmpty()) {
             throw new IllegalArgumentException("Code cannot be empty");
@@ -54,42 +96,75 @@ public class StudentService implements IStudentService {
         return Objects.requireNonNull(student);
     }
 
-    public List<Student> searchByName(String name) {
-        List<Student> students = studentRepository.searchByName(name);
+    public List<StudentView> searchStudents(StudentFilter filter) {
+        if (filter.isEmpty()) {
+            throw new IllegalArgumentException("At least one search filter is required");
+        }
+        NameSearch name = filter.name();
+        if (searchIndex.canServe(filter)) {
+            return searchIndex.search(name.term(), filter.projectIds(), filter.limit()).stream()
+                    .map(StudentView::from)
+                    .toList();
+        }
+        if (name != null && name.mode() == NameSearchMode.FUZZY) {
+            studentRepository.applyWordSimilarityThreshold(Double.toString(name.threshold()));
+        }
+        List<StudentView> students = studentRepository.findViews(StudentSpecifications.matching(filter), filter.limit());
         return Objects.requireNonNull(students);
     }
 
-    public List<Student> searchByNameAndProject(String name, Long projectId) {
-        List<Student> allResults = studentRepository.searchByName(name);
-        List<Student> filtered = allResults.stream()
-            .filter(student -> student.getProject() != null && student.getProject().getId().equals(projectId))
-            .toList();
-        return Objects.requireNonNull(filtered);
-    }
-
     @Transactional
-    @CacheEvict(cacheNames = CacheNames.STUDENTS, allEntries = true)
     public Student createStudent(StudentRequest request) {
         final Project project = loadProject(Objects.requireNonNull(request.getProjectId(), "Project ID is required"));
 
         Student student = applyRequest(new Student(), request);
         student.setProject(project);
-        return studentRepository.save(student);
+        Student saved = studentRepository.save(student);
+        cacheEvictor.evictStudent(null, Set.of(), Set.of(project.getId()));
+        searchIndex.studentSaved(saved);
+        return saved;
     }
 
     @Transactional
-    @CacheEvict(cacheNames = CacheNames.STUDENTS, allEntries = true)
     public Student updateStudent(Long id, StudentRequest request) {
         final Student student = loadStudent(id);
+        String previousCode = student.getCodeNumber();
+        Long previousProjectId = student.getProjectId();
+
         Student updated = applyRequest(student, request);
-        return studentRepository.save(updated);
+        Long requestedProjectId = request.getProjectId();
+        if (requestedProjectId != null && !requestedProjectId.equals(previousProjectId)) {
+            updated.setProject(loadProject(requestedProjectId));
+        }
+        Student saved = studentRepository.save(updated);
+        cacheEvictor.evictStudent(id, nonNullSet(previousCode, saved.getCodeNumber()),
+                nonNullSet(previousProjectId, saved.getProjectId()));
+        searchIndex.studentSaved(saved);
+        return saved;
     }
 
     @Transactional
-    @CacheEvict(cacheNames = CacheNames.STUDENTS, allEntries = true)
     public void deleteStudent(Long id) {
         final Student student = loadStudent(id);
         studentRepository.delete(student);
+        cacheEvictor.evictStudent(id, nonNullSet(student.getCodeNumber()), nonNullSet(student.getProjectId()));
+        searchIndex.studentDeleted(id);
+    }
+
+    private List<StudentView> findFirstPage(StudentSort sort, Limit limit) {
+        return switch (sort) {
+            case LAST_NAME -> studentRepository.findViewPageOrderByLastName(limit);
+            case CREATED_AT -> studentRepository.findViewPageOrderByCreatedAt(limit);
+            case CODE_NUMBER -> studentRepository.findViewPageOrderByCodeNumber(limit);
+        };
+    }
+
+    private List<StudentView> findPageAfter(StudentCursor cursor, Limit limit) {
+        return switch (cursor.sort()) {
+            case LAST_NAME -> studentRepository.findViewPageOrderByLastNameAfter(cursor.sortValue(), cursor.id(), limit);
+            case CREATED_AT -> studentRepository.findViewPageOrderByCreatedAtAfter(cursor.createdAt(), cursor.id(), limit);
+            case CODE_NUMBER -> studentRepository.findViewPageOrderByCodeNumberAfter(cursor.sortValue(), cursor.id(), limit);
+        };
     }
 
     private Student loadStudent(Long id) {
@@ -99,11 +174,23 @@ public class StudentService implements IStudentService {
     }
 
     private Project loadProject(Long id) {
-        Project project = projectRepository.findById(id)
+        Project project = projectRepository.findByIdAndDeletingAtIsNull(id)
                 .orElseThrow(() -> new EntityNotFoundException("Project not found"));
         return Objects.requireNonNull(project);
     }
 
+    // Old and new values of a changed field, skipping nulls and duplicates
+    @SafeVarargs
+    private static <T> Set<T> nonNullSet(T... values) {
+        Set<T> result = new LinkedHashSet<>();
+        for (T value : values) {
+            if (value != null) {
+                result.add(value);
+            }
+        }
+        return result;
+    }
+
     private Student applyRequest(Student target, StudentRequest request) {
         target.setCodeNumber(request.getCodeNumber());
         target.setFirstName(request.getFirstName());
@@ -1,32 +1,117 @@
 package com.edis.backendproject.service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
 
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
 import com.edis.backendproject.security.JwtTokenProvider;
+import com.edis.backendproject.security.RevokedTokenMirror;
+import com.edis.backendproject.security.TokenDigest;
 
 import io.jsonwebtoken.JwtException;
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * Stores revoked JWTs in Redis until they naturally expire so stateless logout works.
+ * Entries are keyed by the token's SHA-256 digest rather than the raw token. Each node keeps a
+ * {@link RevokedTokenMirror} of those digests, loaded with SCAN on startup, resynced periodically and
+ * fed by "digest|expiresAtMillis" messages on a pub/sub channel, so the per-request check stays local.
+ * Until the first load succeeds, checks go to Redis and the load is retried with backoff. If Redis cannot
+ * answer either, {@code app.auth.revocation.fail-closed} decides: rejected as revoked, or (the default)
+ * answered from the revocations this node has seen so far.
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
-public class TokenBlacklistService {
+public class TokenBlacklistService implements MessageListener, DisposableBean {
 
     private static final String KEY_PREFIX = "auth:blacklist:";
+    private static final String SEPARATOR = "|";
+    private static final int SCAN_BATCH = 1_000;
+    private static final long FIRST_RETRY_MILLIS = 1_000;
 
     private final StringRedisTemplate stringRedisTemplate;
     private final JwtTokenProvider jwtTokenProvider;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final RevokedTokenMirror mirror;
+    private final String channel;
+    private final long resyncIntervalMillis;
+    private final boolean failClosed;
+    private final Executor resyncExecutor;
+    private final LongSupplier clock;
+
+    private final AtomicBoolean resyncing = new AtomicBoolean();
+    private volatile boolean mirrorReady;
+    private volatile long nextResyncAt;
+    private volatile long retryDelayMillis = FIRST_RETRY_MILLIS;
+
+    @Autowired
+    public TokenBlacklistService(StringRedisTemplate stringRedisTemplate,
+            JwtTokenProvider jwtTokenProvider,
+            RedisMessageListenerContainer listenerContainer,
+            @Value("${app.auth.revocation.channel:auth:revocations}") String channel,
+            @Value("${app.auth.revocation.expected-revocations:100000}") int expectedRevocations,
+            @Value("${app.auth.revocation.resync-interval:PT5M}") Duration resyncInterval,
+            @Value("${app.auth.revocation.fail-closed:false}") boolean failClosed) {
+        this(stringRedisTemplate, jwtTokenProvider, listenerContainer, channel, expectedRevocations, resyncInterval,
+                failClosed, Executors.newSingleThreadExecutor(new CustomizableThreadFactory("revocation-resync-")),
+                System::currentTimeMillis);
+    }
+
+    TokenBlacklistService(StringRedisTemplate stringRedisTemplate, JwtTokenProvider jwtTokenProvider,
+            RedisMessageListenerContainer listenerContainer, String channel, int expectedRevocations,
+            Duration resyncInterval, boolean failClosed, Executor resyncExecutor, LongSupplier clock) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.listenerContainer = listenerContainer;
+        this.channel = channel;
+        this.mirror = new RevokedTokenMirror(expectedRevocations);
+        this.resyncIntervalMillis = resyncInterval.toMillis();
+        this.failClosed = failClosed;
+        this.resyncExecutor = resyncExecutor;
+        this.clock = clock;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(channel));
+    }
+
+    /**
+     * Loads every live revocation from Redis into the local mirror once the application is up.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadMirror() {
+        resync();
+    }
 
     /**
      * Adds the provided token to the blacklist for the remainder of its lifespan.
@@ -41,28 +126,133 @@ public class TokenBlacklistService {
             return;
         }
 
+        String digest = TokenDigest.of(token);
+        long expiresAt = clock.getAsLong() + ttlMillis;
+        mirror.add(digest, expiresAt);
+        jwtTokenProvider.invalidate(token);
         try {
             stringRedisTemplate.opsForValue()
-                    .set(KEY_PREFIX + token, "1", ofMillis(ttlMillis));
+                    .set(KEY_PREFIX + digest, "1", ofMillis(ttlMillis));
+            stringRedisTemplate.convertAndSend(channel, digest + SEPARATOR + expiresAt);
         } catch (DataAccessException ex) {
             log.warn("Failed to store blacklisted token", ex);
         }
     }
 
     /**
-     * Checks whether the token was invalidated earlier.
+     * Checks whether the token was invalidated earlier. Answered from the local mirror once it is loaded.
      */
     public boolean isBlacklisted(String token) {
         if (!StringUtils.hasText(token)) {
             return false;
         }
-        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(KEY_PREFIX + token));
+        String digest = TokenDigest.of(token);
+        scheduleResyncIfDue();
+        if (!mirrorReady) {
+            // Before the first SCAN completed; also honours keys written before digests were used
+            try {
+                Long existing = stringRedisTemplate.countExistingKeys(List.of(KEY_PREFIX + digest, KEY_PREFIX + token));
+                return existing != null && existing > 0;
+            } catch (DataAccessException ex) {
+                log.debug("Revocation check without Redis or a loaded mirror: {}", ex.getMessage());
+                return failClosed || mirror.isRevoked(digest);
+            }
+        }
+        return mirror.isRevoked(digest);
+    }
+
+    @Override
+    public void onMessage(@NonNull Message message, @Nullable byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf(SEPARATOR);
+        if (separator <= 0) {
+            return;
+        }
+        try {
+            mirror.add(body.substring(0, separator), Long.parseLong(body.substring(separator + 1)));
+        } catch (NumberFormatException ex) {
+            log.debug("Ignoring malformed revocation message: {}", body);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (resyncExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    // Retries a failed first load and heals revocations missed while the pub/sub connection was down
+    private void scheduleResyncIfDue() {
+        if (clock.getAsLong() >= nextResyncAt && resyncing.compareAndSet(false, true)) {
+            try {
+                resyncExecutor.execute(() -> {
+                    try {
+                        resync();
+                    } finally {
+                        resyncing.set(false);
+                    }
+                });
+            } catch (RuntimeException ex) {
+                resyncing.set(false);
+                log.debug("Could not schedule the revocation resync: {}", ex.getMessage());
+            }
+        }
+    }
+
+    private void resync() {
+        nextResyncAt = clock.getAsLong() + resyncIntervalMillis;
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(SCAN_BATCH).build();
+        try (Cursor<String> keys = stringRedisTemplate.scan(options)) {
+            List<String> batch = new ArrayList<>(SCAN_BATCH);
+            while (keys.hasNext()) {
+                batch.add(keys.next());
+                if (batch.size() == SCAN_BATCH) {
+                    addToMirror(batch);
+                    batch.clear();
+                }
+            }
+            addToMirror(batch);
+            if (!mirrorReady) {
+                log.info("Loaded {} revoked tokens into the local mirror", mirror.size());
+            }
+            mirrorReady = true;
+            retryDelayMillis = FIRST_RETRY_MILLIS;
+        } catch (DataAccessException ex) {
+            // Back off from 1s up to the resync interval; the previous mirror, if any, stays in use
+            nextResyncAt = clock.getAsLong() + retryDelayMillis;
+            retryDelayMillis = Math.min(retryDelayMillis * 2, resyncIntervalMillis);
+            log.warn("Failed to load revoked tokens from Redis", ex);
+        }
+    }
+
+    // One pipelined PTTL round trip per SCAN batch
+    private void addToMirror(List<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        List<Object> ttls = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String key : keys) {
+                connection.keyCommands().pTtl(key.getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        });
+        long now = clock.getAsLong();
+        for (int i = 0; i < keys.size(); i++) {
+            if (!(ttls.get(i) instanceof Long ttlMillis) || ttlMillis <= 0) {
+                continue;
+            }
+            String suffix = keys.get(i).substring(KEY_PREFIX.length());
+            // Keys written before the switch to digests hold the raw JWT
+            String digest = suffix.indexOf('.') >= 0 ? TokenDigest.of(suffix) : suffix;
+            mirror.add(digest, now + ttlMillis);
+        }
     }
 
     private long getRemainingTtlMillis(String token) {
         try {
             Date expirationDate = jwtTokenProvider.getExpirationDate(token);
-            return expirationDate.getTime() - System.currentTimeMillis();
+            return expirationDate.getTime() - clock.getAsLong();
         } catch (JwtException | IllegalArgumentException ex) {
             log.debug("Skip blacklisting invalid token: {}", ex.getMessage());
             return 0;
@@ -0,0 +1,37 @@
+package com.edis.backendproject.service;
+
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.edis.backendproject.config.CacheNames;
+import com.edis.backendproject.dto.SecurityVersion;
+import com.edis.backendproject.repository.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Cached lookup of per-user security versions used to accept or reject claim-only tokens.
+ * Writers bump users.security_version and call invalidate, which evicts the entry on every replica
+ * after commit, so older tokens stop working on the next request.
+ */
+@Service
+@RequiredArgsConstructor
+public class UserSecurityVersions {
+
+    private final UserRepository userRepository;
+
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.USER_VERSIONS, key = "#username")
+    public SecurityVersion currentVersion(String username) {
+        return userRepository.findSecurityVersionByUsername(username)
+                .map(SecurityVersion::new)
+                .orElse(SecurityVersion.NONE);
+    }
+
+    @CacheEvict(cacheNames = CacheNames.USER_VERSIONS, key = "#username")
+    public void invalidate(String username) {
+        // Eviction is handled by the annotation
+    }
+}
@@ -1,6 +1,8 @@
 package com.edis.backendproject.service;
 
+import java.util.Locale;
 import java.util.Objects;
+import java.util.Set;
 
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -14,14 +16,17 @@ import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 
 /**
- * Handles user lifecycle operations such as self-registration.
+ * Handles user lifecycle operations such as self-registration, account removal and role changes.
  */
 @Service
 @RequiredArgsConstructor
 public class UserService {
 
+    private static final Set<String> ROLES = Set.of("USER", "ADMIN");
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserSecurityVersions securityVersions;
 
     /**
      * Registers a new end-user with a BCrypt-hashed password.
@@ -64,6 +69,33 @@ public class UserService {
         User existing = userRepository.findByUsername(normalizedUsername)
                 .orElseThrow(() -> new EntityNotFoundException("User not found"));
         userRepository.delete(existing);
+        securityVersions.invalidate(normalizedUsername);
+    }
+
+    /**
+     * Changes a user's role and bumps their security version so tokens carrying the old role stop working.
+     *
+     * @throws EntityNotFoundException when the username does not exist.
+     */
+    @SuppressWarnings("null")
+    @Transactional
+    public User changeRole(String username, String role) {
+        String normalizedUsername = normalizeUsername(username);
+        String normalizedRole = Objects.requireNonNull(role, "Role is required").trim().toUpperCase(Locale.ROOT);
+        if (normalizedRole.isEmpty()) {
+            throw new IllegalArgumentException("Role is required");
+        }
+        if (!ROLES.contains(normalizedRole)) {
+            throw new IllegalArgumentException("Unsupported role: " + role.trim());
+        }
+
+        User existing = userRepository.findByUsername(normalizedUsername)
+                .orElseThrow(() -> new EntityNotFoundException("User not found"));
+        existing.setRole(normalizedRole);
+        existing.setSecurityVersion(existing.getSecurityVersion() + 1);
+        User savedUser = userRepository.save(existing);
+        securityVersions.invalidate(normalizedUsername);
+        return Objects.requireNonNull(savedUser);
     }
 
     private String normalizeUsername(String username) {
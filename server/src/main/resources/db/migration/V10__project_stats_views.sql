@@ -0,0 +1,43 @@
+-- Pre-aggregated student statistics behind GET /api/projects/stats. Each view is tiny compared to
+-- students and has a unique index so it can be rebuilt with REFRESH MATERIALIZED VIEW CONCURRENTLY
+-- without blocking readers; the scheduled ProjectStatsService.refreshIfChanged does that after writes.
+CREATE MATERIALIZED VIEW IF NOT EXISTS project_student_stats AS
+SELECT project_id, count(*) AS student_count
+FROM students
+GROUP BY project_id;
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_project_student_stats ON project_student_stats (project_id);
+
+-- Month granularity keeps the view small while ages stay accurate to a month
+CREATE MATERIALIZED VIEW IF NOT EXISTS student_birth_month_stats AS
+SELECT CAST(date_trunc('month', date_of_birth) AS DATE) AS birth_month, count(*) AS student_count
+FROM students
+GROUP BY 1;
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_student_birth_month_stats ON student_birth_month_stats (birth_month);
+
+CREATE MATERIALIZED VIEW IF NOT EXISTS student_title_stats AS
+SELECT title, count(*) AS student_count
+FROM students
+GROUP BY title;
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_student_title_stats ON student_title_stats (title);
+CREATE INDEX IF NOT EXISTS idx_student_title_stats_count ON student_title_stats (student_count DESC, title);
+
+CREATE MATERIALIZED VIEW IF NOT EXISTS student_monthly_stats AS
+SELECT CAST(date_trunc('month', created_at) AS DATE) AS month, count(*) AS student_count
+FROM students
+GROUP BY 1;
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_student_monthly_stats ON student_monthly_stats (month);
+
+-- Last refresh per aggregate and the collection versions it was computed from, shared by all replicas
+CREATE TABLE IF NOT EXISTS aggregate_refreshes (
+    name VARCHAR(50) PRIMARY KEY,
+    source_version VARCHAR(100),
+    refreshed_at TIMESTAMP WITHOUT TIME ZONE NOT NULL
+);
+
+INSERT INTO aggregate_refreshes (name, source_version, refreshed_at)
+VALUES ('project-stats', NULL, CURRENT_TIMESTAMP)
+ON CONFLICT (name) DO NOTHING;
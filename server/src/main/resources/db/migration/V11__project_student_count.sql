@@ -0,0 +1,74 @@
+-- Denormalized student count per project, maintained by statement-level triggers in the same transaction as
+-- the student write. Transition tables let one multi-row statement (batch insert, import merge, chunked purge,
+-- bulk reassign) touch each affected project row once instead of once per student.
+ALTER TABLE projects ADD COLUMN IF NOT EXISTS student_count BIGINT NOT NULL DEFAULT 0;
+
+UPDATE projects p
+SET student_count = s.student_count
+FROM (SELECT project_id, count(*) AS student_count FROM students GROUP BY project_id) s
+WHERE s.project_id = p.id;
+
+CREATE OR REPLACE FUNCTION students_count_inserted() RETURNS trigger AS $$
+BEGIN
+    UPDATE projects p
+    SET student_count = p.student_count + n.added
+    FROM (SELECT project_id, count(*) AS added FROM inserted_students GROUP BY project_id) n
+    WHERE p.id = n.project_id;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Rows removed by the ON DELETE CASCADE from projects find their project already gone and update nothing
+CREATE OR REPLACE FUNCTION students_count_deleted() RETURNS trigger AS $$
+BEGIN
+    UPDATE projects p
+    SET student_count = p.student_count - d.removed
+    FROM (SELECT project_id, count(*) AS removed FROM deleted_students GROUP BY project_id) d
+    WHERE p.id = d.project_id;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Triggers with transition tables cannot name columns, so every update arrives here; only moves change counts
+CREATE OR REPLACE FUNCTION students_count_moved() RETURNS trigger AS $$
+BEGIN
+    UPDATE projects p
+    SET student_count = p.student_count + m.delta
+    FROM (
+        SELECT project_id, sum(delta) AS delta
+        FROM (
+            SELECT o.project_id, -1 AS delta
+            FROM old_students o JOIN new_students n ON n.id = o.id
+            WHERE n.project_id <> o.project_id
+            UNION ALL
+            SELECT n.project_id, 1 AS delta
+            FROM old_students o JOIN new_students n ON n.id = o.id
+            WHERE n.project_id <> o.project_id
+        ) moves
+        GROUP BY project_id
+    ) m
+    WHERE p.id = m.project_id;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_students_count_insert ON students;
+CREATE TRIGGER trg_students_count_insert
+    AFTER INSERT ON students
+    REFERENCING NEW TABLE AS inserted_students
+    FOR EACH STATEMENT EXECUTE FUNCTION students_count_inserted();
+
+DROP TRIGGER IF EXISTS trg_students_count_delete ON students;
+CREATE TRIGGER trg_students_count_delete
+    AFTER DELETE ON students
+    REFERENCING OLD TABLE AS deleted_students
+    FOR EACH STATEMENT EXECUTE FUNCTION students_count_deleted();
+
+DROP TRIGGER IF EXISTS trg_students_count_update ON students;
+CREATE TRIGGER trg_students_count_update
+    AFTER UPDATE ON students
+    REFERENCING OLD TABLE AS old_students NEW TABLE AS new_students
+    FOR EACH STATEMENT EXECUTE FUNCTION students_count_moved();
+
+-- The exact, always-current column replaces the per-project view from V10
+DROP MATERIALIZED VIEW IF EXISTS project_student_stats;
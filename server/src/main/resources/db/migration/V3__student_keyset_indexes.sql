@@ -0,0 +1,4 @@
+-- Composite (sort key, id) indexes backing keyset pagination on GET /api/students.
+-- code_number is already covered by the unique index from V1, which is sufficient since codes never tie.
+CREATE INDEX IF NOT EXISTS idx_students_last_name_id ON students(last_name, id);
+CREATE INDEX IF NOT EXISTS idx_students_created_at_id ON students(created_at, id);
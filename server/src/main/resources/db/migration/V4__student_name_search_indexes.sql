@@ -0,0 +1,16 @@
+-- Indexes for case-insensitive name search on /api/students/search.
+-- Expressions must match the queries in StudentRepository exactly for the planner to use them.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- EXACT: equality on lower(name)
+CREATE INDEX IF NOT EXISTS idx_students_lower_first_name ON students (lower(first_name));
+CREATE INDEX IF NOT EXISTS idx_students_lower_last_name ON students (lower(last_name));
+
+-- PREFIX: trigram GIN serves LIKE 'term%' even with bind parameters and generic plans,
+-- where the btree prefix rewrite would need a literal pattern
+CREATE INDEX IF NOT EXISTS idx_students_first_name_trgm ON students USING gin (lower(first_name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_students_last_name_trgm ON students USING gin (lower(last_name) gin_trgm_ops);
+
+-- FUZZY: word similarity (<%) against the full name
+CREATE INDEX IF NOT EXISTS idx_students_full_name_trgm
+    ON students USING gin (lower(first_name || ' ' || last_name) gin_trgm_ops);
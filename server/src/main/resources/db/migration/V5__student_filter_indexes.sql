@@ -0,0 +1,11 @@
+-- Composite indexes for the filter combinations accepted by /api/students/search.
+-- Project-scoped filters lead with project_id so "in these projects AND ..." is a single range scan.
+CREATE INDEX IF NOT EXISTS idx_students_project_created_at ON students (project_id, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_students_project_date_of_birth ON students (project_id, date_of_birth);
+CREATE INDEX IF NOT EXISTS idx_students_project_lower_last_name ON students (project_id, lower(last_name));
+CREATE INDEX IF NOT EXISTS idx_students_project_lower_first_name ON students (project_id, lower(first_name));
+CREATE INDEX IF NOT EXISTS idx_students_lower_title_project ON students (lower(title), project_id);
+CREATE INDEX IF NOT EXISTS idx_students_date_of_birth ON students (date_of_birth);
+
+-- Superseded by idx_students_project_created_at, whose leading column serves plain project_id lookups
+DROP INDEX IF EXISTS idx_students_project_id;
@@ -0,0 +1,3 @@
+-- Bumped whenever a user's role changes or the account is removed so tokens
+-- carrying an older version are rejected without a per-request user lookup.
+ALTER TABLE users ADD COLUMN IF NOT EXISTS security_version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,5 @@
+-- Hibernate now allocates student and project ids from these sequences in blocks of 50
+-- (pooled optimizer), which lets inserts be JDBC-batched. The increment must match the
+-- allocationSize on the entities; inserts relying on the column default still get unique ids.
+ALTER SEQUENCE students_id_seq INCREMENT BY 50;
+ALTER SEQUENCE projects_id_seq INCREMENT BY 50;
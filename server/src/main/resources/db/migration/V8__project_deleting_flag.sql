@@ -0,0 +1,5 @@
+-- Large projects are hidden by setting deleting_at and purged in chunks afterwards;
+-- the partial index lets the purge job find pending projects on startup without a scan
+ALTER TABLE projects ADD COLUMN IF NOT EXISTS deleting_at TIMESTAMP WITHOUT TIME ZONE;
+
+CREATE INDEX IF NOT EXISTS idx_projects_deleting_at ON projects(deleting_at) WHERE deleting_at IS NOT NULL;
@@ -0,0 +1,10 @@
+-- Last-modified timestamps for projects and students; entity callbacks keep them current on every write
+ALTER TABLE projects ADD COLUMN IF NOT EXISTS updated_at TIMESTAMP WITHOUT TIME ZONE;
+UPDATE projects SET updated_at = created_at WHERE updated_at IS NULL;
+ALTER TABLE projects ALTER COLUMN updated_at SET DEFAULT CURRENT_TIMESTAMP;
+ALTER TABLE projects ALTER COLUMN updated_at SET NOT NULL;
+
+ALTER TABLE students ADD COLUMN IF NOT EXISTS updated_at TIMESTAMP WITHOUT TIME ZONE;
+UPDATE students SET updated_at = created_at WHERE updated_at IS NULL;
+ALTER TABLE students ALTER COLUMN updated_at SET DEFAULT CURRENT_TIMESTAMP;
+ALTER TABLE students ALTER COLUMN updated_at SET NOT NULL;
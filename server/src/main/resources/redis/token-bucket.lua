@@ -0,0 +1,33 @@
+-- Atomic token bucket. KEYS[1] is the bucket hash; ARGV: capacity, refill tokens, refill period (ms), cost.
+-- Uses the Redis clock so every application node refills against the same time.
+-- Returns {allowed (1/0), remaining tokens, retry after (ms), full again after (ms)}.
+local capacity = tonumber(ARGV[1])
+local refill_tokens = tonumber(ARGV[2])
+local refill_period = tonumber(ARGV[3])
+local cost = tonumber(ARGV[4])
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local state = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+local tokens = tonumber(state[1]) or capacity
+local ts = tonumber(state[2]) or now
+if now > ts then
+    tokens = math.min(capacity, tokens + (now - ts) * refill_tokens / refill_period)
+    ts = now
+end
+
+local allowed = 0
+local retry_after = 0
+if tokens >= cost then
+    tokens = tokens - cost
+    allowed = 1
+else
+    retry_after = math.ceil((cost - tokens) * refill_period / refill_tokens)
+end
+
+local full_after = math.ceil((capacity - tokens) * refill_period / refill_tokens)
+redis.call('HSET', KEYS[1], 'tokens', tokens, 'ts', ts)
+redis.call('PEXPIRE', KEYS[1], math.max(full_after, 1000))
+
+return {allowed, math.floor(tokens), retry_after, full_after}
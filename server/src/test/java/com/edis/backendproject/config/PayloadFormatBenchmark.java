@@ -0,0 +1,97 @@
+package com.edis.backendproject.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.edis.backendproject.dto.ApiResponse;
+import com.edis.backendproject.dto.StudentView;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * Payload size (raw and gzipped) and serialization time of a student list response in JSON, CBOR and Smile,
+ * for 1k, 10k and 100k rows. Mappers are built the way {@link WebConfig} builds them.
+ * Opt-in: {@code mvn test -Dbenchmark=true -Dtest=PayloadFormatBenchmark}.
+ */
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class PayloadFormatBenchmark {
+
+    private static final int[] SIZES = {1_000, 10_000, 100_000};
+    private static final long BUDGET_NANOS = 2_000_000_000L;
+
+    private final ObjectMapper json = Jackson2ObjectMapperBuilder.json().build();
+    private final ObjectMapper cbor = Jackson2ObjectMapperBuilder.json().factory(new CBORFactory()).build();
+    private final ObjectMapper smile = Jackson2ObjectMapperBuilder.json().factory(new SmileFactory()).build();
+
+    @Test
+    void sizeAndSerializationTimePerFormat() throws Exception {
+        System.out.printf("%-8s %8s %12s %12s %12s%n", "format", "rows", "bytes", "gzip bytes", "mean ms");
+        for (int rows : SIZES) {
+            ApiResponse<List<StudentView>> response = ApiResponse.success(students(rows));
+            for (String name : List.of("json", "cbor", "smile")) {
+                ObjectMapper mapper = mapper(name);
+                byte[] body = mapper.writeValueAsBytes(response);
+                assertThat(mapper.readTree(body)).isEqualTo(json.readTree(json.writeValueAsBytes(response)));
+                System.out.printf("%-8s %8d %12d %12d %12.2f%n", name, rows, body.length, gzip(body).length,
+                        meanMillis(mapper, response));
+            }
+        }
+    }
+
+    private ObjectMapper mapper(String name) {
+        return switch (name) {
+            case "cbor" -> cbor;
+            case "smile" -> smile;
+            default -> json;
+        };
+    }
+
+    // Warm up, then repeat until the time budget is spent so 1k and 100k rows both get stable means
+    private static double meanMillis(ObjectMapper mapper, Object value) throws IOException {
+        for (int i = 0; i < 5; i++) {
+            mapper.writeValueAsBytes(value);
+        }
+        int iterations = 0;
+        long started = System.nanoTime();
+        long elapsed;
+        do {
+            mapper.writeValueAsBytes(value);
+            iterations++;
+            elapsed = System.nanoTime() - started;
+        } while (elapsed < BUDGET_NANOS && iterations < 10_000);
+        return elapsed / 1_000_000.0 / iterations;
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.toByteArray();
+    }
+
+    private static List<StudentView> students(int rows) {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 9, 30);
+        List<StudentView> students = new ArrayList<>(rows);
+        for (long id = 1; id <= rows; id++) {
+            students.add(new StudentView(id, String.format("%08d", id), "First" + id, "Last" + (id % 997),
+                    LocalDate.of(2000, 1, 1).plusDays(id % 3650), "Engineer", "Description for student " + id,
+                    createdAt, createdAt.plusMinutes(id), id % 20 + 1, "Project " + (id % 20 + 1)));
+        }
+        return students;
+    }
+}
@@ -0,0 +1,124 @@
+package com.edis.backendproject.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.DispatcherType;
+
+class ServerTimingFilterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void sampledRequestGetsHeaderBeforeTheBodyIsCommitted() throws Exception {
+        ServerTimingFilter filter = new ServerTimingFilter(registry, 1.0);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/projects/7");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setBufferSize(16);
+        AtomicReference<String> headerAtCommit = new AtomicReference<>();
+
+        filter.doFilter(request, response, (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/projects/{id}");
+            RequestPhases.record(RequestPhases.Phase.PARSE, 2_000_000);
+            RequestPhases.time(RequestPhases.Phase.DB, () -> RequestPhases.time(RequestPhases.Phase.DB, () -> { }));
+            res.getOutputStream().write("{\"data\":\"a body longer than the buffer\"}".getBytes(StandardCharsets.UTF_8));
+            res.flushBuffer();
+            headerAtCommit.set(response.getHeader(ServerTimingFilter.HEADER));
+        });
+
+        assertThat(headerAtCommit.get()).startsWith("parse;dur=2.00, db;dur=").contains(", total;dur=");
+        assertThat(headerAtCommit.get()).doesNotContain("desc");
+        assertThat(RequestPhases.current()).isNull();
+        assertThat(registry.get(ServerTimingFilter.TIMER).tag("uri", "/api/projects/{id}").tag("phase", "db")
+                .timer().count()).isEqualTo(1);
+        assertThat(registry.get(ServerTimingFilter.TIMER).tag("phase", "total").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void smallResponsesGetTheHeaderWhenTheChainReturns() throws Exception {
+        ServerTimingFilter filter = new ServerTimingFilter(registry, 1.0);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/missing"), response, (req, res) -> {
+            RequestPhases.record(RequestPhases.Phase.CACHE, 500_000);
+            RequestPhases.record(RequestPhases.Phase.CACHE, 500_000);
+        });
+
+        assertThat(response.getHeader(ServerTimingFilter.HEADER)).startsWith("cache;dur=1.00;desc=\"x2\", total;dur=");
+        assertThat(registry.get(ServerTimingFilter.TIMER).tag("uri", "UNKNOWN").tag("phase", "cache").timer()
+                .count()).isEqualTo(1);
+    }
+
+    @Test
+    void asyncHandlersReportPhasesRecordedOnTheirWorkerAndTheAsyncDispatch() throws Exception {
+        ServerTimingFilter filter = new ServerTimingFilter(registry, 1.0);
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login");
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        ExecutorService worker = Executors.newSingleThreadExecutor();
+        try {
+            filter.doFilter(request, response, (req, res) -> {
+                req.startAsync(req, res);
+                Supplier<Object> task = RequestPhases.propagate(() -> {
+                    RequestPhases.record(RequestPhases.Phase.USER, 3_000_000);
+                    return null;
+                });
+                CompletableFuture.supplyAsync(task, worker).join();
+            });
+            assertThat(response.getHeader(ServerTimingFilter.HEADER)).isNull();
+            assertThat(registry.find(ServerTimingFilter.TIMER).timers()).isEmpty();
+
+            request.setDispatcherType(DispatcherType.ASYNC);
+            request.setAsyncStarted(false);
+            filter.doFilter(request, response, (req, res) -> RequestPhases.record(RequestPhases.Phase.RENDER, 1_000_000));
+        } finally {
+            worker.shutdown();
+        }
+
+        assertThat(response.getHeader(ServerTimingFilter.HEADER)).startsWith("user;dur=3.00, render;dur=1.00, total;dur=");
+        assertThat(registry.get(ServerTimingFilter.TIMER).tag("phase", "total").timer().count()).isEqualTo(1);
+        assertThat(RequestPhases.current()).isNull();
+    }
+
+    @Test
+    void asyncDispatchOfAnUnsampledRequestIsNotProfiled() throws Exception {
+        ServerTimingFilter filter = new ServerTimingFilter(registry, 1.0);
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login");
+        request.setDispatcherType(DispatcherType.ASYNC);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, (req, res) -> assertThat(RequestPhases.current()).isNull());
+
+        assertThat(response.getHeader(ServerTimingFilter.HEADER)).isNull();
+    }
+
+    @Test
+    void unsampledRequestsAreNotProfiled() throws Exception {
+        ServerTimingFilter filter = new ServerTimingFilter(registry, 0.0);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/projects"), response,
+                (req, res) -> assertThat(RequestPhases.current()).isNull());
+
+        assertThat(response.getHeader(ServerTimingFilter.HEADER)).isNull();
+        assertThat(registry.find(ServerTimingFilter.TIMER).timers()).isEmpty();
+    }
+
+    @Test
+    void sampleRateMustBeAFraction() {
+        assertThatThrownBy(() -> new ServerTimingFilter(registry, 1.5)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
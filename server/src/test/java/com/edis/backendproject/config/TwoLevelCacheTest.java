@@ -0,0 +1,97 @@
+package com.edis.backendproject.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings("null")
+class TwoLevelCacheTest {
+
+    private static final String CHANNEL = "cache:invalidate";
+
+    @Mock
+    private RedisCacheManager redisCacheManager;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    private ConcurrentMapCache remote;
+    private TwoLevelCacheManager manager;
+
+    @BeforeEach
+    void setUp() {
+        remote = new ConcurrentMapCache(CacheNames.PROJECTS);
+        when(redisCacheManager.getCacheNames()).thenReturn(List.of(CacheNames.PROJECTS));
+        when(redisCacheManager.getCache(CacheNames.PROJECTS)).thenReturn(remote);
+        manager = new TwoLevelCacheManager(redisCacheManager,
+                Map.of(CacheNames.PROJECTS, new NearCacheProperties.Spec(10, Duration.ofMinutes(1))),
+                stringRedisTemplate, CHANNEL);
+        manager.afterPropertiesSet();
+    }
+
+    @Test
+    void localHitDoesNotConsultRemote() {
+        Cache cache = manager.getCache(CacheNames.PROJECTS);
+        cache.put("all", "value");
+        remote.evict("all");
+
+        assertThat(cache.get("all", String.class)).isEqualTo("value");
+    }
+
+    @Test
+    void remoteHitIsPromotedToLocal() {
+        remote.put("all", "value");
+        Cache cache = manager.getCache(CacheNames.PROJECTS);
+
+        assertThat(cache.get("all", String.class)).isEqualTo("value");
+        remote.evict("all");
+        assertThat(cache.get("all", String.class)).isEqualTo("value");
+    }
+
+    @Test
+    void evictionIsBroadcastToPeers() {
+        manager.getCache(CacheNames.PROJECTS).evict("all");
+
+        verify(stringRedisTemplate).convertAndSend(eq(CHANNEL), anyString());
+    }
+
+    @Test
+    void peerInvalidationDropsLocalCopyOnly() {
+        Cache cache = manager.getCache(CacheNames.PROJECTS);
+        cache.put("all", "value");
+        remote.put("all", "fresh");
+
+        String message = "other-node|" + CacheNames.PROJECTS + "|k:all";
+        manager.onMessage(new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8),
+                message.getBytes(StandardCharsets.UTF_8)), null);
+
+        assertThat(cache.get("all", String.class)).isEqualTo("fresh");
+    }
+
+    @Test
+    void cachesWithoutSpecAreServedByRedisDirectly() {
+        TwoLevelCacheManager withoutNear = new TwoLevelCacheManager(redisCacheManager, Map.of(), stringRedisTemplate, CHANNEL);
+        withoutNear.afterPropertiesSet();
+
+        assertThat(withoutNear.getCache(CacheNames.PROJECTS)).isSameAs(remote);
+    }
+}
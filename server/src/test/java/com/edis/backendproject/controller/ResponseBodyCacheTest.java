@@ -0,0 +1,190 @@
+package com.edis.backendproject.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import com.edis.backendproject.dto.BodyFormat;
+import com.edis.backendproject.dto.CachedBody;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+@SuppressWarnings("null")
+class ResponseBodyCacheTest {
+
+    private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager("students");
+
+    @Test
+    void hitReturnsStoredBytesWithoutRenderingAgain() {
+        ResponseBodyCache cache = newCache(cacheManager, 2048);
+        AtomicInteger renders = new AtomicInteger();
+
+        ResponseEntity<byte[]> first = cache.respond("students", "project:1", null, request(),
+                () -> Map.of("n", renders.incrementAndGet()));
+        ResponseEntity<byte[]> second = cache.respond("students", "project:1", null, request(),
+                () -> Map.of("n", renders.incrementAndGet()));
+
+        assertThat(renders).hasValue(1);
+        assertThat(second.getBody()).isSameAs(first.getBody());
+        assertThat(new String(second.getBody())).isEqualTo("{\"n\":1}");
+        assertThat(second.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(second.getHeaders().getETag()).isNull();
+        assertThat(cacheManager.getCache("students").get(CachedBody.KEY_PREFIX + "project:1")).isNotNull();
+    }
+
+    @Test
+    void evictingTheKeyDropsTheBody() {
+        ResponseBodyCache cache = newCache(cacheManager, 2048);
+        AtomicInteger renders = new AtomicInteger();
+        cache.respond("students", "project:1", null, request(), () -> List.of(renders.incrementAndGet()));
+
+        cacheManager.getCache("students").evict(CachedBody.KEY_PREFIX + "project:1");
+        cache.respond("students", "project:1", null, request(), () -> List.of(renders.incrementAndGet()));
+
+        assertThat(renders).hasValue(2);
+    }
+
+    @Test
+    void largeBodiesAreServedGzippedToClientsThatAcceptIt() throws Exception {
+        ResponseBodyCache cache = newCache(cacheManager, 16);
+        String text = "x".repeat(500);
+
+        ResponseEntity<byte[]> gzipped = cache.respond("students", "page", "students-3",
+                request(HttpHeaders.ACCEPT_ENCODING, "br, gzip;q=0.8"), () -> List.of(text));
+        ResponseEntity<byte[]> plain = cache.respond("students", "page", "students-3",
+                request(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0"), () -> List.of(text));
+
+        assertThat(gzipped.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(gzipped.getHeaders().getFirst(HttpHeaders.VARY)).isEqualTo("Accept, Accept-Encoding");
+        assertThat(gzipped.getHeaders().getETag()).isEqualTo("\"students-3-gzip\"");
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped.getBody()))) {
+            assertThat(in.readAllBytes()).isEqualTo(plain.getBody());
+        }
+        assertThat(plain.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(plain.getHeaders().getETag()).isEqualTo("\"students-3\"");
+        assertThat(new String(plain.getBody())).isEqualTo("[\"" + text + "\"]");
+    }
+
+    @Test
+    void bodyLoadedBeforeAWriteIsNotServedUnderTheNextVersion() {
+        ResponseBodyCache cache = newCache(cacheManager, 2048);
+        AtomicInteger renders = new AtomicInteger();
+
+        // The write evicts the body and bumps the version after this request read students-1
+        ResponseEntity<byte[]> racing = cache.respond("students", "page", "students-1", request(), () -> {
+            List<String> stale = List.of("before-" + renders.incrementAndGet());
+            cacheManager.getCache("students").evict(BodyFormat.JSON.cacheKey("page"));
+            return stale;
+        });
+        ResponseEntity<byte[]> next = cache.respond("students", "page", "students-2", request(),
+                () -> List.of("after-" + renders.incrementAndGet()));
+        ResponseEntity<byte[]> again = cache.respond("students", "page", "students-2", request(),
+                () -> List.of("after-" + renders.incrementAndGet()));
+
+        assertThat(racing.getHeaders().getETag()).isEqualTo("\"students-1\"");
+        assertThat(new String(racing.getBody())).isEqualTo("[\"before-1\"]");
+        assertThat(next.getHeaders().getETag()).isEqualTo("\"students-2\"");
+        assertThat(new String(next.getBody())).isEqualTo("[\"after-2\"]");
+        assertThat(again.getBody()).isSameAs(next.getBody());
+        assertThat(renders).hasValue(2);
+    }
+
+    @Test
+    void matchingIfNoneMatchIsAnsweredWithoutReadingTheCache() {
+        ResponseBodyCache cache = newCache(new ConcurrentMapCacheManager(), 2048);
+        AtomicInteger renders = new AtomicInteger();
+
+        ResponseEntity<byte[]> response = cache.respond("students", "page", "students-7",
+                request(HttpHeaders.IF_NONE_MATCH, "\"students-6\", W/\"students-7\""),
+                () -> List.of(renders.incrementAndGet()));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"students-7\"");
+        assertThat(response.getBody()).isNull();
+        assertThat(renders).hasValue(0);
+
+        ResponseEntity<byte[]> stale = cache.respond("students", "page", "students-8",
+                request(HttpHeaders.IF_NONE_MATCH, "\"students-7\""), () -> List.of(renders.incrementAndGet()));
+        assertThat(stale.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(stale.getHeaders().getETag()).isEqualTo("\"students-8\"");
+    }
+
+    @Test
+    void cborIsRenderedAndCachedSeparatelyFromJson() throws Exception {
+        ResponseBodyCache cache = newCache(cacheManager, 2048);
+        AtomicInteger renders = new AtomicInteger();
+
+        ResponseEntity<byte[]> json = cache.respond("students", "project:1", "project-1-students-2",
+                request(), () -> Map.of("n", renders.incrementAndGet()));
+        ResponseEntity<byte[]> cbor = cache.respond("students", "project:1", "project-1-students-2",
+                request(HttpHeaders.ACCEPT, "application/json;q=0.5, application/cbor"),
+                () -> Map.of("n", renders.incrementAndGet()));
+
+        assertThat(renders).hasValue(2);
+        assertThat(json.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(cbor.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_CBOR);
+        assertThat(cbor.getHeaders().getETag()).isEqualTo("\"project-1-students-2-cbor\"");
+        assertThat(new ObjectMapper(new CBORFactory()).readValue(cbor.getBody(), new TypeReference<Map<String, Integer>>() {
+        })).isEqualTo(Map.of("n", 2));
+        assertThat(cacheManager.getCache("students").get(BodyFormat.CBOR.cacheKey("project:1"))).isNotNull();
+
+        ResponseEntity<byte[]> notModified = cache.respond("students", "project:1", "project-1-students-2",
+                request(HttpHeaders.ACCEPT, "application/cbor", HttpHeaders.IF_NONE_MATCH, "\"project-1-students-2\""),
+                () -> Map.of("n", renders.incrementAndGet()));
+        assertThat(notModified.getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    void acceptHeaderNegotiation() {
+        assertThat(BodyFormat.negotiate(null)).isEqualTo(BodyFormat.JSON);
+        assertThat(BodyFormat.negotiate("*/*")).isEqualTo(BodyFormat.JSON);
+        assertThat(BodyFormat.negotiate("application/x-jackson-smile")).isEqualTo(BodyFormat.SMILE);
+        assertThat(BodyFormat.negotiate("application/cbor;q=0, text/html")).isEqualTo(BodyFormat.JSON);
+        assertThat(BodyFormat.negotiate("not a media type")).isEqualTo(BodyFormat.JSON);
+    }
+
+    @Test
+    void acceptEncodingParsing() {
+        assertThat(ResponseBodyCache.acceptsGzip("gzip, deflate")).isTrue();
+        assertThat(ResponseBodyCache.acceptsGzip("GZIP;q=0.5")).isTrue();
+        assertThat(ResponseBodyCache.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(ResponseBodyCache.acceptsGzip("gzip; Q=0.000")).isFalse();
+        assertThat(ResponseBodyCache.acceptsGzip("gzip;q=abc")).isTrue();
+        assertThat(ResponseBodyCache.acceptsGzip("gzip;q=")).isTrue();
+        assertThat(ResponseBodyCache.acceptsGzip("deflate, *")).isFalse();
+        assertThat(ResponseBodyCache.acceptsGzip(null)).isFalse();
+    }
+
+    private static ResponseBodyCache newCache(ConcurrentMapCacheManager cacheManager, int gzipMinBytes) {
+        ObjectMapper json = new ObjectMapper();
+        return new ResponseBodyCache(cacheManager, json,
+                new MappingJackson2CborHttpMessageConverter(new ObjectMapper(new CBORFactory())),
+                new MappingJackson2SmileHttpMessageConverter(new ObjectMapper(new SmileFactory())), gzipMinBytes);
+    }
+
+    private static WebRequest request(String... headers) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/students");
+        for (int i = 0; i < headers.length; i += 2) {
+            request.addHeader(headers[i], headers[i + 1]);
+        }
+        return new ServletWebRequest(request);
+    }
+}
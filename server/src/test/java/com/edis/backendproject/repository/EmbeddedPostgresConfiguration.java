@@ -0,0 +1,47 @@
+package com.edis.backendproject.repository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+/**
+ * Embedded Postgres, migrated by Flyway, for tests whose subject is Postgres behaviour (collations, cursor
+ * streaming) that H2 cannot show. The server starts once per test JVM; pair with
+ * {@code @AutoConfigureTestDatabase(replace = NONE)} and {@link #PROPERTIES}.
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class EmbeddedPostgresConfiguration {
+
+    public static final String PROPERTIES = "spring.jpa.hibernate.ddl-auto=none";
+
+    private static EmbeddedPostgres postgres;
+
+    @Bean
+    DataSource dataSource() {
+        return server().getPostgresDatabase();
+    }
+
+    private static synchronized EmbeddedPostgres server() {
+        if (postgres == null) {
+            try {
+                postgres = EmbeddedPostgres.builder().start();
+            } catch (IOException ex) {
+                throw new UncheckedIOException("Could not start embedded Postgres", ex);
+            }
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    postgres.close();
+                } catch (IOException ignored) {
+                    // JVM shutdown
+                }
+            }));
+        }
+        return postgres;
+    }
+}
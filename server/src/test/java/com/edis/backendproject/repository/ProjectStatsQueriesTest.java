@@ -0,0 +1,63 @@
+package com.edis.backendproject.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.edis.backendproject.dto.ProjectStats.MonthCount;
+import com.edis.backendproject.dto.ProjectStats.ProjectCount;
+import com.edis.backendproject.dto.ProjectStats.TitleCount;
+
+@DataJpaTest(properties = EmbeddedPostgresConfiguration.PROPERTIES)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({EmbeddedPostgresConfiguration.class, ProjectStatsQueries.class})
+class ProjectStatsQueriesTest {
+
+    private static final long KEPT = 400_000;
+    private static final long DELETING = 400_001;
+
+    @Autowired
+    private ProjectStatsQueries statsQueries;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.update("INSERT INTO projects (id, name, description, created_at, updated_at, deleting_at) VALUES " +
+                "(?, 'Kept', 'Kept', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, NULL), " +
+                "(?, 'Deleting', 'Being purged', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+                KEPT, DELETING);
+        jdbcTemplate.update("INSERT INTO students (id, code_number, first_name, last_name, date_of_birth, title, " +
+                "created_at, updated_at, project_id) VALUES " +
+                "(?, 'Q1', 'Ann', 'Kept', DATE '1890-03-14', 'Stats kept title', TIMESTAMP '1990-01-05 10:00:00', " +
+                "CURRENT_TIMESTAMP, ?), " +
+                "(?, 'Q2', 'Bob', 'Gone', DATE '1890-03-20', 'Stats deleting title', TIMESTAMP '1990-01-06 10:00:00', " +
+                "CURRENT_TIMESTAMP, ?)",
+                KEPT, KEPT, DELETING, DELETING);
+    }
+
+    @Test
+    void studentsOfDeletingProjectsAreLeftOutOfTheAggregates() {
+        statsQueries.refresh("test");
+
+        assertThat(statsQueries.topTitles(1_000)).extracting(TitleCount::title)
+                .contains("Stats kept title")
+                .doesNotContain("Stats deleting title");
+        assertThat(statsQueries.birthMonthCounts())
+                .contains(new MonthCount(LocalDate.of(1890, 3, 1), 1));
+        assertThat(statsQueries.studentsCreatedPerMonth())
+                .contains(new MonthCount(LocalDate.of(1990, 1, 1), 1));
+        assertThat(statsQueries.projectCounts()).extracting(ProjectCount::projectId)
+                .contains(KEPT)
+                .doesNotContain(DELETING);
+    }
+}
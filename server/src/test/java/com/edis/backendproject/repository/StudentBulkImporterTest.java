@@ -0,0 +1,25 @@
+package com.edis.backendproject.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class StudentBulkImporterTest {
+
+    @Test
+    void idsFillEachPooledBlockBeforeMovingToTheNext() {
+        long[] ids = StudentBulkImporter.idsFromBlocks(List.of(150L, 400L), 52);
+
+        assertThat(ids[0]).isEqualTo(101L);
+        assertThat(ids[49]).isEqualTo(150L);
+        assertThat(ids[50]).isEqualTo(351L);
+        assertThat(ids[51]).isEqualTo(352L);
+    }
+
+    @Test
+    void importOfOneRowUsesOneBlock() {
+        assertThat(StudentBulkImporter.idsFromBlocks(List.of(50L), 1)).containsExactly(1L);
+    }
+}
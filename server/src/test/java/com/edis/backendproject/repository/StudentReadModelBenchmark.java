@@ -0,0 +1,134 @@
+package com.edis.backendproject.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.edis.backendproject.dto.StudentView;
+import com.edis.backendproject.model.Student;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Compares the entity read path with the {@link StudentView} projection for a 500-row keyset page:
+ * query, hydration and JSON serialization, each iteration in its own read-only transaction like a request.
+ * Reports mean latency and bytes allocated per page on the calling thread.
+ * Opt-in: {@code mvn test -Dbenchmark=true -Dtest=StudentReadModelBenchmark}.
+ */
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class StudentReadModelBenchmark {
+
+    private static final int STUDENTS = 20_000;
+    private static final int PAGE_SIZE = 500;
+    private static final int WARMUP = 200;
+    private static final int ITERATIONS = 500;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.update("DELETE FROM students");
+        jdbcTemplate.update("DELETE FROM projects");
+        List<Object[]> projects = new ArrayList<>();
+        for (long id = 1; id <= 20; id++) {
+            projects.add(new Object[] {id, "Project " + id, "Benchmark project " + id});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO projects (id, name, description, created_at) VALUES (?, ?, ?, CURRENT_TIMESTAMP)", projects);
+
+        List<Object[]> students = new ArrayList<>(STUDENTS);
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.of(2024, 1, 1, 0, 0));
+        for (long id = 1; id <= STUDENTS; id++) {
+            students.add(new Object[] {id, String.format("%08d", id), "First" + id, "Last" + (id % 997), "Engineer",
+                    "Description for student " + id, createdAt, id % 20 + 1});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO students (id, code_number, first_name, last_name, title, description, " +
+                "created_at, project_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?)", students);
+    }
+
+    @Test
+    void entityVersusProjectionPage() throws Exception {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        Result entities = measure("entity", () -> readOnly.execute(status -> {
+            List<Student> page = studentRepository.findPageOrderByCodeNumber(Limit.of(PAGE_SIZE));
+            return serialize(page);
+        }));
+        Result views = measure("projection", () -> readOnly.execute(status -> {
+            List<StudentView> page = studentRepository.findViewPageOrderByCodeNumber(Limit.of(PAGE_SIZE));
+            return serialize(page);
+        }));
+
+        System.out.printf("%-10s %12s %16s%n", "path", "mean us", "alloc KB/page");
+        System.out.println(entities);
+        System.out.println(views);
+        assertThat(views.json()).isEqualTo(entities.json());
+    }
+
+    private Result measure(String name, Supplier<String> page) {
+        String json = null;
+        for (int i = 0; i < WARMUP; i++) {
+            json = page.get();
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        long started = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            json = page.get();
+        }
+        long elapsed = System.nanoTime() - started;
+        long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        return new Result(name, elapsed / 1_000.0 / ITERATIONS, allocated / 1024.0 / ITERATIONS, json);
+    }
+
+    private String serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private record Result(String name, double meanMicros, double allocatedKb, String json) {
+        @Override
+        public String toString() {
+            return String.format("%-10s %12.1f %16.1f", name, meanMicros, allocatedKb);
+        }
+    }
+}
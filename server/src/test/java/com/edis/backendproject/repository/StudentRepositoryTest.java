@@ -0,0 +1,83 @@
+package com.edis.backendproject.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.edis.backendproject.dto.NameSearch;
+import com.edis.backendproject.dto.NameSearchMode;
+import com.edis.backendproject.dto.StudentFilter;
+import com.edis.backendproject.dto.StudentView;
+import com.edis.backendproject.model.Student;
+
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false"
+})
+class StudentRepositoryTest {
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.update("INSERT INTO projects (id, name, description, created_at, updated_at, deleting_at) VALUES " +
+                "(1, 'Compilers', 'Kept', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, NULL), " +
+                "(2, 'Databases', 'Being purged', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)");
+        jdbcTemplate.update("INSERT INTO students (id, code_number, first_name, last_name, title, created_at, updated_at, " +
+                "project_id) VALUES " +
+                "(1, '1001', 'Tom', 'Adams', 'Thesis', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 1), " +
+                "(2, '1002', 'Tomas', 'Brown', 'Thesis', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 2), " +
+                "(3, '1003', 'Anna', 'Cole', 'Thesis', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 1)");
+    }
+
+    @Test
+    void studentsOfDeletingProjectsAreHiddenFromListsAndSearch() {
+        assertThat(viewIds(studentRepository.findViewPageOrderByLastName(Limit.of(10)))).containsExactly(1L, 3L);
+        assertThat(viewIds(studentRepository.findViewPageOrderByCodeNumberAfter("1001", 1L, Limit.of(10))))
+                .containsExactly(3L);
+        assertThat(studentRepository.findViewsByProjectId(2L)).isEmpty();
+
+        StudentFilter byName = StudentFilter.builder()
+                .name(new NameSearch("tom", NameSearchMode.PREFIX, NameSearch.DEFAULT_THRESHOLD)).build();
+        assertThat(viewIds(studentRepository.findViews(StudentSpecifications.matching(byName), 10))).containsExactly(1L);
+        assertThat(studentRepository.findAll(StudentSpecifications.matching(byName)))
+                .extracting(Student::getId).containsExactly(1L);
+        assertThat(studentRepository.count(StudentSpecifications.matching(byName))).isEqualTo(1L);
+
+        assertThat(studentRepository.findPageOrderByCodeNumber(Limit.of(10)))
+                .extracting(Student::getId).containsExactly(1L, 3L);
+    }
+
+    @Test
+    void reassignProjectMovesStudentsAndTouchesUpdatedAt() {
+        jdbcTemplate.update("UPDATE students SET updated_at = TIMESTAMP '2020-01-01 00:00:00'");
+
+        int updated = studentRepository.reassignProject(List.of(1L, 3L), 2L);
+
+        assertThat(updated).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM students WHERE project_id = 2 ORDER BY id", Long.class))
+                .containsExactly(1L, 2L, 3L);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM students WHERE updated_at > TIMESTAMP '2020-01-01 00:00:00'", Long.class))
+                .isEqualTo(2L);
+        assertThat(studentRepository.findById(1L)).get()
+                .extracting(student -> student.getProject().getId()).isEqualTo(2L);
+    }
+
+    private static List<Long> viewIds(List<StudentView> views) {
+        return views.stream().map(StudentView::id).toList();
+    }
+}
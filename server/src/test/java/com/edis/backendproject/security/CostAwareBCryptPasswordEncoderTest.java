@@ -0,0 +1,41 @@
+package com.edis.backendproject.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+class CostAwareBCryptPasswordEncoderTest {
+
+    private final PasswordEncoder cost4 = SecurityConfig.delegatingPasswordEncoder(4);
+    private final PasswordEncoder cost5 = SecurityConfig.delegatingPasswordEncoder(5);
+
+    @Test
+    void encodesWithIdAndConfiguredCost() {
+        String hash = cost4.encode("secret");
+
+        assertThat(hash).startsWith("{bcrypt}$2a$04$");
+        assertThat(cost4.matches("secret", hash)).isTrue();
+        assertThat(cost4.upgradeEncoding(hash)).isFalse();
+    }
+
+    @Test
+    void requestsRehashWhenTheCostChangesInEitherDirection() {
+        String weaker = cost4.encode("secret");
+        String stronger = cost5.encode("secret");
+
+        assertThat(cost5.matches("secret", weaker)).isTrue();
+        assertThat(cost5.upgradeEncoding(weaker)).isTrue();
+        assertThat(cost4.upgradeEncoding(stronger)).isTrue();
+    }
+
+    @Test
+    void legacyHashesWithoutIdStillMatchAndAreUpgraded() {
+        String legacy = new BCryptPasswordEncoder(4).encode("secret");
+
+        assertThat(cost4.matches("secret", legacy)).isTrue();
+        assertThat(cost4.matches("wrong", legacy)).isFalse();
+        assertThat(cost4.upgradeEncoding(legacy)).isTrue();
+    }
+}
@@ -0,0 +1,126 @@
+package com.edis.backendproject.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import com.edis.backendproject.dto.SecurityVersion;
+import com.edis.backendproject.service.CustomUserDetailsService;
+import com.edis.backendproject.service.TokenBlacklistService;
+import com.edis.backendproject.service.UserSecurityVersions;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class JwtAuthenticationFilterTest {
+
+    private final JwtTokenProvider tokenProvider = tokenProvider();
+    private final TokenBlacklistService blacklist = mock(TokenBlacklistService.class);
+    private final UserSecurityVersions securityVersions = mock(UserSecurityVersions.class);
+    private final CustomUserDetailsService userDetailsService = mock(CustomUserDetailsService.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new JwtAuthenticationFilter(tokenProvider, userDetailsService, blacklist,
+                securityVersions, true, registry);
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void validTokenIsTimedThroughEveryPhase() throws Exception {
+        String token = tokenProvider.generateToken(new UsernamePasswordAuthenticationToken("alice", null), 3L);
+        when(securityVersions.currentVersion("alice")).thenReturn(new SecurityVersion(3L));
+
+        filter.doFilter(request(token), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getName()).isEqualTo("alice");
+        assertThat(phaseCount("blacklist", "clear")).isEqualTo(1);
+        assertThat(phaseCount("parse", "valid")).isEqualTo(1);
+        assertThat(phaseCount("user", "found")).isEqualTo(1);
+        assertThat(requests("authenticated")).isEqualTo(1);
+    }
+
+    @Test
+    void blacklistedTokenStopsAfterTheFirstPhase() throws Exception {
+        when(blacklist.isBlacklisted("revoked")).thenReturn(true);
+
+        filter.doFilter(request("revoked"), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(phaseCount("blacklist", "blacklisted")).isEqualTo(1);
+        assertThat(registry.find(JwtAuthenticationFilter.PHASE_TIMER).tag("phase", "parse").timer()).isNull();
+        assertThat(requests("blacklisted")).isEqualTo(1);
+    }
+
+    @Test
+    void garbageTokenIsCountedAsInvalid() throws Exception {
+        filter.doFilter(request("not-a-jwt"), new MockHttpServletResponse(), new MockFilterChain());
+
+        verify(blacklist).isBlacklisted("not-a-jwt");
+        assertThat(phaseCount("parse", "invalid")).isEqualTo(1);
+        assertThat(requests("invalid")).isEqualTo(1);
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    void tokenOfADeletedUserLeavesTheRequestUnauthenticated() throws Exception {
+        filter = new JwtAuthenticationFilter(tokenProvider, userDetailsService, blacklist, securityVersions, false,
+                registry);
+        String token = tokenProvider.generateToken(new UsernamePasswordAuthenticationToken("ghost", null), 1L);
+        when(userDetailsService.loadUserByUsername(anyString())).thenThrow(new UsernameNotFoundException("ghost"));
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request(token), new MockHttpServletResponse(), chain);
+
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        assertThat(phaseCount("user", "missing")).isEqualTo(1);
+        assertThat(requests("revoked")).isEqualTo(1);
+    }
+
+    @Test
+    void requestsWithoutTokenAreNotCounted() throws Exception {
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/projects"), new MockHttpServletResponse(),
+                new MockFilterChain());
+
+        assertThat(registry.find(JwtAuthenticationFilter.REQUEST_COUNTER).counters()).isEmpty();
+    }
+
+    private long phaseCount(String phase, String outcome) {
+        return registry.get(JwtAuthenticationFilter.PHASE_TIMER).tag("phase", phase).tag("outcome", outcome).timer().count();
+    }
+
+    private double requests(String outcome) {
+        return registry.get(JwtAuthenticationFilter.REQUEST_COUNTER).tag("outcome", outcome).counter().count();
+    }
+
+    private static MockHttpServletRequest request(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/projects");
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+
+    private static JwtTokenProvider tokenProvider() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret("0123456789abcdef0123456789abcdef");
+        properties.setExpiration(60_000);
+        return new JwtTokenProvider(properties);
+    }
+}
@@ -0,0 +1,86 @@
+package com.edis.backendproject.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "0123456789abcdef0123456789abcdef";
+
+    private JwtTokenProvider tokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(SECRET);
+        properties.setExpiration(60_000);
+        tokenProvider = new JwtTokenProvider(properties);
+    }
+
+    @Test
+    void verifyReturnsClaimsAndReusesThemForTheSameToken() {
+        String token = tokenProvider.generateToken(new UsernamePasswordAuthenticationToken("alice", null), 0L);
+
+        Claims first = tokenProvider.verify(token).orElseThrow();
+        Claims second = tokenProvider.verify(token).orElseThrow();
+
+        assertThat(first.getSubject()).isEqualTo("alice");
+        assertThat(second).isSameAs(first);
+        assertThat(tokenProvider.getUsernameFromToken(token)).isEqualTo("alice");
+    }
+
+    @Test
+    void generatedTokenCarriesAuthoritiesAndSecurityVersion() {
+        String token = tokenProvider.generateToken(new UsernamePasswordAuthenticationToken("alice", null,
+                List.of(new SimpleGrantedAuthority("ROLE_ADMIN"))), 7L);
+
+        Claims claims = tokenProvider.verify(token).orElseThrow();
+
+        assertThat(tokenProvider.getSecurityVersion(claims)).isEqualTo(7L);
+        assertThat(tokenProvider.getAuthorities(claims)).extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_ADMIN");
+    }
+
+    @Test
+    void invalidateForcesTheNextVerificationToParseAgain() {
+        String token = tokenProvider.generateToken(new UsernamePasswordAuthenticationToken("alice", null), 0L);
+        Claims first = tokenProvider.verify(token).orElseThrow();
+
+        tokenProvider.invalidate(token);
+
+        assertThat(tokenProvider.verify(token).orElseThrow()).isNotSameAs(first);
+    }
+
+    @Test
+    void verifyRejectsTamperedExpiredAndForeignTokens() {
+        String token = tokenProvider.generateToken(new UsernamePasswordAuthenticationToken("alice", null), 0L);
+        String expired = Jwts.builder()
+                .setSubject("alice")
+                .setExpiration(new Date(System.currentTimeMillis() - 1_000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes()), SignatureAlgorithm.HS256)
+                .compact();
+        String foreign = Jwts.builder()
+                .setSubject("alice")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor("another-secret-another-secret-xx".getBytes()), SignatureAlgorithm.HS256)
+                .compact();
+
+        assertThat(tokenProvider.verify(token + "x")).isEmpty();
+        assertThat(tokenProvider.verify(expired)).isEmpty();
+        assertThat(tokenProvider.verify(foreign)).isEmpty();
+        assertThat(tokenProvider.validateToken("not-a-jwt")).isFalse();
+    }
+}
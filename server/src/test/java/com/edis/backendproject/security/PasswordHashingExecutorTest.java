@@ -0,0 +1,60 @@
+package com.edis.backendproject.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PasswordHashingExecutorTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final PasswordHashingExecutor executor =
+            new PasswordHashingExecutor(1, 1, Duration.ofSeconds(2), registry);
+
+    @AfterEach
+    void tearDown() {
+        executor.destroy();
+    }
+
+    @Test
+    void rejectsOnceTheThreadAndQueueAreTaken() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> running = executor.submit(() -> {
+            await(release);
+            return "first";
+        });
+        CompletableFuture<String> queued = executor.submit(() -> "second");
+
+        assertThatThrownBy(() -> executor.submit(() -> "third"))
+                .isInstanceOfSatisfying(PasswordHashingRejectedException.class,
+                        ex -> assertThat(ex.getRetryAfter()).isEqualTo(Duration.ofSeconds(2)));
+        assertThat(registry.get("app.auth.hashing.rejected").counter().count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("first");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("second");
+        assertThat(executor.submit(() -> "after").get(5, TimeUnit.SECONDS)).isEqualTo("after");
+    }
+
+    @Test
+    void exposesPoolMetrics() {
+        assertThat(registry.find("executor.queue.remaining").tag("name", PasswordHashingExecutor.NAME).gauge())
+                .isNotNull();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
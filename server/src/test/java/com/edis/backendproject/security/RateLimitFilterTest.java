@@ -0,0 +1,85 @@
+package com.edis.backendproject.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+class RateLimitFilterTest {
+
+    private final RateLimiter rateLimiter = mock(RateLimiter.class);
+    private final RateLimitProperties properties = new RateLimitProperties();
+    private final RateLimitFilter filter =
+            new RateLimitFilter(rateLimiter, properties, Jackson2ObjectMapperBuilder.json().build());
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void limitedLoginGets429WithRetryAfter() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login");
+        request.setRemoteAddr("203.0.113.7");
+        when(rateLimiter.tryConsume(eq(RateLimiter.AUTH_IP), eq("203.0.113.7"), any()))
+                .thenReturn(new RateLimitDecision(false, 20, 0, 60, 3, "20;w=60"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("3");
+        assertThat(response.getHeader("RateLimit-Remaining")).isEqualTo("0");
+        assertThat(response.getContentAsString()).contains("\"success\":false");
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    @Test
+    void authenticatedApiCallsAreLimitedPerPrincipal() throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken("alice", null,
+                List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+        when(rateLimiter.tryConsume(eq(RateLimiter.API), eq("alice"), any()))
+                .thenReturn(new RateLimitDecision(true, 200, 199, 1, 1, "200;w=2"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/projects"), response, chain);
+
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(response.getHeader("RateLimit-Remaining")).isEqualTo("199");
+        assertThat(response.getHeader("Retry-After")).isNull();
+    }
+
+    @Test
+    void anonymousAndNonApiRequestsAreNotLimited() throws Exception {
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/projects"), new MockHttpServletResponse(),
+                new MockFilterChain());
+        filter.doFilter(new MockHttpServletRequest("GET", "/actuator/health"), new MockHttpServletResponse(),
+                new MockFilterChain());
+
+        verifyNoInteractions(rateLimiter);
+    }
+
+    @Test
+    void authPathsOnlyCountPosts() throws Exception {
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/auth/login"), new MockHttpServletResponse(),
+                new MockFilterChain());
+
+        verifyNoInteractions(rateLimiter);
+    }
+}
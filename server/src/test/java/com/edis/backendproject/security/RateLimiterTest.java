@@ -0,0 +1,161 @@
+package com.edis.backendproject.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.ResourcePropertySource;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import com.edis.backendproject.config.RedisConfig;
+
+import io.lettuce.core.resource.ClientResources;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RateLimiterTest {
+
+    private static final RateLimitProperties.Bucket BUCKET = new RateLimitProperties.Bucket(2, 1, Duration.ofSeconds(1));
+
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    private final RateLimitProperties properties = new RateLimitProperties();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AtomicLong clock = new AtomicLong(TimeUnit.SECONDS.toNanos(100));
+    private final RateLimiter rateLimiter = new RateLimiter(redisTemplate, properties, registry, clock::get);
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void usesTheRedisScriptReply() {
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of("ratelimit:api:alice")),
+                eq("2"), eq("1"), eq("1000"), eq("1"))).thenReturn(List.of(0L, 0L, 400L, 2000L));
+
+        RateLimitDecision decision = rateLimiter.tryConsume(RateLimiter.API, "alice", BUCKET);
+
+        assertThat(decision.allowed()).isFalse();
+        assertThat(decision.headers().getFirst("RateLimit-Limit")).isEqualTo("2");
+        assertThat(decision.headers().getFirst("RateLimit-Remaining")).isEqualTo("0");
+        assertThat(decision.headers().getFirst("RateLimit-Reset")).isEqualTo("2");
+        assertThat(decision.headers().getFirst("RateLimit-Policy")).isEqualTo("2;w=2");
+        assertThat(decision.headers().getFirst("Retry-After")).isEqualTo("1");
+        assertThat(registry.get(RateLimiter.COUNTER).tag("backend", "redis").tag("outcome", "limited").counter()
+                .count()).isEqualTo(1);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void fallsBackToLocalBucketsWhileRedisIsDown() {
+        when(redisTemplate.execute(any(RedisScript.class), any(List.class), any(), any(), any(), any()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        assertThat(rateLimiter.tryConsume(RateLimiter.API, "alice", BUCKET).allowed()).isTrue();
+        assertThat(rateLimiter.tryConsume(RateLimiter.API, "alice", BUCKET).allowed()).isTrue();
+        RateLimitDecision limited = rateLimiter.tryConsume(RateLimiter.API, "alice", BUCKET);
+        assertThat(limited.allowed()).isFalse();
+        assertThat(limited.retryAfterSeconds()).isEqualTo(1);
+        assertThat(rateLimiter.tryConsume(RateLimiter.API, "bob", BUCKET).allowed()).isTrue();
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1_000));
+        assertThat(rateLimiter.tryConsume(RateLimiter.API, "alice", BUCKET).allowed()).isTrue();
+        // Redis is only tried once until the cooldown has passed
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), any(List.class), any(), any(), any(), any());
+
+        clock.addAndGet(properties.getFallbackCooldown().toNanos());
+        rateLimiter.tryConsume(RateLimiter.API, "alice", BUCKET);
+        verify(redisTemplate, times(2)).execute(any(RedisScript.class), any(List.class), any(), any(), any(), any());
+        assertThat(registry.get(RateLimiter.COUNTER).tag("backend", "local").tag("outcome", "limited").counter()
+                .count()).isEqualTo(1);
+    }
+
+    @Test
+    void unresponsiveRedisFallsBackWithinTheConfiguredCommandTimeout() throws Exception {
+        // Accepts connections but never answers, like a Redis stuck in a long command or a half-open failover
+        try (ServerSocket silentRedis = new ServerSocket(0)) {
+            Thread acceptor = new Thread(() -> {
+                List<Socket> connections = new ArrayList<>();
+                try {
+                    while (true) {
+                        connections.add(silentRedis.accept());
+                    }
+                } catch (IOException closed) {
+                    connections.forEach(connection -> {
+                        try {
+                            connection.close();
+                        } catch (IOException ignored) {
+                            // Test teardown
+                        }
+                    });
+                }
+            });
+            acceptor.setDaemon(true);
+            acceptor.start();
+
+            ClientResources clientResources = ClientResources.create();
+            LettuceConnectionFactory connectionFactory = new RedisConfig().rateLimitConnectionFactory("localhost",
+                    silentRedis.getLocalPort(), "", false, shippedRateLimitTimeout(), clientResources);
+            connectionFactory.afterPropertiesSet();
+            try {
+                RateLimiter limiter = new RateLimiter(new StringRedisTemplate(connectionFactory), properties, registry);
+
+                long started = System.nanoTime();
+                RateLimitDecision decision = limiter.tryConsume(RateLimiter.API, "alice", BUCKET);
+                Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+
+                assertThat(decision.allowed()).isTrue();
+                assertThat(elapsed).isLessThan(Duration.ofSeconds(2));
+                assertThat(registry.get(RateLimiter.COUNTER).tag("backend", "local").counter().count()).isEqualTo(1);
+            } finally {
+                connectionFactory.destroy();
+                clientResources.shutdown();
+            }
+        }
+    }
+
+    // The timeout exactly as application.properties resolves it, environment overrides included
+    private static Duration shippedRateLimitTimeout() throws IOException {
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addLast(
+                new ResourcePropertySource(new ClassPathResource("application.properties")));
+        return Binder.get(environment).bind("app.rate-limit.redis-timeout", Duration.class).get();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void checkUsernameThrowsWithTheDecisionWhenLimited() {
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of("ratelimit:auth-username:alice")),
+                any(), any(), any(), any())).thenReturn(List.of(0L, 0L, 12_000L, 60_000L));
+
+        assertThatThrownBy(() -> rateLimiter.checkUsername(" Alice "))
+                .isInstanceOfSatisfying(RateLimitExceededException.class,
+                        ex -> assertThat(ex.getDecision().retryAfterSeconds()).isEqualTo(12));
+    }
+
+    @Test
+    void checkUsernameIsANoOpWhenDisabled() {
+        properties.setEnabled(false);
+
+        rateLimiter.checkUsername("alice");
+
+        verifyNoInteractions(redisTemplate);
+    }
+}
@@ -0,0 +1,45 @@
+package com.edis.backendproject.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class RevokedTokenMirrorTest {
+
+    @Test
+    void reportsOnlyAddedDigestsAsRevoked() {
+        RevokedTokenMirror mirror = new RevokedTokenMirror(1_000);
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        IntStream.range(0, 500).forEach(i -> mirror.add(TokenDigest.of("revoked-" + i), expiresAt));
+
+        assertThat(IntStream.range(0, 500).allMatch(i -> mirror.isRevoked(TokenDigest.of("revoked-" + i)))).isTrue();
+        assertThat(IntStream.range(0, 5_000).noneMatch(i -> mirror.isRevoked(TokenDigest.of("live-" + i)))).isTrue();
+    }
+
+    @Test
+    void ignoresAndPrunesExpiredEntries() {
+        RevokedTokenMirror mirror = new RevokedTokenMirror(1_000);
+        long now = System.currentTimeMillis();
+        mirror.add(TokenDigest.of("already-expired"), now - 1);
+        mirror.add(TokenDigest.of("short-lived"), now + 50);
+        mirror.add(TokenDigest.of("long-lived"), now + 60_000);
+
+        mirror.prune(now + 100);
+
+        assertThat(mirror.size()).isEqualTo(1);
+        assertThat(mirror.isRevoked(TokenDigest.of("short-lived"))).isFalse();
+        assertThat(mirror.isRevoked(TokenDigest.of("long-lived"))).isTrue();
+    }
+
+    @Test
+    void bloomFilterKeepsFalsePositivesNearConfiguredRate() {
+        RevokedTokenMirror.BloomFilter filter = new RevokedTokenMirror.BloomFilter(10_000);
+        IntStream.range(0, 10_000).forEach(i -> filter.put(TokenDigest.of("in-" + i)));
+
+        long falsePositives = IntStream.range(0, 10_000).filter(i -> filter.mightContain(TokenDigest.of("out-" + i))).count();
+
+        assertThat(falsePositives).isLessThan(300);
+    }
+}
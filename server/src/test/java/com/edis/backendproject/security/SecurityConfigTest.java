@@ -0,0 +1,33 @@
+package com.edis.backendproject.security;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+class SecurityConfigTest {
+
+    @Test
+    void prometheusScrapeIsOnlyOpenOnTheManagementPort() {
+        RequestMatcher matcher = SecurityConfig.prometheusScrape(8080, 8090);
+
+        assertTrue(matcher.matches(request(8090, "/actuator/prometheus")));
+        assertFalse(matcher.matches(request(8080, "/actuator/prometheus")));
+        assertFalse(matcher.matches(request(8090, "/actuator/env")));
+    }
+
+    @Test
+    void prometheusScrapeNeedsAuthenticationWhenActuatorSharesTheApplicationPort() {
+        RequestMatcher matcher = SecurityConfig.prometheusScrape(8080, 8080);
+
+        assertFalse(matcher.matches(request(8080, "/actuator/prometheus")));
+    }
+
+    private static MockHttpServletRequest request(int localPort, String uri) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.setLocalPort(localPort);
+        return request;
+    }
+}
@@ -0,0 +1,113 @@
+package com.edis.backendproject.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings("null")
+class CollectionVersionsTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> values;
+
+    private CollectionVersions versions;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(redisTemplate.opsForValue()).thenReturn(values);
+        versions = new CollectionVersions(redisTemplate, () -> 1_700_000_000_000L);
+    }
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void etagsFollowTheCounter() {
+        when(values.get(CollectionVersions.PROJECT_STUDENTS_PREFIX + 4)).thenReturn("12");
+
+        assertThat(versions.projectStudentsETag(4L)).isEqualTo("project-4-students-12");
+        verify(values, never()).setIfAbsent(anyString(), anyString());
+    }
+
+    @Test
+    void missingCounterIsSeededFromTheClockInsteadOfZero() {
+        // First read finds the key gone (flush or failover); the re-read sees whichever seed won the SETNX
+        when(values.get(CollectionVersions.PROJECTS_KEY)).thenReturn(null, "1700000000000");
+
+        assertThat(versions.projectsETag()).isEqualTo("projects-1700000000000");
+        verify(values).setIfAbsent(CollectionVersions.PROJECTS_KEY, "1700000000000");
+    }
+
+    @Test
+    void counterThatCannotBeSeededLeavesResponsesUntagged() {
+        when(values.get(CollectionVersions.PROJECTS_KEY)).thenReturn(null);
+
+        assertThat(versions.projectsETag()).isNull();
+    }
+
+    @Test
+    void dashboardETagCombinesProjectsAndStudents() {
+        when(values.get(CollectionVersions.PROJECTS_KEY)).thenReturn("3");
+        when(values.get(CollectionVersions.STUDENTS_KEY)).thenReturn("8");
+
+        assertThat(versions.dashboardETag()).isEqualTo("dashboard-projects-3-students-8");
+    }
+
+    @Test
+    void redisFailureLeavesResponsesUntagged() {
+        when(values.get(anyString())).thenThrow(new RedisConnectionFailureException("down"));
+
+        assertThat(versions.studentsETag()).isNull();
+    }
+
+    @Test
+    void bumpsWaitForTheTransactionToCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        versions.studentsChanged(List.of(1L, 2L));
+
+        verify(values, never()).increment(anyString());
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        verify(values).setIfAbsent(CollectionVersions.STUDENTS_KEY, "1700000000000");
+        verify(values).increment(CollectionVersions.STUDENTS_KEY);
+        verify(values).increment(CollectionVersions.PROJECT_STUDENTS_PREFIX + 1);
+        verify(values).increment(CollectionVersions.PROJECT_STUDENTS_PREFIX + 2);
+    }
+
+    @Test
+    void rolledBackWritesDoNotBump() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        versions.projectsChanged();
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        verify(values, never()).increment(anyString());
+    }
+}
@@ -0,0 +1,40 @@
+package com.edis.backendproject.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.edis.backendproject.model.User;
+import com.edis.backendproject.repository.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+class CustomUserDetailsServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private CustomUserDetailsService userDetailsService;
+
+    @Test
+    void updatePasswordStoresTheRehashWithoutBumpingTheSecurityVersion() {
+        User user = User.builder().id(1L).username("alice").password("$2a$10$old").role("USER").securityVersion(3L).build();
+        when(userRepository.findByUsername("alice")).thenReturn(Optional.of(user));
+        UserDetails loaded = userDetailsService.loadUserByUsername("alice");
+
+        UserDetails updated = userDetailsService.updatePassword(loaded, "{bcrypt}$2a$12$new");
+
+        assertThat(user.getPassword()).isEqualTo("{bcrypt}$2a$12$new");
+        assertThat(user.getSecurityVersion()).isEqualTo(3L);
+        assertThat(updated.getPassword()).isEqualTo("{bcrypt}$2a$12$new");
+        assertThat(updated.getAuthorities()).isEqualTo(loaded.getAuthorities());
+    }
+}
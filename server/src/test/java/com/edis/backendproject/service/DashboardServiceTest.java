@@ -0,0 +1,59 @@
+package com.edis.backendproject.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.edis.backendproject.dto.DashboardProject;
+import com.edis.backendproject.dto.StudentView;
+import com.edis.backendproject.repository.DashboardQueries;
+import com.edis.backendproject.repository.DashboardQueries.ProjectRow;
+
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings("null")
+class DashboardServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 5, 1, 12, 0);
+
+    @Mock
+    private DashboardQueries dashboardQueries;
+
+    @Test
+    void projectsCarryTheirCountsAndRecentStudents() {
+        when(dashboardQueries.activeProjects()).thenReturn(List.of(
+                new ProjectRow(1L, "Alpha", null, NOW, NOW, 2),
+                new ProjectRow(2L, "Beta", null, NOW, NOW, 0)));
+        when(dashboardQueries.recentStudents(5)).thenReturn(List.of(student(11L, 1L), student(10L, 1L)));
+
+        List<DashboardProject> dashboard = new DashboardService(dashboardQueries, 5).getDashboard();
+
+        assertThat(dashboard).extracting(DashboardProject::name).containsExactly("Alpha", "Beta");
+        assertThat(dashboard.get(0).studentCount()).isEqualTo(2);
+        assertThat(dashboard.get(0).recentStudents()).extracting(StudentView::id).containsExactly(11L, 10L);
+        assertThat(dashboard.get(1).recentStudents()).isEmpty();
+    }
+
+    @Test
+    void zeroRecentStudentsSkipsTheSecondQuery() {
+        when(dashboardQueries.activeProjects()).thenReturn(List.of(new ProjectRow(1L, "Alpha", null, NOW, NOW, 7)));
+
+        List<DashboardProject> dashboard = new DashboardService(dashboardQueries, 0).getDashboard();
+
+        assertThat(dashboard.get(0).studentCount()).isEqualTo(7);
+        verify(dashboardQueries, never()).recentStudents(anyInt());
+    }
+
+    private static StudentView student(Long id, Long projectId) {
+        return new StudentView(id, "C" + id, "First", "Last", null, "Engineer", null, NOW, NOW, projectId, "Alpha");
+    }
+}
@@ -0,0 +1,96 @@
+package com.edis.backendproject.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.edis.backendproject.dto.BatchOperationType;
+import com.edis.backendproject.dto.BatchResult;
+import com.edis.backendproject.dto.ProjectBatchOperation;
+import com.edis.backendproject.dto.ProjectRequest;
+import com.edis.backendproject.model.Project;
+import com.edis.backendproject.repository.ProjectRepository;
+
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings("null")
+class ProjectBatchServiceTest {
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private StudentSearchIndex searchIndex;
+
+    @Mock
+    private ProjectDeletionService deletionService;
+
+    @Mock
+    private CollectionVersions collectionVersions;
+
+    @InjectMocks
+    private ProjectBatchService batchService;
+
+    @Test
+    void createsRenamesAndDeletesWithOneLookupPerKind() {
+        Project alpha = Project.builder().id(1L).name("Alpha").build();
+        Project beta = Project.builder().id(2L).name("Beta").build();
+        when(projectRepository.findByNameIn(Set.of("Gamma", "Alpha Prime"))).thenReturn(List.of());
+        when(projectRepository.findAllByIdInAndDeletingAtIsNull(Set.of(1L, 2L))).thenReturn(List.of(alpha, beta));
+        when(projectRepository.save(any(Project.class))).thenAnswer(invocation -> {
+            Project project = invocation.getArgument(0);
+            if (project.getId() == null) {
+                project.setId(3L);
+            }
+            return project;
+        });
+
+        List<BatchResult> results = batchService.applyBatch(List.of(
+                ProjectBatchOperation.builder().op(BatchOperationType.CREATE).project(new ProjectRequest("Gamma", null)).build(),
+                ProjectBatchOperation.builder().op(BatchOperationType.UPDATE).id(1L)
+                        .project(new ProjectRequest("Alpha Prime", "renamed")).build(),
+                ProjectBatchOperation.builder().op(BatchOperationType.DELETE).id(2L).build()));
+
+        assertThat(results).extracting(BatchResult::ids).containsExactly(List.of(3L), List.of(1L), List.of(2L));
+        assertThat(alpha.getName()).isEqualTo("Alpha Prime");
+        verify(searchIndex).projectRenamed(1L, "Alpha Prime");
+        verify(deletionService).delete(2L);
+        verify(searchIndex).projectDeleted(2L);
+    }
+
+    @Test
+    void rejectsNamesTakenInTheDatabaseOrEarlierInTheBatch() {
+        when(projectRepository.findByNameIn(Set.of("Gamma"))).thenReturn(List.of());
+        when(projectRepository.save(any(Project.class))).thenAnswer(invocation -> {
+            Project project = invocation.getArgument(0);
+            if (project.getId() == null) {
+                project.setId(3L);
+            }
+            return project;
+        });
+
+        assertThatThrownBy(() -> batchService.applyBatch(List.of(
+                ProjectBatchOperation.builder().op(BatchOperationType.CREATE).project(new ProjectRequest("Gamma", null)).build(),
+                ProjectBatchOperation.builder().op(BatchOperationType.CREATE).project(new ProjectRequest("Gamma", null)).build())))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Project with this name already exists");
+
+        Project existing = Project.builder().id(1L).name("Alpha").build();
+        when(projectRepository.findByNameIn(Set.of("Alpha"))).thenReturn(List.of(existing));
+        assertThatThrownBy(() -> batchService.applyBatch(List.of(
+                ProjectBatchOperation.builder().op(BatchOperationType.CREATE).project(new ProjectRequest("Alpha", null)).build())))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(deletionService, never()).delete(any());
+    }
+}
@@ -0,0 +1,89 @@
+package com.edis.backendproject.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.edis.backendproject.repository.ProjectRepository;
+import com.edis.backendproject.repository.StudentRepository;
+
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings("null")
+class ProjectDeletionServiceTest {
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private StudentRepository studentRepository;
+
+    @Mock
+    private StudentCacheEvictor cacheEvictor;
+
+    @Mock
+    private CollectionVersions collectionVersions;
+
+    private ProjectDeletionService deletionService;
+
+    @BeforeEach
+    void setUp() {
+        deletionService = new ProjectDeletionService(projectRepository, studentRepository, cacheEvictor, collectionVersions,
+                mock(PlatformTransactionManager.class), 100, 40);
+    }
+
+    @Test
+    void smallProjectIsDeletedWithOneStatement() {
+        when(projectRepository.findStudentCountById(1L)).thenReturn(Optional.of(100L));
+
+        assertThat(deletionService.delete(1L)).isFalse();
+
+        verify(projectRepository).deleteRowById(1L);
+        verify(projectRepository, never()).markDeleting(any(), any());
+    }
+
+    @Test
+    void largeProjectIsMarkedInsteadOfDeleted() {
+        when(projectRepository.findStudentCountById(2L)).thenReturn(Optional.of(101L));
+
+        // No transaction is active here, so the purge would start immediately; run it synchronously instead
+        ProjectDeletionService marking = new ProjectDeletionService(projectRepository, studentRepository, cacheEvictor, collectionVersions,
+                mock(PlatformTransactionManager.class), 100, 40) {
+            @Override
+            void schedulePurge(Long projectId) {
+            }
+        };
+
+        assertThat(marking.delete(2L)).isTrue();
+
+        verify(projectRepository).markDeleting(eq(2L), any(LocalDateTime.class));
+        verify(projectRepository, never()).deleteRowById(any());
+    }
+
+    @Test
+    void purgeDeletesInChunksThenRemovesTheProject() {
+        when(studentRepository.deleteChunkByProjectId(3L, 40)).thenReturn(40, 40, 21, 0);
+
+        assertThat(deletionService.purge(3L)).isEqualTo(101);
+
+        verify(studentRepository, times(4)).deleteChunkByProjectId(3L, 40);
+        verify(projectRepository).deleteRowById(3L);
+        verify(cacheEvictor).evictAll();
+        verify(collectionVersions).studentsChanged(List.of(3L));
+    }
+}
@@ -29,18 +29,27 @@ class ProjectServiceTest {
     @Mock
     private ProjectRepository projectRepository;
 
+    @Mock
+    private StudentSearchIndex searchIndex;
+
+    @Mock
+    private ProjectDeletionService deletionService;
+
+    @Mock
+    private CollectionVersions collectionVersions;
+
     @InjectMocks
     private ProjectService projectService;
 
     @Test
     void getAllProjectsReturnsRepositoryResults() {
         Project project = Project.builder().id(1L).name("Alpha").description("desc").build();
-        when(projectRepository.findAll()).thenReturn(List.of(project));
+        when(projectRepository.findAllByDeletingAtIsNull()).thenReturn(List.of(project));
 
         List<Project> result = projectService.getAllProjects();
 
         assertThat(result).containsExactly(project);
-        verify(projectRepository).findAll();
+        verify(projectRepository).findAllByDeletingAtIsNull();
     }
 
     @Test
@@ -74,7 +83,7 @@ class ProjectServiceTest {
     @Test
     void updateProjectWhenEntityMissingThrowsEntityNotFound() {
         ProjectRequest request = new ProjectRequest("Updated", "desc");
-        when(projectRepository.findById(1L)).thenReturn(Optional.empty());
+        when(projectRepository.findByIdAndDeletingAtIsNull(1L)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> projectService.updateProject(1L, request))
                 .isInstanceOf(EntityNotFoundException.class);
@@ -84,7 +93,7 @@ class ProjectServiceTest {
     void updateProjectWithSameNameSkipsDuplicateCheckAndSaves() {
         Project existing = Project.builder().id(5L).name("Keep Name").description("old").build();
         ProjectRequest request = new ProjectRequest("Keep Name", "new desc");
-        when(projectRepository.findById(5L)).thenReturn(Optional.of(existing));
+        when(projectRepository.findByIdAndDeletingAtIsNull(5L)).thenReturn(Optional.of(existing));
         when(projectRepository.save(existing)).thenReturn(existing);
 
         Project updated = projectService.updateProject(5L, request);
@@ -97,7 +106,7 @@ class ProjectServiceTest {
     @Test
     void updateProjectWhenRenamingToExistingNameThrows() {
         Project existing = Project.builder().id(7L).name("Original").build();
-        when(projectRepository.findById(7L)).thenReturn(Optional.of(existing));
+        when(projectRepository.findByIdAndDeletingAtIsNull(7L)).thenReturn(Optional.of(existing));
         when(projectRepository.findByName("Conflict"))
                 .thenReturn(Optional.of(Project.builder().id(8L).name("Conflict").build()));
 
@@ -109,20 +118,25 @@ class ProjectServiceTest {
     }
 
     @Test
-    void deleteProjectRemovesEntityWhenFound() {
+    void deleteProjectDelegatesToSetBasedDeletion() {
         Project existing = Project.builder().id(4L).name("Project").build();
-        when(projectRepository.findById(4L)).thenReturn(Optional.of(existing));
+        when(projectRepository.findByIdAndDeletingAtIsNull(4L)).thenReturn(Optional.of(existing));
+        when(deletionService.delete(4L)).thenReturn(true);
 
-        projectService.deleteProject(4L);
+        assertThat(projectService.deleteProject(4L)).isTrue();
 
-        verify(projectRepository).delete(existing);
+        verify(projectRepository, never()).delete(any());
+        verify(searchIndex).projectDeleted(4L);
+        verify(collectionVersions).projectsChanged();
+        verify(collectionVersions).studentsChanged(List.of(4L));
     }
 
     @Test
     void deleteProjectWhenMissingThrowsEntityNotFound() {
-        when(projectRepository.findById(9L)).thenReturn(Optional.empty());
+        when(projectRepository.findByIdAndDeletingAtIsNull(9L)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> projectService.deleteProject(9L))
                 .isInstanceOf(EntityNotFoundException.class);
+        verify(deletionService, never()).delete(any());
     }
 }
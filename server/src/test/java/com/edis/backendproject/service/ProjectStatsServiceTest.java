@@ -0,0 +1,114 @@
+package com.edis.backendproject.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.edis.backendproject.config.CacheNames;
+import com.edis.backendproject.dto.ProjectStats.AgeBucket;
+import com.edis.backendproject.dto.ProjectStats.MonthCount;
+import com.edis.backendproject.repository.ProjectStatsQueries;
+
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings("null")
+class ProjectStatsServiceTest {
+
+    @Mock
+    private ProjectStatsQueries statsQueries;
+
+    @Mock
+    private CollectionVersions collectionVersions;
+
+    private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(CacheNames.METADATA);
+
+    private ProjectStatsService statsService;
+
+    @BeforeEach
+    void setUp() {
+        statsService = new ProjectStatsService(statsQueries, collectionVersions, cacheManager,
+                mock(PlatformTransactionManager.class), 10);
+        cacheManager.getCache(CacheNames.METADATA).put(ProjectStatsService.STATS_KEY, "cached");
+    }
+
+    @Test
+    void refreshesOnceAfterWritesAndEvictsTheCachedStats() {
+        when(collectionVersions.projectsETag()).thenReturn("projects-3");
+        when(collectionVersions.studentsETag()).thenReturn("students-8");
+        when(statsQueries.tryLockRefresh()).thenReturn(true);
+        when(statsQueries.sourceVersion()).thenReturn("projects-3/students-7");
+
+        assertThat(statsService.refreshIfChanged()).isTrue();
+        assertThat(statsService.refreshIfChanged()).isFalse();
+
+        verify(statsQueries, times(1)).refresh("projects-3/students-8");
+        assertThat(cacheManager.getCache(CacheNames.METADATA).get(ProjectStatsService.STATS_KEY)).isNull();
+    }
+
+    @Test
+    void skipsTheRefreshAnotherReplicaAlreadyDid() {
+        when(collectionVersions.projectsETag()).thenReturn("projects-3");
+        when(collectionVersions.studentsETag()).thenReturn("students-8");
+        when(statsQueries.tryLockRefresh()).thenReturn(true);
+        when(statsQueries.sourceVersion()).thenReturn("projects-3/students-8");
+
+        assertThat(statsService.refreshIfChanged()).isTrue();
+
+        verify(statsQueries, never()).refresh(any());
+        assertThat(cacheManager.getCache(CacheNames.METADATA).get(ProjectStatsService.STATS_KEY)).isNull();
+    }
+
+    @Test
+    void retriesLaterWhileAnotherReplicaHoldsTheLock() {
+        when(collectionVersions.projectsETag()).thenReturn("projects-3");
+        when(collectionVersions.studentsETag()).thenReturn("students-8");
+        when(statsQueries.tryLockRefresh()).thenReturn(false, true);
+        when(statsQueries.sourceVersion()).thenReturn(null);
+
+        assertThat(statsService.refreshIfChanged()).isFalse();
+        assertThat(cacheManager.getCache(CacheNames.METADATA).get(ProjectStatsService.STATS_KEY)).isNotNull();
+        assertThat(statsService.refreshIfChanged()).isTrue();
+
+        verify(statsQueries, times(1)).refresh("projects-3/students-8");
+    }
+
+    @Test
+    void doesNothingWithoutCollectionVersions() {
+        when(collectionVersions.projectsETag()).thenReturn(null);
+
+        assertThat(statsService.refreshIfChanged()).isFalse();
+
+        verify(statsQueries, never()).tryLockRefresh();
+    }
+
+    @Test
+    void birthMonthsAreBucketedByAge() {
+        LocalDate today = LocalDate.of(2026, 6, 15);
+        List<AgeBucket> buckets = ProjectStatsService.ageDistribution(List.of(
+                new MonthCount(LocalDate.of(2010, 1, 1), 2),
+                new MonthCount(LocalDate.of(2008, 6, 1), 3),
+                new MonthCount(LocalDate.of(2001, 7, 1), 4),
+                new MonthCount(LocalDate.of(1960, 1, 1), 5),
+                new MonthCount(null, 6)), today);
+
+        assertThat(buckets).extracting(AgeBucket::label)
+                .containsExactly("0-17", "18-24", "25-34", "35-44", "45-54", "55+", "unknown");
+        assertThat(buckets).extracting(AgeBucket::count).containsExactlyElementsOf(Arrays.asList(2L, 7L, 0L, 0L, 0L, 5L, 6L));
+        assertThat(buckets.get(5).maxAge()).isNull();
+    }
+}
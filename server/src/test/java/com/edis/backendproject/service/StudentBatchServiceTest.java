@@ -0,0 +1,119 @@
+package com.edis.backendproject.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.edis.backendproject.dto.BatchOperationType;
+import com.edis.backendproject.dto.BatchResult;
+import com.edis.backendproject.dto.StudentBatchOperation;
+import com.edis.backendproject.dto.StudentKeys;
+import com.edis.backendproject.dto.StudentRequest;
+import com.edis.backendproject.model.Project;
+import com.edis.backendproject.model.Student;
+import com.edis.backendproject.repository.ProjectRepository;
+import com.edis.backendproject.repository.StudentRepository;
+
+import jakarta.persistence.EntityNotFoundException;
+
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings("null")
+class StudentBatchServiceTest {
+
+    @Mock
+    private StudentRepository studentRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private StudentCacheEvictor cacheEvictor;
+
+    @Mock
+    private StudentSearchIndex searchIndex;
+
+    @InjectMocks
+    private StudentBatchService batchService;
+
+    @Test
+    void appliesMixedOperationsAndEvictsOnce() {
+        Project alpha = Project.builder().id(1L).name("Alpha").build();
+        Project beta = Project.builder().id(2L).name("Beta").build();
+        Student existing = Student.builder().id(10L).codeNumber("100").firstName("Ada").lastName("Lovelace")
+                .title("Engineer").project(alpha).build();
+        Student doomed = Student.builder().id(11L).codeNumber("101").firstName("Alan").lastName("Turing")
+                .title("Engineer").project(alpha).build();
+
+        when(projectRepository.findAllByIdInAndDeletingAtIsNull(Set.of(1L, 2L))).thenReturn(List.of(alpha, beta));
+        when(studentRepository.findById(10L)).thenReturn(Optional.of(existing));
+        when(studentRepository.findById(11L)).thenReturn(Optional.of(doomed));
+        when(studentRepository.save(any(Student.class))).thenAnswer(invocation -> {
+            Student student = invocation.getArgument(0);
+            student.setId(50L);
+            return student;
+        });
+        when(studentRepository.findKeysByIdIn(List.of(12L, 13L)))
+                .thenReturn(List.of(new StudentKeys(12L, "102", 1L), new StudentKeys(13L, "103", 1L)));
+
+        List<BatchResult> results = batchService.applyBatch(List.of(
+                StudentBatchOperation.builder().op(BatchOperationType.CREATE).student(request("200", 1L)).build(),
+                StudentBatchOperation.builder().op(BatchOperationType.UPDATE).id(10L).student(request("100", 2L)).build(),
+                StudentBatchOperation.builder().op(BatchOperationType.DELETE).id(11L).build(),
+                StudentBatchOperation.builder().op(BatchOperationType.REASSIGN).ids(List.of(12L, 13L)).projectId(2L).build()));
+
+        assertThat(results).extracting(BatchResult::ids)
+                .containsExactly(List.of(50L), List.of(10L), List.of(11L), List.of(12L, 13L));
+        assertThat(existing.getProject()).isSameAs(beta);
+        verify(studentRepository).findByIdIn(Set.of(10L, 11L));
+        verify(studentRepository).delete(doomed);
+        verify(studentRepository).reassignProject(List.of(12L, 13L), 2L);
+        verify(searchIndex).reloadStudents(List.of(12L, 13L));
+        verify(cacheEvictor, times(1)).evictStudents(
+                Set.of(10L, 11L, 12L, 13L), Set.of("100", "101", "102", "103"), Set.of(1L, 2L));
+    }
+
+    @Test
+    void missingProjectFailsTheWholeBatch() {
+        when(projectRepository.findAllByIdInAndDeletingAtIsNull(Set.of(9L))).thenReturn(List.of());
+
+        assertThatThrownBy(() -> batchService.applyBatch(List.of(
+                StudentBatchOperation.builder().op(BatchOperationType.CREATE).student(request("200", 9L)).build())))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessage("Project not found");
+
+        verify(studentRepository, never()).save(any());
+        verify(cacheEvictor, never()).evictStudents(anyCollection(), anyCollection(), anyCollection());
+    }
+
+    @Test
+    void reassignRejectsUnknownStudents() {
+        Project alpha = Project.builder().id(1L).name("Alpha").build();
+        when(projectRepository.findAllByIdInAndDeletingAtIsNull(Set.of(1L))).thenReturn(List.of(alpha));
+        when(studentRepository.findKeysByIdIn(List.of(12L, 13L))).thenReturn(List.of(new StudentKeys(12L, "102", 2L)));
+
+        assertThatThrownBy(() -> batchService.applyBatch(List.of(
+                StudentBatchOperation.builder().op(BatchOperationType.REASSIGN).ids(List.of(12L, 13L)).projectId(1L).build())))
+                .isInstanceOf(EntityNotFoundException.class);
+
+        verify(studentRepository, never()).reassignProject(any(), any());
+    }
+
+    private static StudentRequest request(String code, Long projectId) {
+        return new StudentRequest(code, "Grace", "Hopper", null, "Admiral", null, projectId);
+    }
+}
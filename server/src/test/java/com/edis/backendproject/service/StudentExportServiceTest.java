@@ -0,0 +1,146 @@
+package com.edis.backendproject.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import com.edis.backendproject.dto.StudentFileFormat;
+import com.edis.backendproject.repository.ProjectRepository;
+
+import jakarta.persistence.EntityNotFoundException;
+
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings("null")
+class StudentExportServiceTest {
+
+    private static final int FETCH_SIZE = 500;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Test
+    void exportWritesOneJsonObjectPerLine() throws Exception {
+        stubRows(2, null);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = service().export(StudentFileFormat.NDJSON, null, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(rows).isEqualTo(2);
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).isEqualTo("{\"id\":1,\"codeNumber\":\"C1\",\"firstName\":\"First\",\"lastName\":\"Last1\","
+                + "\"dateOfBirth\":\"2000-01-02\",\"title\":\"Graphs, \\\"theory\\\"\",\"description\":null,"
+                + "\"createdAt\":\"2024-05-06T07:08:09\",\"projectId\":1,\"projectName\":\"Project\"}");
+    }
+
+    @Test
+    void exportWritesQuotedCsvWithHeader() throws Exception {
+        stubRows(1, null);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        service().export(StudentFileFormat.CSV, null, out);
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "id,codeNumber,firstName,lastName,dateOfBirth,title,description,createdAt,projectId,projectName\r\n"
+                        + "1,C1,First,Last1,2000-01-02,\"Graphs, \"\"theory\"\"\",,2024-05-06T07:08:09,1,Project\r\n");
+    }
+
+    @Test
+    void exportUsesForwardOnlyCursorWithFetchSizeAndProjectFilter() throws Exception {
+        when(projectRepository.existsByIdAndDeletingAtIsNull(7L)).thenReturn(true);
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(anyString(), anyInt(), anyInt())).thenReturn(statement);
+        stubRows(0, connection);
+
+        service().export(StudentFileFormat.NDJSON, 7L, OutputStream.nullOutputStream());
+
+        verify(connection).prepareStatement(contains("WHERE s.project_id = ?"),
+                eq(ResultSet.TYPE_FORWARD_ONLY), eq(ResultSet.CONCUR_READ_ONLY));
+        verify(statement).setFetchSize(FETCH_SIZE);
+        verify(statement).setLong(1, 7L);
+    }
+
+    @Test
+    void exportRejectsUnknownProject() {
+        when(projectRepository.existsByIdAndDeletingAtIsNull(9L)).thenReturn(false);
+
+        assertThatThrownBy(() -> service().export(StudentFileFormat.CSV, 9L, OutputStream.nullOutputStream()))
+                .isInstanceOf(EntityNotFoundException.class);
+    }
+
+    private StudentExportService service() {
+        return new StudentExportService(jdbcTemplate, projectRepository, FETCH_SIZE);
+    }
+
+    private void stubRows(int count, Connection connection) {
+        doAnswer(invocation -> {
+            if (connection != null) {
+                PreparedStatementCreator creator = invocation.getArgument(0);
+                creator.createPreparedStatement(connection);
+            }
+            RowCallbackHandler handler = invocation.getArgument(1);
+            long[] row = {0};
+            ResultSet resultSet = syntheticRow(row);
+            for (row[0] = 1; row[0] <= count; row[0]++) {
+                handler.processRow(resultSet);
+            }
+            return null;
+        }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+    }
+
+    // Generates column values from the current row number instead of holding any data
+    private static ResultSet syntheticRow(long[] row) {
+        Date dateOfBirth = Date.valueOf(LocalDate.of(2000, 1, 2));
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.of(2024, 5, 6, 7, 8, 9));
+        return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[] {ResultSet.class},
+                (proxy, method, args) -> {
+                    int column = (Integer) args[0];
+                    return switch (method.getName()) {
+                        case "getLong" -> column == 1 ? row[0] : (row[0] % 10);
+                        case "getDate" -> dateOfBirth;
+                        case "getTimestamp" -> createdAt;
+                        case "getString" -> switch (column) {
+                            case 2 -> "C" + row[0];
+                            case 3 -> "First";
+                            case 4 -> "Last" + row[0];
+                            case 6 -> "Graphs, \"theory\"";
+                            case 7 -> row[0] % 2 == 0 ? "Synthetic description for row " + row[0] : null;
+                            default -> "Project";
+                        };
+                        default -> throw new UnsupportedOperationException(method.getName());
+                    };
+                });
+    }
+}
@@ -0,0 +1,208 @@
+package com.edis.backendproject.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.OutputStream;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.edis.backendproject.dto.StudentFileFormat;
+import com.edis.backendproject.repository.EmbeddedPostgresConfiguration;
+
+/**
+ * Exports from real Postgres and watches the JDBC calls underneath, since PgJDBC only streams with
+ * autocommit off and a fetch size: otherwise executeQuery loads the whole result before the first row.
+ * Not transactional itself, so the export opens its own read-only transaction.
+ */
+@DataJpaTest(properties = EmbeddedPostgresConfiguration.PROPERTIES)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({EmbeddedPostgresConfiguration.class, StudentExportService.class,
+        StudentExportStreamingTest.RecordingDataSource.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class StudentExportStreamingTest {
+
+    private static final long PROJECT_ID = 300_000;
+    private static final int ROWS = 5_000;
+
+    @Autowired
+    private StudentExportService exportService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        RecordingDataSource.export = null;
+        jdbcTemplate.update("INSERT INTO projects (id, name, description, created_at, updated_at) " +
+                "VALUES (?, 'Streaming', 'Export test', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", PROJECT_ID);
+        jdbcTemplate.update("INSERT INTO students (id, code_number, first_name, last_name, title, created_at, " +
+                "updated_at, project_id) SELECT ? + n, 'S' || (? + n), 'First', 'Last' || n, 'Thesis', " +
+                "CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, ? FROM generate_series(1, ?) n",
+                PROJECT_ID, PROJECT_ID, PROJECT_ID, ROWS);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM students WHERE project_id = ?", PROJECT_ID);
+        jdbcTemplate.update("DELETE FROM projects WHERE id = ?", PROJECT_ID);
+    }
+
+    @Test
+    void exportStreamsRowsFromAServerSideCursorInsideAReadOnlyTransaction() throws Exception {
+        FirstWriteProbe out = new FirstWriteProbe();
+
+        long rows = exportService.export(StudentFileFormat.NDJSON, PROJECT_ID, out);
+
+        ExportQuery query = RecordingDataSource.export;
+        assertThat(rows).isEqualTo(ROWS);
+        assertThat(query).isNotNull();
+        assertThat(query.fetchSize).isPositive().isLessThan(ROWS);
+        assertThat(query.autoCommit).isFalse();
+        assertThat(query.readOnly).isTrue();
+        // The first bytes went out while most rows were still on the server, behind an open portal
+        assertThat(out.rowsReadAtFirstWrite).isPositive().isLessThan(query.fetchSize);
+        assertThat(out.openPortalsAtFirstWrite).isEqualTo(1);
+    }
+
+    /**
+     * Wraps the DataSource so the export's statement and result set can be observed.
+     */
+    @TestConfiguration(proxyBeanMethods = false)
+    static class RecordingDataSource {
+
+        static volatile ExportQuery export;
+
+        @Bean
+        static BeanPostProcessor recordingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? wrap(DataSource.class, dataSource, (target, method, args) -> {
+                        Object result = invoke(target, method, args);
+                        return result instanceof Connection connection ? wrapConnection(connection) : result;
+                    }) : bean;
+                }
+            };
+        }
+
+        private static Connection wrapConnection(Connection connection) {
+            return wrap(Connection.class, connection, (target, method, args) -> {
+                Object result = invoke(target, method, args);
+                if (result instanceof PreparedStatement statement && method.getName().equals("prepareStatement")
+                        && ((String) args[0]).contains("FROM students s")) {
+                    return wrapStatement(connection, statement);
+                }
+                return result;
+            });
+        }
+
+        private static PreparedStatement wrapStatement(Connection connection, PreparedStatement statement) {
+            return wrap(PreparedStatement.class, statement, (target, method, args) -> {
+                if (!method.getName().equals("executeQuery")) {
+                    return invoke(target, method, args);
+                }
+                ExportQuery query = new ExportQuery(connection, statement.getFetchSize(), connection.getAutoCommit(),
+                        connection.isReadOnly());
+                export = query;
+                ResultSet resultSet = (ResultSet) invoke(target, method, args);
+                return wrap(ResultSet.class, resultSet, (rs, next, nextArgs) -> {
+                    Object value = invoke(rs, next, nextArgs);
+                    if (next.getName().equals("next") && Boolean.TRUE.equals(value)) {
+                        query.rowsRead++;
+                    }
+                    return value;
+                });
+            });
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T wrap(Class<T> type, T target, TargetHandler<T> handler) {
+            InvocationHandler invocationHandler = (proxy, method, args) -> handler.invoke(target, method, args);
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, invocationHandler);
+        }
+
+        private static Object invoke(Object target, java.lang.reflect.Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException ex) {
+                throw ex.getCause();
+            }
+        }
+
+        private interface TargetHandler<T> {
+
+            Object invoke(T target, java.lang.reflect.Method method, Object[] args) throws Throwable;
+        }
+    }
+
+    static final class ExportQuery {
+
+        final Connection connection;
+        final int fetchSize;
+        final boolean autoCommit;
+        final boolean readOnly;
+        volatile long rowsRead;
+
+        ExportQuery(Connection connection, int fetchSize, boolean autoCommit, boolean readOnly) {
+            this.connection = connection;
+            this.fetchSize = fetchSize;
+            this.autoCommit = autoCommit;
+            this.readOnly = readOnly;
+        }
+    }
+
+    // Records how far the cursor had got when the writer first flushed, and how many portals were open
+    private static final class FirstWriteProbe extends OutputStream {
+
+        long rowsReadAtFirstWrite = -1;
+        long openPortalsAtFirstWrite = -1;
+
+        @Override
+        public void write(int b) {
+            probe();
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            probe();
+        }
+
+        private void probe() {
+            ExportQuery query = RecordingDataSource.export;
+            if (rowsReadAtFirstWrite >= 0 || query == null) {
+                return;
+            }
+            rowsReadAtFirstWrite = query.rowsRead;
+            try (Statement statement = query.connection.createStatement();
+                 ResultSet portals = statement.executeQuery(
+                         "SELECT count(*) FROM pg_cursors WHERE name <> '' AND statement NOT LIKE '%pg_cursors%'")) {
+                portals.next();
+                openPortalsAtFirstWrite = portals.getLong(1);
+            } catch (SQLException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.edis.backendproject.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.edis.backendproject.dto.StudentFileFormat;
+import com.edis.backendproject.dto.StudentImportReport;
+import com.edis.backendproject.dto.StudentImportRow;
+import com.edis.backendproject.repository.ProjectRepository;
+import com.edis.backendproject.repository.StudentBulkImporter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.validation.Validation;
+
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings({"null", "unchecked"})
+class StudentImportServiceTest {
+
+    @Mock
+    private StudentBulkImporter bulkImporter;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private StudentCacheEvictor cacheEvictor;
+
+    @Mock
+    private StudentSearchIndex searchIndex;
+
+    private StudentImportService importService;
+
+    @BeforeEach
+    void setUp() {
+        importService = new StudentImportService(bulkImporter, projectRepository, cacheEvictor, searchIndex,
+                Validation.buildDefaultValidatorFactory().getValidator(), new ObjectMapper().findAndRegisterModules(), 3);
+    }
+
+    @Test
+    void importCsvReportsRowErrorsAndMergesValidRowsOnce() throws Exception {
+        String csv = """
+                codeNumber,firstName,lastName,dateOfBirth,title,description,projectId
+                1001,Ada,Lovelace,1990-12-10,Engineer,"Likes ""math"", a lot",1
+                abc,Alan,Turing,,Engineer,,1
+                1001,Grace,Hopper,,Admiral,,2
+                """;
+        when(projectRepository.findExistingIds(Set.of(1L))).thenReturn(Set.of(1L));
+        when(bulkImporter.copyAndMerge(anyList())).thenReturn(new StudentBulkImporter.MergeResult(List.of(55L), List.of()));
+
+        StudentImportReport report = importService.importStudents(stream(csv), StudentFileFormat.CSV);
+
+        assertThat(report.totalRows()).isEqualTo(3);
+        assertThat(report.importedCount()).isEqualTo(1);
+        assertThat(report.errors()).extracting(StudentImportReport.RowError::row).containsExactly(2, 3);
+        assertThat(report.errors().get(0).message()).contains("Student ID must contain only numbers");
+        assertThat(report.errors().get(1).message()).isEqualTo("Duplicate codeNumber in upload");
+
+        ArgumentCaptor<List<StudentImportRow>> rows = ArgumentCaptor.forClass(List.class);
+        verify(bulkImporter).copyAndMerge(rows.capture());
+        assertThat(rows.getValue()).singleElement().satisfies(row ->
+                assertThat(row.request().getDescription()).isEqualTo("Likes \"math\", a lot"));
+        verify(cacheEvictor).evictStudent(null, Set.of(), Set.of(1L));
+        verify(searchIndex).reloadStudents(List.of(55L));
+    }
+
+    @Test
+    void importNdjsonRejectsUnknownProjectsAndTakenCodes() throws Exception {
+        String ndjson = """
+                {"codeNumber":"2001","firstName":"Ada","lastName":"Lovelace","title":"Engineer","projectId":1}
+                {"codeNumber":"2002","firstName":"Alan","lastName":"Turing","title":"Engineer","projectId":9}
+                not json
+                """;
+        when(projectRepository.findExistingIds(Set.of(1L, 9L))).thenReturn(Set.of(1L));
+        when(bulkImporter.copyAndMerge(anyList())).thenReturn(new StudentBulkImporter.MergeResult(List.of(), List.of(1)));
+
+        StudentImportReport report = importService.importStudents(stream(ndjson), StudentFileFormat.NDJSON);
+
+        assertThat(report.importedCount()).isZero();
+        assertThat(report.errors()).extracting(StudentImportReport.RowError::message)
+                .containsExactly(StudentImportService.CODE_NUMBER_TAKEN, "Project not found", "Malformed JSON row");
+        verify(cacheEvictor, never()).evictStudent(any(), any(), any());
+    }
+
+    @Test
+    void importRejectsUploadsAboveRowLimit() {
+        String csv = "codeNumber,firstName,lastName,title,projectId\n1,A,B,C,1\n2,A,B,C,1\n3,A,B,C,1\n4,A,B,C,1\n";
+
+        assertThatThrownBy(() -> importService.importStudents(stream(csv), StudentFileFormat.CSV))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("limited to 3 rows");
+        verifyNoInteractions(bulkImporter);
+    }
+
+    @Test
+    void importRejectsCsvWithoutRequiredColumns() {
+        assertThatThrownBy(() -> importService.importStudents(stream("codeNumber,firstName\n1,A\n"), StudentFileFormat.CSV))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("lastName");
+    }
+
+    @Test
+    void readRecordHandlesQuotedLineBreaksAndCrlf() throws Exception {
+        StringReader reader = new StringReader("a,\"b\r\nc\",d\r\ne\n");
+
+        assertThat(StudentImportParser.readRecord(reader)).containsExactly("a", "b\r\nc", "d");
+        assertThat(StudentImportParser.readRecord(reader)).containsExactly("e");
+        assertThat(StudentImportParser.readRecord(reader)).isNull();
+    }
+
+    private static ByteArrayInputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,100 @@
+package com.edis.backendproject.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.edis.backendproject.dto.NameSearch;
+import com.edis.backendproject.dto.NameSearchMode;
+import com.edis.backendproject.dto.StudentFilter;
+import com.edis.backendproject.dto.StudentView;
+import com.edis.backendproject.repository.EmbeddedPostgresConfiguration;
+import com.edis.backendproject.repository.StudentRepository;
+import com.edis.backendproject.repository.StudentSpecifications;
+
+/**
+ * Runs the same PREFIX searches through the in-memory index and through the SQL path on Postgres and
+ * expects identical rows in identical order. The name columns get an en-US collation, like a database
+ * created with a locale, where case, spaces and accents sort differently from byte order.
+ */
+@DataJpaTest(properties = EmbeddedPostgresConfiguration.PROPERTIES)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(EmbeddedPostgresConfiguration.class)
+class StudentSearchIndexParityTest {
+
+    private static final long FIRST_ID = 100_000;
+
+    private static final String[][] NAMES = {
+            {"Tom", "Adams"}, {"Tomas", "Brown"}, {"Anna", "Tomlin"}, {"Ada", "Tom"}, {"Anna Maria", "Lopez"},
+            {"Anne-Marie", "O'Brien"}, {"Mary", "Anna"}, {"Bob", "Annable"}, {"tom", "adams"}, {"Zoe", "Tomás"},
+            {"Vic", "van Dyk"}, {"Val", "Vance"}, {"Vera", "Van Buren"}, {"Ana", "Ångström"}, {"ana", "Andersen"}
+    };
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private StudentSearchIndex index;
+
+    @BeforeEach
+    void seed() {
+        // Rolled back with the test transaction
+        jdbcTemplate.execute("ALTER TABLE students ALTER COLUMN first_name TYPE VARCHAR(100) COLLATE \"en-US-x-icu\", " +
+                "ALTER COLUMN last_name TYPE VARCHAR(100) COLLATE \"en-US-x-icu\"");
+        jdbcTemplate.update("INSERT INTO projects (id, name, description, created_at, updated_at) " +
+                "VALUES (?, 'Compilers', 'First', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP), " +
+                "(?, 'Databases', 'Second', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", FIRST_ID, FIRST_ID + 1);
+        List<Object[]> students = new ArrayList<>();
+        for (int i = 0; i < NAMES.length; i++) {
+            long id = FIRST_ID + i;
+            students.add(new Object[] {id, "9" + id, NAMES[i][0], NAMES[i][1], "Thesis " + id,
+                    "Graph search for " + NAMES[i][0], FIRST_ID + i % 2});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO students (id, code_number, first_name, last_name, title, description, " +
+                "created_at, updated_at, project_id) VALUES (?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, ?)",
+                students);
+        index = new StudentSearchIndex(studentRepository, true);
+        index.rebuild();
+    }
+
+    @Test
+    void indexAndSqlReturnTheSameStudents() {
+        for (String term : List.of("tom", "TOM", "to", "tomas", "tomá", "anna", "anna m", "anna maria", "anne-m",
+                "o'b", "adams", "a", "an", "v", "van", "van d", "å", "graph", "0001", "zz")) {
+            assertSameResults(filter(term, List.of(), StudentFilter.DEFAULT_LIMIT));
+            assertSameResults(filter(term, List.of(FIRST_ID + 1), StudentFilter.DEFAULT_LIMIT));
+            assertSameResults(filter(term, List.of(), 2));
+            assertSameResults(filter(term, List.of(), 3));
+        }
+    }
+
+    private void assertSameResults(StudentFilter filter) {
+        assertThat(index.canServe(filter)).isTrue();
+        List<StudentView> fromIndex = index.search(filter.name().term(), filter.projectIds(), filter.limit()).stream()
+                .map(StudentView::from)
+                .toList();
+        List<StudentView> fromSql = studentRepository.findViews(StudentSpecifications.matching(filter), filter.limit());
+
+        assertThat(fromIndex).as("term '%s', projects %s, limit %d",
+                filter.name().term(), filter.projectIds(), filter.limit()).isEqualTo(fromSql);
+    }
+
+    private static StudentFilter filter(String term, List<Long> projectIds, int limit) {
+        return StudentFilter.builder()
+                .name(new NameSearch(term, NameSearchMode.PREFIX, NameSearch.DEFAULT_THRESHOLD))
+                .projectIds(projectIds)
+                .limit(limit)
+                .build();
+    }
+}
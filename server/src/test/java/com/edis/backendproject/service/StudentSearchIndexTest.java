@@ -0,0 +1,143 @@
+package com.edis.backendproject.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import com.edis.backendproject.dto.NameSearch;
+import com.edis.backendproject.dto.NameSearchMode;
+import com.edis.backendproject.dto.SearchIndexReport;
+import com.edis.backendproject.dto.StudentFilter;
+import com.edis.backendproject.model.Project;
+import com.edis.backendproject.model.Student;
+import com.edis.backendproject.repository.StudentRepository;
+
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings("null")
+class StudentSearchIndexTest {
+
+    @Mock
+    private StudentRepository studentRepository;
+
+    private final List<Student> rows = new ArrayList<>();
+    private StudentSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        rows.add(student(1L, "1001", "Tom", "Adams", "Thesis on graph search", 1L));
+        rows.add(student(2L, "1002", "Tomas", "Brown", "Compiler design", 2L));
+        rows.add(student(3L, "2001", "Anna", "Tomlin", "Graph databases", 1L));
+        when(studentRepository.findPageOrderByCodeNumber(any(Limit.class))).thenAnswer(invocation -> List.copyOf(rows));
+        index = new StudentSearchIndex(studentRepository, true);
+        index.rebuild();
+    }
+
+    @Test
+    void searchMatchesFirstOrLastNamePrefix() {
+        assertThat(ids(index.search("tom", List.of(), 10))).containsExactly(1L, 2L, 3L);
+        assertThat(ids(index.search("Toma", List.of(), 10))).containsExactly(2L);
+        assertThat(ids(index.search("brown", List.of(), 10))).containsExactly(2L);
+        assertThat(index.search("tom adams", List.of(), 10)).isEmpty();
+        assertThat(index.search("graph", List.of(), 10)).isEmpty();
+        assertThat(index.search("100", List.of(), 10)).isEmpty();
+    }
+
+    @Test
+    void searchRanksWholeNameMatchesFirst() {
+        index.studentSaved(student(4L, "3001", "Ada", "Tom", "Networks", 2L));
+
+        assertThat(ids(index.search("tom", List.of(), 10))).containsExactly(1L, 4L, 2L, 3L);
+    }
+
+    @Test
+    void searchRestrictsToProjectsAndLimit() {
+        assertThat(ids(index.search("tom", List.of(1L), 10))).containsExactly(1L, 3L);
+        assertThat(ids(index.search("tom", List.of(), 1))).containsExactly(1L);
+    }
+
+    @Test
+    void writesOutsideTransactionApplyImmediately() {
+        Student renamed = student(2L, "1002", "Bob", "Brown", "Compiler design", 2L);
+        index.studentSaved(renamed);
+        index.studentDeleted(3L);
+
+        assertThat(ids(index.search("tom", List.of(), 10))).containsExactly(1L);
+        assertThat(ids(index.search("bob", List.of(), 10))).containsExactly(2L);
+    }
+
+    @Test
+    void verifyReportsDriftFromDatabase() {
+        rows.remove(2);
+        rows.set(0, student(1L, "1001", "Tom", "Adams", "Changed title", 1L));
+        rows.add(student(4L, "3001", "Nina", "Cole", "Networks", 2L));
+
+        SearchIndexReport report = index.verify();
+
+        assertThat(report.isConsistent()).isFalse();
+        assertThat(report.missingIds()).containsExactly(4L);
+        assertThat(report.staleIds()).containsExactly(1L);
+        assertThat(report.extraIds()).containsExactly(3L);
+        assertThat(index.rebuild().isConsistent()).isTrue();
+    }
+
+    @Test
+    void canServeOnlyPrefixNameSearches() {
+        StudentFilter prefix = StudentFilter.builder()
+                .name(new NameSearch("tom", NameSearchMode.PREFIX, 0.3)).projectIds(List.of(1L)).build();
+        StudentFilter exact = StudentFilter.builder()
+                .name(new NameSearch("tom", NameSearchMode.EXACT, 0.3)).build();
+        StudentFilter fuzzy = StudentFilter.builder()
+                .name(new NameSearch("tom", NameSearchMode.FUZZY, 0.3)).build();
+        StudentFilter titled = StudentFilter.builder()
+                .name(new NameSearch("tom", NameSearchMode.PREFIX, 0.3)).title("thesis").build();
+        StudentFilter punctuation = StudentFilter.builder()
+                .name(new NameSearch("-", NameSearchMode.PREFIX, 0.3)).build();
+
+        assertThat(index.canServe(prefix)).isTrue();
+        assertThat(index.canServe(exact)).isFalse();
+        assertThat(index.canServe(fuzzy)).isFalse();
+        assertThat(index.canServe(titled)).isFalse();
+        assertThat(index.canServe(punctuation)).isFalse();
+    }
+
+    @Test
+    void postingListsMergeSortedIds() {
+        assertThat(StudentSearchIndex.intersect(new long[] {1, 3, 5, 9}, new long[] {3, 4, 9})).containsExactly(3, 9);
+        assertThat(StudentSearchIndex.merge(List.of(postings(1, 5), postings(2, 5, 7), postings(5, 9))))
+                .containsExactly(1, 2, 5, 7, 9);
+        assertThat(StudentSearchIndex.merge(List.of())).isEmpty();
+    }
+
+    private static Student student(Long id, String code, String firstName, String lastName, String title, Long projectId) {
+        return Student.builder()
+                .id(id)
+                .codeNumber(code)
+                .firstName(firstName)
+                .lastName(lastName)
+                .title(title)
+                .project(Project.builder().id(projectId).name("Project " + projectId).build())
+                .build();
+    }
+
+    private static StudentSearchIndex.Postings postings(long... ids) {
+        StudentSearchIndex.Postings postings = new StudentSearchIndex.Postings();
+        for (long id : ids) {
+            postings.add(id);
+        }
+        return postings;
+    }
+
+    private static List<Long> ids(List<Student> students) {
+        return students.stream().map(Student::getId).toList();
+    }
+}
@@ -3,21 +3,36 @@ package com.edis.backendproject.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.edis.backendproject.dto.NameSearch;
+import com.edis.backendproject.dto.NameSearchMode;
+import com.edis.backendproject.dto.StudentCursor;
+import com.edis.backendproject.dto.StudentFilter;
+import com.edis.backendproject.dto.StudentPage;
 import com.edis.backendproject.dto.StudentRequest;
+import com.edis.backendproject.dto.StudentSort;
+import com.edis.backendproject.dto.StudentView;
 import com.edis.backendproject.model.Project;
 import com.edis.backendproject.model.Student;
 import com.edis.backendproject.repository.ProjectRepository;
@@ -35,18 +50,59 @@ class StudentServiceTest {
     @Mock
     private ProjectRepository projectRepository;
 
+    @Mock
+    private StudentCacheEvictor cacheEvictor;
+
+    @Mock
+    private StudentSearchIndex searchIndex;
+
     @InjectMocks
     private StudentService studentService;
 
     @Test
-    void getAllStudentsDelegatesToRepository() {
-        List<Student> students = List.of(Student.builder().id(1L).firstName("Amy").build());
-        when(studentRepository.findAll()).thenReturn(students);
+    void getStudentsPageReturnsLastPageWithoutCursor() {
+        List<StudentView> students = List.of(view(1L, "Adams"));
+        when(studentRepository.findViewPageOrderByLastName(Limit.of(3))).thenReturn(students);
 
-        List<Student> result = studentService.getAllStudents();
+        StudentPage page = studentService.getStudentsPage(StudentSort.LAST_NAME, null, 2);
 
-        assertThat(result).isEqualTo(students);
-        verify(studentRepository).findAll();
+        assertThat(page.items()).isEqualTo(students);
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    void getStudentsPageIssuesCursorThatSeeksPastLastRow() {
+        StudentView first = view(1L, "Adams");
+        StudentView second = view(7L, "Brown");
+        StudentView extra = view(3L, "Clark");
+        when(studentRepository.findViewPageOrderByLastName(Limit.of(3))).thenReturn(List.of(first, second, extra));
+
+        StudentPage page = studentService.getStudentsPage(StudentSort.LAST_NAME, null, 2);
+
+        assertThat(page.items()).containsExactly(first, second);
+        assertThat(page.nextCursor()).isNotNull();
+
+        when(studentRepository.findViewPageOrderByLastNameAfter("Brown", 7L, Limit.of(3))).thenReturn(List.of(extra));
+
+        StudentPage next = studentService.getStudentsPage(StudentSort.LAST_NAME, page.nextCursor(), 2);
+
+        assertThat(next.items()).containsExactly(extra);
+        assertThat(next.nextCursor()).isNull();
+    }
+
+    @Test
+    void getStudentsPageRejectsCursorFromAnotherSort() {
+        String cursor = new StudentCursor(StudentSort.CODE_NUMBER, "123", 4L).encode();
+
+        assertThatThrownBy(() -> studentService.getStudentsPage(StudentSort.LAST_NAME, cursor, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void getStudentsPageRejectsMalformedCursor() {
+        assertThatThrownBy(() -> studentService.getStudentsPage(StudentSort.CREATED_AT, "not-a-cursor", 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Invalid cursor");
     }
 
     @Test
@@ -96,31 +152,106 @@ class StudentServiceTest {
 
     @Test
     void getStudentsByProjectDelegatesToRepository() {
-        List<Student> students = List.of(Student.builder().id(1L).build());
-        when(studentRepository.findByProject_Id(3L)).thenReturn(students);
+        List<StudentView> students = List.of(view(1L, "Adams"));
+        when(studentRepository.findViewsByProjectId(3L)).thenReturn(students);
 
-        List<Student> result = studentService.getStudentsByProject(3L);
+        List<StudentView> result = studentService.getStudentsByProject(3L);
 
         assertThat(result).isEqualTo(students);
-        verify(studentRepository).findByProject_Id(3L);
+        verify(studentRepository).findViewsByProjectId(3L);
     }
 
     @Test
-    void searchByNameDelegatesToRepository() {
-        List<Student> students = List.of(Student.builder().id(9L).build());
-        when(studentRepository.searchByName("tom")).thenReturn(students);
+    @SuppressWarnings("unchecked")
+    void searchStudentsRunsSingleSpecificationQuery() {
+        List<StudentView> students = List.of(view(9L, "Thomas"));
+        when(studentRepository.findViews(any(Specification.class), eq(20))).thenReturn(students);
+
+        StudentFilter filter = StudentFilter.builder()
+                .name(new NameSearch(" Tom ", NameSearchMode.PREFIX, 0.3))
+                .projectIds(List.of(1L, 2L))
+                .bornFrom(LocalDate.of(1990, 1, 1))
+                .build();
 
-        List<Student> result = studentService.searchByName("tom");
+        List<StudentView> result = studentService.searchStudents(filter);
 
         assertThat(result).isEqualTo(students);
-        verify(studentRepository).searchByName("tom");
+        verify(studentRepository, never()).applyWordSimilarityThreshold(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void searchStudentsAppliesFuzzyThresholdBeforeQuerying() {
+        when(studentRepository.findViews(any(Specification.class), anyInt())).thenReturn(List.of());
+
+        studentService.searchStudents(StudentFilter.builder()
+                .name(new NameSearch("jon", NameSearchMode.FUZZY, 0.4))
+                .build());
+
+        InOrder inOrder = inOrder(studentRepository);
+        inOrder.verify(studentRepository).applyWordSimilarityThreshold("0.4");
+        inOrder.verify(studentRepository).findViews(any(Specification.class), anyInt());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void searchStudentsUsesInMemoryIndexWhenItCanServeFilter() {
+        Student student = Student.builder().id(4L).lastName("Tom").project(Project.builder().id(2L).name("Beta").build()).build();
+        StudentFilter filter = StudentFilter.builder()
+                .name(new NameSearch("Tom", NameSearchMode.EXACT, 0.3))
+                .projectIds(List.of(2L))
+                .build();
+        when(searchIndex.canServe(filter)).thenReturn(true);
+        when(searchIndex.search("tom", List.of(2L), 20)).thenReturn(List.of(student));
+
+        List<StudentView> result = studentService.searchStudents(filter);
+
+        assertThat(result).containsExactly(StudentView.from(student));
+        assertThat(result.get(0).projectName()).isEqualTo("Beta");
+        verify(studentRepository, never()).findViews(any(Specification.class), anyInt());
+    }
+
+    @Test
+    void searchStudentsRequiresAtLeastOneFilter() {
+        assertThatThrownBy(() -> studentService.searchStudents(StudentFilter.builder().build()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("At least one search filter");
+    }
+
+    @Test
+    void studentFilterNormalizesInputs() {
+        StudentFilter filter = StudentFilter.builder().title("  Actor ").limit(1000).build();
+
+        assertThat(filter.title()).isEqualTo("actor");
+        assertThat(filter.limit()).isEqualTo(StudentFilter.MAX_LIMIT);
+        assertThat(filter.projectIds()).isEmpty();
+    }
+
+    @Test
+    void studentFilterRejectsInvertedRange() {
+        assertThatThrownBy(() -> StudentFilter.builder()
+                .bornFrom(LocalDate.of(2000, 1, 1))
+                .bornTo(LocalDate.of(1990, 1, 1))
+                .build())
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void nameSearchRejectsBlankTerm() {
+        assertThatThrownBy(() -> new NameSearch("  ", NameSearchMode.PREFIX, 0.3))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void nameSearchEscapesLikeWildcards() {
+        assertThat(new NameSearch("a_b%", NameSearchMode.PREFIX, 0.3).prefixPattern()).isEqualTo("a\\_b\\%%");
     }
 
     @Test
     void createStudentPersistsEntityWithResolvedProject() {
         StudentRequest request = buildRequest();
         Project project = Project.builder().id(20L).name("AI").build();
-        when(projectRepository.findById(20L)).thenReturn(Optional.of(project));
+        when(projectRepository.findByIdAndDeletingAtIsNull(20L)).thenReturn(Optional.of(project));
         when(studentRepository.save(any(Student.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         Student created = studentService.createStudent(request);
@@ -136,7 +267,7 @@ class StudentServiceTest {
     @Test
     void createStudentWithoutProjectThrowsEntityNotFound() {
         StudentRequest request = buildRequest();
-        when(projectRepository.findById(request.getProjectId())).thenReturn(Optional.empty());
+        when(projectRepository.findByIdAndDeletingAtIsNull(request.getProjectId())).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> studentService.createStudent(request))
                 .isInstanceOf(EntityNotFoundException.class)
@@ -155,6 +286,7 @@ class StudentServiceTest {
                 .dateOfBirth(LocalDate.of(1990, 1, 1))
                 .build();
         when(studentRepository.findById(5L)).thenReturn(Optional.of(existing));
+        when(projectRepository.findByIdAndDeletingAtIsNull(99L)).thenReturn(Optional.of(Project.builder().id(99L).build()));
         when(studentRepository.save(existing)).thenAnswer(invocation -> invocation.getArgument(0));
 
         StudentRequest request = new StudentRequest(
@@ -174,6 +306,23 @@ class StudentServiceTest {
         verify(studentRepository).save(existing);
     }
 
+    @Test
+    void updateStudentMovingProjectEvictsOldAndNewKeys() {
+        Project oldProject = Project.builder().id(1L).name("Old").build();
+        Project newProject = Project.builder().id(2L).name("New").build();
+        Student existing = Student.builder().id(5L).codeNumber("111").project(oldProject).build();
+        when(studentRepository.findById(5L)).thenReturn(Optional.of(existing));
+        when(projectRepository.findByIdAndDeletingAtIsNull(2L)).thenReturn(Optional.of(newProject));
+        when(studentRepository.save(existing)).thenAnswer(invocation -> invocation.getArgument(0));
+
+        StudentRequest request = new StudentRequest("222", "Jane", "Doe", null, "Engineer", null, 2L);
+
+        Student updated = studentService.updateStudent(5L, request);
+
+        assertThat(updated.getProject()).isSameAs(newProject);
+        verify(cacheEvictor).evictStudent(5L, Set.of("111", "222"), Set.of(1L, 2L));
+    }
+
     @Test
     void updateStudentWhenMissingThrowsEntityNotFound() {
         StudentRequest request = buildRequest();
@@ -183,19 +332,6 @@ class StudentServiceTest {
                 .isInstanceOf(EntityNotFoundException.class);
     }
 
-    @Test
-    void searchByNameAndProjectFiltersResults() {
-        Project targetProject = Project.builder().id(1L).name("Target").build();
-        Project otherProject = Project.builder().id(2L).name("Other").build();
-        Student matching = Student.builder().id(10L).project(targetProject).build();
-        Student other = Student.builder().id(20L).project(otherProject).build();
-        when(studentRepository.searchByName("amy")).thenReturn(List.of(matching, other));
-
-        List<Student> results = studentService.searchByNameAndProject("amy", 1L);
-
-        assertThat(results).containsExactly(matching);
-    }
-
     @Test
     void deleteStudentRemovesEntityWhenFound() {
         Student student = Student.builder().id(3L).build();
@@ -204,6 +340,7 @@ class StudentServiceTest {
         studentService.deleteStudent(3L);
 
         verify(studentRepository).delete(student);
+        verify(cacheEvictor).evictStudent(3L, Set.of(), Set.of());
     }
 
     @Test
@@ -224,4 +361,8 @@ class StudentServiceTest {
                 "Great student",
                 20L);
     }
+
+    private static StudentView view(Long id, String lastName) {
+        return new StudentView(id, "C" + id, "First", lastName, null, "Title", null, null, null, 1L, "Alpha");
+    }
 }
@@ -0,0 +1,164 @@
+package com.edis.backendproject.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.edis.backendproject.security.JwtTokenProvider;
+import com.edis.backendproject.security.TokenDigest;
+
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings({"null", "unchecked"})
+class TokenBlacklistServiceTest {
+
+    private static final String CHANNEL = "auth:revocations";
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private final AtomicLong clock = new AtomicLong(System.currentTimeMillis());
+
+    private TokenBlacklistService service;
+
+    @BeforeEach
+    void setUp() {
+        service = newService(false);
+    }
+
+    @Test
+    void blacklistTokenStoresDigestAndPublishesIt() {
+        ValueOperations<String, String> values = mock(ValueOperations.class);
+        when(stringRedisTemplate.opsForValue()).thenReturn(values);
+        when(jwtTokenProvider.getExpirationDate("a.b.c")).thenReturn(new Date(System.currentTimeMillis() + 60_000));
+
+        service.blacklistToken("a.b.c");
+
+        String digest = TokenDigest.of("a.b.c");
+        verify(values).set(eq("auth:blacklist:" + digest), eq("1"), any(Duration.class));
+        verify(stringRedisTemplate).convertAndSend(eq(CHANNEL), anyString());
+        verify(jwtTokenProvider).invalidate("a.b.c");
+    }
+
+    @Test
+    void isBlacklistedAnswersFromMirrorOnceLoaded() {
+        String legacyKey = "auth:blacklist:legacy.raw.token";
+        String digestKey = "auth:blacklist:" + TokenDigest.of("x.y.z");
+        Cursor<String> keys = cursorOf(List.of(legacyKey, digestKey));
+        when(stringRedisTemplate.scan(any(ScanOptions.class))).thenReturn(keys);
+        when(stringRedisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(List.of(60_000L, 60_000L));
+
+        service.loadMirror();
+
+        assertThat(service.isBlacklisted("legacy.raw.token")).isTrue();
+        assertThat(service.isBlacklisted("x.y.z")).isTrue();
+        assertThat(service.isBlacklisted("fresh.token.value")).isFalse();
+        verify(stringRedisTemplate, never()).countExistingKeys(any());
+        // TTLs of a SCAN batch come back in one pipelined round trip
+        verify(stringRedisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+    }
+
+    @Test
+    void revocationsFromOtherNodesReachTheMirror() {
+        Cursor<String> keys = cursorOf(List.of());
+        when(stringRedisTemplate.scan(any(ScanOptions.class))).thenReturn(keys);
+        service.loadMirror();
+
+        String body = TokenDigest.of("other.node.token") + "|" + (System.currentTimeMillis() + 60_000);
+        service.onMessage(new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8)), null);
+
+        assertThat(service.isBlacklisted("other.node.token")).isTrue();
+    }
+
+    @Test
+    void isBlacklistedFallsBackToRedisBeforeMirrorIsLoaded() {
+        when(stringRedisTemplate.countExistingKeys(any())).thenReturn(1L);
+
+        assertThat(service.isBlacklisted("a.b.c")).isTrue();
+    }
+
+    @Test
+    void failedFirstLoadIsRetriedWithBackoffUntilRedisRecovers() {
+        String digestKey = "auth:blacklist:" + TokenDigest.of("x.y.z");
+        Cursor<String> keys = cursorOf(List.of(digestKey));
+        when(stringRedisTemplate.scan(any(ScanOptions.class)))
+                .thenThrow(new RedisConnectionFailureException("down"))
+                .thenThrow(new RedisConnectionFailureException("down"))
+                .thenReturn(keys);
+        when(stringRedisTemplate.countExistingKeys(any())).thenThrow(new RedisConnectionFailureException("down"));
+        when(stringRedisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(List.of(60_000L));
+
+        service.loadMirror();
+        // Fails open: nothing this node knows of revokes the token, and Redis cannot be asked
+        assertThat(service.isBlacklisted("x.y.z")).isFalse();
+
+        clock.addAndGet(1_000);
+        assertThat(service.isBlacklisted("x.y.z")).isFalse();
+        clock.addAndGet(1_000);
+        assertThat(service.isBlacklisted("x.y.z")).isFalse();
+        verify(stringRedisTemplate, times(2)).scan(any(ScanOptions.class));
+
+        clock.addAndGet(1_000);
+        assertThat(service.isBlacklisted("x.y.z")).isTrue();
+        verify(stringRedisTemplate, times(3)).scan(any(ScanOptions.class));
+        verify(stringRedisTemplate, times(3)).countExistingKeys(any());
+    }
+
+    @Test
+    void failClosedRejectsTokensWhileRevocationsCannotBeChecked() {
+        service = newService(true);
+        when(stringRedisTemplate.scan(any(ScanOptions.class))).thenThrow(new RedisConnectionFailureException("down"));
+        when(stringRedisTemplate.countExistingKeys(any())).thenThrow(new RedisConnectionFailureException("down"));
+
+        service.loadMirror();
+
+        assertThat(service.isBlacklisted("a.b.c")).isTrue();
+    }
+
+    private TokenBlacklistService newService(boolean failClosed) {
+        return new TokenBlacklistService(stringRedisTemplate, jwtTokenProvider, listenerContainer,
+                CHANNEL, 1_000, Duration.ofHours(1), failClosed, Runnable::run, clock::get);
+    }
+
+    private static Cursor<String> cursorOf(List<String> keys) {
+        Iterator<String> iterator = keys.iterator();
+        Cursor<String> cursor = mock(Cursor.class);
+        when(cursor.hasNext()).thenAnswer(invocation -> iterator.hasNext());
+        if (!keys.isEmpty()) {
+            when(cursor.next()).thenAnswer(invocation -> iterator.next());
+        }
+        return cursor;
+    }
+}
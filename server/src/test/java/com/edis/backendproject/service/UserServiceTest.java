@@ -2,6 +2,7 @@ package com.edis.backendproject.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -30,6 +31,9 @@ class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private UserSecurityVersions securityVersions;
+
     @InjectMocks
     private UserService userService;
 
@@ -50,6 +54,18 @@ class UserServiceTest {
         verify(userRepository).save(userCaptor.getValue());
     }
 
+    @Test
+    void registerUserSeedsSecurityVersionFromClock() {
+        when(passwordEncoder.encode("plaintextPass")).thenReturn("hashed");
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0, User.class));
+        long before = System.currentTimeMillis();
+
+        User created = userService.registerUser(new RegisterRequest("alice", "plaintextPass"));
+
+        // A re-registered username must not start at a version an old token could carry
+        assertThat(created.getSecurityVersion()).isGreaterThanOrEqualTo(before);
+    }
+
     @Test
     void registerUserWhenUsernameExistsThrowsIllegalArgumentException() {
         RegisterRequest request = new RegisterRequest("taken", "plaintextPass");
@@ -70,6 +86,28 @@ class UserServiceTest {
 
         verify(userRepository).findByUsername("alice");
         verify(userRepository).delete(safeExisting);
+        verify(securityVersions).invalidate("alice");
+    }
+
+    @SuppressWarnings("null")
+    @Test
+    void changeRoleBumpsSecurityVersionAndInvalidatesCachedVersion() {
+        User existing = User.builder().id(42L).username("alice").password("hash").role("USER").securityVersion(3L).build();
+        when(userRepository.findByUsername("alice")).thenReturn(Optional.of(existing));
+        when(userRepository.save(existing)).thenReturn(existing);
+
+        User updated = userService.changeRole("alice", " admin ");
+
+        assertThat(updated.getRole()).isEqualTo("ADMIN");
+        assertThat(updated.getSecurityVersion()).isEqualTo(4L);
+        verify(securityVersions).invalidate("alice");
+    }
+
+    @Test
+    void changeRoleRejectsUnknownRoles() {
+        assertThatThrownBy(() -> userService.changeRole("alice", "superuser"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unsupported role: superuser");
     }
 
     @Test